@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+package io.elasticjob.lite.benchmark;
+
+import io.elasticjob.lite.context.ExecutionType;
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
+import io.elasticjob.lite.event.rdb.JobEventRdbListener;
+import io.elasticjob.lite.event.type.JobExecutionEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent.Source;
+import org.apache.commons.dbcp.BasicDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 运行痕迹事件数据库写入基准测试.
+ * 
+ * <p>
+ * 基于H2内存数据库对比逐条同步写入与异步批量写入, 每次作业触发每个分片项产生2个执行事件和3个状态痕迹事件.
+ * 批量写入使用阻塞溢出策略, 稳定状态下的耗时包含写入线程的背压.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JobEventRdbListenerBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_event_job";
+    
+    private static final int SHARDING_ITEMS = 4;
+    
+    @Param({"0", "200"})
+    private int batchSize;
+    
+    private BasicDataSource dataSource;
+    
+    private JobEventRdbListener jobEventRdbListener;
+    
+    private long fireCount;
+    
+    /**
+     * 创建内存数据库及事件监听器.
+     * 
+     * @throws SQLException 数据库访问异常
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        dataSource = new BasicDataSource();
+        dataSource.setDriverClassName(org.h2.Driver.class.getName());
+        dataSource.setUrl("jdbc:h2:mem:job_event_benchmark_" + batchSize);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        jobEventRdbListener = new JobEventRdbListener(dataSource, batchSize, 100, batchSize * 10, JobEventOverflowPolicy.BLOCK);
+    }
+    
+    /**
+     * 关闭事件监听器及内存数据库.
+     * 
+     * @throws SQLException 数据库访问异常
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        jobEventRdbListener.close();
+        dataSource.close();
+    }
+    
+    /**
+     * 写入一次作业触发产生的事件.
+     */
+    @Benchmark
+    public void listen() {
+        String taskId = "benchmark_task_id_" + fireCount++;
+        for (int item = 0; item < SHARDING_ITEMS; item++) {
+            JobExecutionEvent startEvent = new JobExecutionEvent(taskId, JOB_NAME, JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, item);
+            jobEventRdbListener.listen(createJobStatusTraceEvent(taskId, item, JobStatusTraceEvent.State.TASK_STAGING));
+            jobEventRdbListener.listen(createJobStatusTraceEvent(taskId, item, JobStatusTraceEvent.State.TASK_RUNNING));
+            jobEventRdbListener.listen(startEvent);
+            jobEventRdbListener.listen(startEvent.executionSuccess());
+            jobEventRdbListener.listen(createJobStatusTraceEvent(taskId, item, JobStatusTraceEvent.State.TASK_FINISHED));
+        }
+    }
+    
+    private JobStatusTraceEvent createJobStatusTraceEvent(final String taskId, final int shardingItem, final JobStatusTraceEvent.State state) {
+        JobStatusTraceEvent result = new JobStatusTraceEvent(JOB_NAME, taskId, "fake_slave_id", Source.LITE_EXECUTOR, ExecutionType.READY, String.valueOf(shardingItem), state, "message is empty.");
+        result.setOriginalTaskId(taskId);
+        return result;
+    }
+}
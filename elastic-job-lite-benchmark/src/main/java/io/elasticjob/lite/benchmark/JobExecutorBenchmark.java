@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark;
+
+import com.google.common.base.Joiner;
+import io.elasticjob.lite.api.listener.ElasticJobListener;
+import io.elasticjob.lite.api.simple.SimpleJob;
+import io.elasticjob.lite.benchmark.fixture.BenchmarkBlockingSimpleJob;
+import io.elasticjob.lite.benchmark.fixture.BenchmarkJobFacade;
+import io.elasticjob.lite.benchmark.fixture.BenchmarkSimpleJob;
+import io.elasticjob.lite.benchmark.fixture.DiscardJobEventSink;
+import io.elasticjob.lite.config.JobCoreConfiguration;
+import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import io.elasticjob.lite.context.ExecutionType;
+import io.elasticjob.lite.context.TaskDescriptor;
+import io.elasticjob.lite.event.DisabledJobEventSink;
+import io.elasticjob.lite.event.JobEventSink;
+import io.elasticjob.lite.executor.AbstractElasticJobExecutor;
+import io.elasticjob.lite.executor.JobFacade;
+import io.elasticjob.lite.executor.ShardingContexts;
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistry;
+import io.elasticjob.lite.executor.handler.JobProperties;
+import io.elasticjob.lite.executor.type.SimpleJobExecutor;
+import io.elasticjob.lite.internal.schedule.LiteJobFacade;
+import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+import io.elasticjob.lite.reg.zookeeper.ZookeeperConfiguration;
+import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作业执行器单次触发开销基准测试.
+ * 
+ * <p>
+ * 作业门面不访问注册中心, 作业不阻塞时仅统计执行器自身及作业事件构建和发布的开销.
+ * 作业阻塞时对比不同线程池服务处理器在多分片项下的执行耗时.
+ * 配合-prof gc参数可观察每次触发的内存分配.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JobExecutorBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_executor_job";
+    
+    private static final String JOB_INSTANCE_ID = "127.0.0.1@-@1";
+    
+    @Param({"false", "true"})
+    private boolean jobEventEnabled;
+    
+    @Param({"1", "4", "64"})
+    private int shardingTotalCount;
+    
+    @Param({"io.elasticjob.lite.executor.handler.impl.DefaultExecutorServiceHandler", "io.elasticjob.lite.executor.handler.impl.VirtualThreadExecutorServiceHandler"})
+    private String executorServiceHandler;
+    
+    @Param({"0", "10"})
+    private long jobBlockingMilliseconds;
+    
+    private AbstractElasticJobExecutor jobExecutor;
+    
+    /**
+     * 初始化作业执行器.
+     */
+    @Setup
+    public void setUp() {
+        JobCoreConfiguration jobCoreConfig = JobCoreConfiguration.newBuilder(JOB_NAME, "0/1 * * * * ?", shardingTotalCount)
+                .jobProperties(JobProperties.JobPropertiesEnum.EXECUTOR_SERVICE_HANDLER.getKey(), executorServiceHandler).build();
+        LiteJobConfiguration liteJobConfig = LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(jobCoreConfig, BenchmarkSimpleJob.class.getCanonicalName())).build();
+        Map<Integer, String> shardingItemParameters = new HashMap<>(shardingTotalCount, 1);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            shardingItemParameters.put(i, "");
+        }
+        List<Integer> shardingItems = new ArrayList<>(shardingItemParameters.keySet());
+        String taskId = Joiner.on("@-@").join(JOB_NAME, Joiner.on(",").join(shardingItems), ExecutionType.READY, JOB_INSTANCE_ID);
+        TaskDescriptor taskDescriptor = new TaskDescriptor(taskId, JOB_NAME, ExecutionType.READY, "127.0.0.1", shardingItems);
+        ShardingContexts shardingContexts = new ShardingContexts(taskId, JOB_NAME, shardingTotalCount, "", shardingItemParameters, 0, taskDescriptor);
+        JobEventSink jobEventSink = jobEventEnabled ? new DiscardJobEventSink() : new DisabledJobEventSink();
+        // 作业事件相关方法不访问注册中心, 因此注册中心无需初始化
+        CoordinatorRegistryCenter regCenter = new ZookeeperRegistryCenter(new ZookeeperConfiguration("localhost:2181", JOB_NAME));
+        JobFacade eventJobFacade = new LiteJobFacade(regCenter, JOB_NAME, Collections.<ElasticJobListener>emptyList(), jobEventSink);
+        SimpleJob simpleJob = 0L == jobBlockingMilliseconds ? new BenchmarkSimpleJob() : new BenchmarkBlockingSimpleJob(jobBlockingMilliseconds);
+        jobExecutor = new SimpleJobExecutor(simpleJob, new BenchmarkJobFacade(liteJobConfig, shardingContexts, eventJobFacade));
+    }
+    
+    /**
+     * 释放作业线程池.
+     */
+    @TearDown
+    public void tearDown() {
+        ExecutorServiceHandlerRegistry.remove(JOB_NAME);
+    }
+    
+    /**
+     * 执行作业.
+     */
+    @Benchmark
+    public void execute() {
+        jobExecutor.execute();
+    }
+}
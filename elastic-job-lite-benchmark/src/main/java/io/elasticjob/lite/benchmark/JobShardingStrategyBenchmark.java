@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark;
+
+import io.elasticjob.lite.api.strategy.JobInstance;
+import io.elasticjob.lite.api.strategy.JobShardingStrategy;
+import io.elasticjob.lite.api.strategy.JobShardingStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作业分片策略基准测试.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JobShardingStrategyBenchmark {
+    
+    private static final String STRATEGY_PACKAGE = "io.elasticjob.lite.api.strategy.impl.";
+    
+    @Param({"AverageAllocationJobShardingStrategy", "OdevitySortByNameJobShardingStrategy", "RotateServerByNameJobShardingStrategy"})
+    private String strategy;
+    
+    @Param({"3", "30"})
+    private int jobInstanceCount;
+    
+    @Param({"10", "1000"})
+    private int shardingTotalCount;
+    
+    private JobShardingStrategy jobShardingStrategy;
+    
+    private List<JobInstance> jobInstances;
+    
+    /**
+     * 初始化分片策略及作业运行实例.
+     */
+    @Setup
+    public void setUp() {
+        jobShardingStrategy = JobShardingStrategyFactory.getStrategy(STRATEGY_PACKAGE + strategy);
+        jobInstances = new ArrayList<>(jobInstanceCount);
+        for (int i = 0; i < jobInstanceCount; i++) {
+            jobInstances.add(new JobInstance(String.format("192.168.0.%d@-@%d", i, i)));
+        }
+    }
+    
+    /**
+     * 作业分片.
+     * 
+     * @return 分片结果
+     */
+    @Benchmark
+    public Map<JobInstance, List<Integer>> sharding() {
+        return jobShardingStrategy.sharding(jobInstances, "benchmark_strategy_job", shardingTotalCount);
+    }
+}
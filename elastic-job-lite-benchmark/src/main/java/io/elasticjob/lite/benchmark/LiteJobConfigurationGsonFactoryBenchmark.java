@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark;
+
+import io.elasticjob.lite.benchmark.fixture.BenchmarkSimpleJob;
+import io.elasticjob.lite.config.JobCoreConfiguration;
+import io.elasticjob.lite.config.JobTypeConfiguration;
+import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import io.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import io.elasticjob.lite.internal.config.LiteJobConfigurationGsonFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作业配置序列化及反序列化基准测试.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LiteJobConfigurationGsonFactoryBenchmark {
+    
+    @Param({"SIMPLE", "DATAFLOW"})
+    private String jobType;
+    
+    private LiteJobConfiguration liteJobConfig;
+    
+    private String liteJobConfigJson;
+    
+    /**
+     * 初始化作业配置.
+     */
+    @Setup
+    public void setUp() {
+        JobCoreConfiguration jobCoreConfig = JobCoreConfiguration.newBuilder("benchmark_gson_job", "0/1 * * * * ?", 10)
+                .shardingItemParameters("0=A,1=B,2=C,3=D,4=E,5=F,6=G,7=H,8=I,9=J").jobParameter("param").failover(true).description("desc").build();
+        JobTypeConfiguration jobTypeConfig = "DATAFLOW".equals(jobType) 
+                ? new DataflowJobConfiguration(jobCoreConfig, BenchmarkSimpleJob.class.getCanonicalName(), true) : new SimpleJobConfiguration(jobCoreConfig, BenchmarkSimpleJob.class.getCanonicalName());
+        liteJobConfig = LiteJobConfiguration.newBuilder(jobTypeConfig).monitorExecution(false).maxTimeDiffSeconds(60).overwrite(true).build();
+        liteJobConfigJson = LiteJobConfigurationGsonFactory.toJson(liteJobConfig);
+    }
+    
+    /**
+     * 序列化作业配置.
+     * 
+     * @return 作业配置JSON
+     */
+    @Benchmark
+    public String toJson() {
+        return LiteJobConfigurationGsonFactory.toJson(liteJobConfig);
+    }
+    
+    /**
+     * 反序列化作业配置.
+     * 
+     * @return 作业配置
+     */
+    @Benchmark
+    public LiteJobConfiguration fromJson() {
+        return LiteJobConfigurationGsonFactory.fromJson(liteJobConfigJson);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark;
+
+import io.elasticjob.lite.api.listener.ElasticJobListener;
+import io.elasticjob.lite.benchmark.fixture.EmbedZookeeperEnvironment;
+import io.elasticjob.lite.event.DisabledJobEventSink;
+import io.elasticjob.lite.executor.JobFacade;
+import io.elasticjob.lite.executor.ShardingContexts;
+import io.elasticjob.lite.internal.schedule.LiteJobFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 获取分片上下文基准测试.
+ * 
+ * <p>
+ * 基于进程内注册中心, 分片已完成时每次作业触发获取分片上下文的开销.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LiteJobFacadeBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_facade_job";
+    
+    @Param({"1", "10", "100"})
+    private int shardingTotalCount;
+    
+    private EmbedZookeeperEnvironment embedZookeeperEnvironment;
+    
+    private JobFacade jobFacade;
+    
+    /**
+     * 启动注册中心并完成分片.
+     * 
+     * @throws Exception 注册中心启动异常
+     */
+    @Setup
+    public void setUp() throws Exception {
+        embedZookeeperEnvironment = new EmbedZookeeperEnvironment();
+        embedZookeeperEnvironment.start(JOB_NAME, shardingTotalCount);
+        jobFacade = new LiteJobFacade(embedZookeeperEnvironment.getRegCenter(), JOB_NAME, Collections.<ElasticJobListener>emptyList(), new DisabledJobEventSink());
+        jobFacade.getShardingContexts();
+    }
+    
+    /**
+     * 关闭注册中心.
+     * 
+     * @throws IOException 注册中心关闭异常
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        embedZookeeperEnvironment.close();
+    }
+    
+    /**
+     * 获取分片上下文.
+     * 
+     * @return 分片上下文
+     */
+    @Benchmark
+    public ShardingContexts getShardingContexts() {
+        return jobFacade.getShardingContexts();
+    }
+}
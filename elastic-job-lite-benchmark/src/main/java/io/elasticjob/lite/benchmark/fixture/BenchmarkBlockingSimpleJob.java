@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark.fixture;
+
+import io.elasticjob.lite.api.ShardingContext;
+import io.elasticjob.lite.api.simple.SimpleJob;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 每个分片项阻塞指定时间的简单作业, 用于模拟阻塞在数据库或网络调用上的作业.
+ */
+@RequiredArgsConstructor
+public final class BenchmarkBlockingSimpleJob implements SimpleJob {
+    
+    private final long blockingMilliseconds;
+    
+    @Override
+    public void execute(final ShardingContext shardingContext) {
+        try {
+            Thread.sleep(blockingMilliseconds);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
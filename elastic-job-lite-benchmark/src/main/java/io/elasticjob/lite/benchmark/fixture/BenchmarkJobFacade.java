@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark.fixture;
+
+import io.elasticjob.lite.config.JobRootConfiguration;
+import io.elasticjob.lite.event.type.JobExecutionEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent.State;
+import io.elasticjob.lite.executor.JobFacade;
+import io.elasticjob.lite.executor.ShardingContexts;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * 不访问注册中心的作业门面, 用于单独统计作业执行器的开销.
+ * 
+ * <p>
+ * 作业事件相关方法委托给真实的作业门面, 以统计作业事件构建和发布的开销.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class BenchmarkJobFacade implements JobFacade {
+    
+    private final JobRootConfiguration jobRootConfig;
+    
+    private final ShardingContexts shardingContexts;
+    
+    private final JobFacade eventJobFacade;
+    
+    @Override
+    public JobRootConfiguration loadJobRootConfiguration(final boolean fromCache) {
+        return jobRootConfig;
+    }
+    
+    @Override
+    public void checkJobExecutionEnvironment() {
+    }
+    
+    @Override
+    public void failoverIfNecessary() {
+    }
+    
+    @Override
+    public void registerJobBegin(final ShardingContexts shardingContexts) {
+    }
+    
+    @Override
+    public void registerJobCompleted(final ShardingContexts shardingContexts) {
+    }
+    
+    @Override
+    public ShardingContexts getShardingContexts() {
+        return shardingContexts;
+    }
+    
+    @Override
+    public boolean misfireIfRunning(final Collection<Integer> shardingItems) {
+        return false;
+    }
+    
+    @Override
+    public void clearMisfire(final Collection<Integer> shardingItems) {
+    }
+    
+    @Override
+    public boolean isExecuteMisfired(final Collection<Integer> shardingItems) {
+        return false;
+    }
+    
+    @Override
+    public boolean isEligibleForJobRunning() {
+        return false;
+    }
+    
+    @Override
+    public boolean isNeedSharding() {
+        return false;
+    }
+    
+    @Override
+    public void beforeJobExecuted(final ShardingContexts shardingContexts) {
+    }
+    
+    @Override
+    public void afterJobExecuted(final ShardingContexts shardingContexts) {
+    }
+    
+    @Override
+    public boolean isJobEventEnabled() {
+        return eventJobFacade.isJobEventEnabled();
+    }
+    
+    @Override
+    public boolean isJobStatusTraceLogEnabled() {
+        return eventJobFacade.isJobStatusTraceLogEnabled();
+    }
+    
+    @Override
+    public void postJobExecutionEvent(final JobExecutionEvent jobExecutionEvent) {
+        eventJobFacade.postJobExecutionEvent(jobExecutionEvent);
+    }
+    
+    @Override
+    public void postJobStatusTraceEvent(final String taskId, final State state, final String message) {
+        eventJobFacade.postJobStatusTraceEvent(taskId, state, message);
+    }
+    
+    @Override
+    public void postJobStatusTraceEvent(final ShardingContexts shardingContexts, final State state, final String message) {
+        eventJobFacade.postJobStatusTraceEvent(shardingContexts, state, message);
+    }
+}
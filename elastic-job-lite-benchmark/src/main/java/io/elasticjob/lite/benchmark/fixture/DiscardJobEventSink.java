@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark.fixture;
+
+import io.elasticjob.lite.event.JobEvent;
+import io.elasticjob.lite.event.JobEventSink;
+
+/**
+ * 已启用但丢弃所有事件的事件接收器, 用于统计事件构建开销.
+ */
+public final class DiscardJobEventSink implements JobEventSink {
+    
+    @Override
+    public void post(final JobEvent event) {
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+    
+    @Override
+    public int getQueueDepth() {
+        return 0;
+    }
+    
+    @Override
+    public long getDroppedCount() {
+        return 0L;
+    }
+    
+    @Override
+    public long getDispatchedCount() {
+        return 0L;
+    }
+    
+    @Override
+    public long getTotalDispatchLatencyNanos() {
+        return 0L;
+    }
+    
+    @Override
+    public long getMaxDispatchLatencyNanos() {
+        return 0L;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.benchmark.fixture;
+
+import io.elasticjob.lite.api.JobScheduler;
+import io.elasticjob.lite.config.JobCoreConfiguration;
+import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+import io.elasticjob.lite.reg.zookeeper.ZookeeperConfiguration;
+import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenter;
+import lombok.Getter;
+import org.apache.curator.test.TestingServer;
+
+import java.io.IOException;
+
+/**
+ * 内嵌注册中心的基准测试环境.
+ * 
+ * <p>
+ * 使用进程内的TestingServer启动注册中心, 并初始化一个不会在测试期间触发的简单作业, 使当前实例成为主节点并完成注册.
+ * </p>
+ */
+public final class EmbedZookeeperEnvironment {
+    
+    private static final String CRON_NEVER_FIRED_IN_BENCHMARK = "0 0 0 1 1 ? 2099";
+    
+    private TestingServer testingServer;
+    
+    @Getter
+    private CoordinatorRegistryCenter regCenter;
+    
+    private JobScheduler jobScheduler;
+    
+    /**
+     * 启动注册中心并初始化作业.
+     * 
+     * @param jobName 作业名称
+     * @param shardingTotalCount 分片总数
+     * @throws Exception 注册中心启动异常
+     */
+    public void start(final String jobName, final int shardingTotalCount) throws Exception {
+        testingServer = new TestingServer();
+        regCenter = new ZookeeperRegistryCenter(new ZookeeperConfiguration(testingServer.getConnectString(), "elastic-job-lite-benchmark"));
+        regCenter.init();
+        JobCoreConfiguration jobCoreConfig = JobCoreConfiguration.newBuilder(jobName, CRON_NEVER_FIRED_IN_BENCHMARK, shardingTotalCount).build();
+        jobScheduler = new JobScheduler(regCenter, 
+                LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(jobCoreConfig, BenchmarkSimpleJob.class.getCanonicalName())).overwrite(true).build());
+        jobScheduler.init();
+    }
+    
+    /**
+     * 关闭作业及注册中心.
+     * 
+     * @throws IOException 注册中心关闭异常
+     */
+    public void close() throws IOException {
+        jobScheduler.getSchedulerFacade().shutdownInstance();
+        regCenter.close();
+        testingServer.close();
+    }
+}
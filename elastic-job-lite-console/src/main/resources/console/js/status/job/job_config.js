@@ -37,6 +37,11 @@ function bindSubmitJobSettingsForm() {
             var jobParameter = $("#job-parameter").val();
             var cron = $("#cron").val();
             var streamingProcess = $("#streaming-process").prop("checked");
+            var streamingPrefetchDepth = $("#streaming-prefetch-depth").val();
+            var processConcurrency = $("#process-concurrency").val();
+            var batchSize = $("#batch-size").val();
+            var processTargetMilliseconds = $("#process-target-milliseconds").val();
+            var maxRecordsPerSecond = $("#max-records-per-second").val();
             var maxTimeDiffSeconds = $("#max-time-diff-seconds").val();
             var monitorPort = $("#monitor-port").val();
             var monitorExecution = $("#monitor-execution").prop("checked");
@@ -52,9 +57,10 @@ function bindSubmitJobSettingsForm() {
             var scriptCommandLine = $("#script-command-line").val();
             var executorServiceHandler = $("#executor-service-handler").val();
             var jobExceptionHandler = $("#job-exception-handler").val();
+            var shardingItemTimeoutMilliseconds = $("#sharding-item-timeout-milliseconds").val();
             var description = $("#description").val();
             var reconcileIntervalMinutes = $("#reconcile-interval-minutes").val();
-            var postJson = {jobName: jobName, jobType : jobType, jobClass : jobClass, shardingTotalCount: shardingTotalCount, jobParameter: jobParameter, cron: cron, streamingProcess: streamingProcess, maxTimeDiffSeconds: maxTimeDiffSeconds, monitorPort: monitorPort, monitorExecution: monitorExecution, failover: failover, misfire: misfire, shardingItemParameters: shardingItemParameters, jobShardingStrategyClass: jobShardingStrategyClass, jobProperties: {"executor_service_handler": executorServiceHandler, "job_exception_handler": jobExceptionHandler}, description: description, scriptCommandLine: scriptCommandLine, reconcileIntervalMinutes:reconcileIntervalMinutes};
+            var postJson = {jobName: jobName, jobType : jobType, jobClass : jobClass, shardingTotalCount: shardingTotalCount, jobParameter: jobParameter, cron: cron, streamingProcess: streamingProcess, streamingPrefetchDepth: streamingPrefetchDepth, processConcurrency: processConcurrency, batchSize: batchSize, processTargetMilliseconds: processTargetMilliseconds, maxRecordsPerSecond: maxRecordsPerSecond, maxTimeDiffSeconds: maxTimeDiffSeconds, monitorPort: monitorPort, monitorExecution: monitorExecution, failover: failover, misfire: misfire, shardingItemTimeoutMilliseconds: shardingItemTimeoutMilliseconds, shardingItemParameters: shardingItemParameters, jobShardingStrategyClass: jobShardingStrategyClass, jobProperties: {"executor_service_handler": executorServiceHandler, "job_exception_handler": jobExceptionHandler}, description: description, scriptCommandLine: scriptCommandLine, reconcileIntervalMinutes:reconcileIntervalMinutes};
             var jobParams = getJobParams();
             if (jobParams.monitorExecution !== monitorExecution || jobParams.failover !== failover || jobParams.misfire !== misfire) {
                 showUpdateConfirmModal();
@@ -215,16 +215,27 @@ function renderJob(data) {
     $("#failover").attr("checked", data.failover);
     $("#misfire").attr("checked", data.misfire);
     $("#streaming-process").attr("checked", data.streamingProcess);
+    $("#streaming-prefetch-depth").attr("value", data.streamingPrefetchDepth);
+    $("#process-concurrency").attr("value", data.processConcurrency);
+    $("#batch-size").attr("value", data.batchSize);
+    $("#process-target-milliseconds").attr("value", data.processTargetMilliseconds);
+    $("#max-records-per-second").attr("value", data.maxRecordsPerSecond);
     $("#max-time-diff-seconds").attr("value", data.maxTimeDiffSeconds);
     $("#monitor-port").attr("value", data.monitorPort);
     $("#job-sharding-strategy-class").attr("value", data.jobShardingStrategyClass);
     $("#executor-service-handler").attr("value", data.jobProperties["executor_service_handler"]);
     $("#job-exception-handler").attr("value", data.jobProperties["job_exception_handler"]);
+    $("#sharding-item-timeout-milliseconds").attr("value", data.shardingItemTimeoutMilliseconds);
     $("#reconcile-interval-minutes").attr("value", data.reconcileIntervalMinutes);
     $("#description").text(data.description);
     $("#script-command-line").attr("value", data.scriptCommandLine);
     if ("DATAFLOW" === $("#job-type").val()) {
         $("#streaming-process-group").show();
+        $("#streaming-prefetch-depth-group").show();
+        $("#process-concurrency-group").show();
+        $("#batch-size-group").show();
+        $("#process-target-milliseconds-group").show();
+        $("#max-records-per-second-group").show();
     }
     if ("SCRIPT" === $("#job-type").val()) {
         $("#script-commandLine-group").show();
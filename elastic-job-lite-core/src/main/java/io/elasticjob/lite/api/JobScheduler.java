@@ -23,29 +23,34 @@ import io.elasticjob.lite.api.listener.ElasticJobListener;
 import io.elasticjob.lite.api.script.ScriptJob;
 import io.elasticjob.lite.api.strategy.JobInstance;
 import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.event.DisabledJobEventSink;
 import io.elasticjob.lite.event.JobEventBus;
 import io.elasticjob.lite.event.JobEventConfiguration;
+import io.elasticjob.lite.event.JobEventDispatchConfiguration;
+import io.elasticjob.lite.event.JobEventSink;
 import io.elasticjob.lite.exception.JobConfigurationException;
-import io.elasticjob.lite.exception.JobSystemException;
+import io.elasticjob.lite.executor.JobExecutorCache;
 import io.elasticjob.lite.executor.JobFacade;
 import io.elasticjob.lite.internal.guarantee.GuaranteeService;
+import io.elasticjob.lite.internal.schedule.JobExecutionDispatcher;
 import io.elasticjob.lite.internal.schedule.JobRegistry;
 import io.elasticjob.lite.internal.schedule.JobScheduleController;
-import io.elasticjob.lite.internal.schedule.JobShutdownHookPlugin;
+import io.elasticjob.lite.internal.schedule.JobTriggerListener;
 import io.elasticjob.lite.internal.schedule.LiteJob;
 import io.elasticjob.lite.internal.schedule.LiteJobFacade;
+import io.elasticjob.lite.internal.schedule.QuartzJobScheduleController;
 import io.elasticjob.lite.internal.schedule.SchedulerFacade;
+import io.elasticjob.lite.internal.schedule.SharedScheduler;
+import io.elasticjob.lite.internal.schedule.TimingWheelJobScheduleController;
+import io.elasticjob.lite.internal.schedule.TimingWheelScheduler;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import lombok.Getter;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.impl.StdSchedulerFactory;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Properties;
 
 /**
  * 作业调度器.
@@ -55,9 +60,15 @@ import java.util.Properties;
  */
 public class JobScheduler {
     
+    /**
+     * 作业实例在JobDataMap中的键.
+     * 
+     * @deprecated 作业由JobExecutionDispatcher调度执行, 该键仅为兼容读取JobDataMap中作业实例的外部代码而保留
+     */
+    @Deprecated
     public static final String ELASTIC_JOB_DATA_MAP_KEY = "elasticJob";
     
-    private static final String JOB_FACADE_DATA_MAP_KEY = "jobFacade";
+    private static final String JOB_EXECUTION_DISPATCHER_DATA_MAP_KEY = "jobExecutionDispatcher";
     
     private final LiteJobConfiguration liteJobConfig;
     
@@ -70,7 +81,7 @@ public class JobScheduler {
     private final JobFacade jobFacade;
     
     public JobScheduler(final CoordinatorRegistryCenter regCenter, final LiteJobConfiguration liteJobConfig, final ElasticJobListener... elasticJobListeners) {
-        this(regCenter, liteJobConfig, new JobEventBus(), elasticJobListeners);
+        this(regCenter, liteJobConfig, new DisabledJobEventSink(), elasticJobListeners);
     }
     
     public JobScheduler(final CoordinatorRegistryCenter regCenter, final LiteJobConfiguration liteJobConfig, final JobEventConfiguration jobEventConfig, 
@@ -78,14 +89,20 @@ public class JobScheduler {
         this(regCenter, liteJobConfig, new JobEventBus(jobEventConfig), elasticJobListeners);
     }
     
-    private JobScheduler(final CoordinatorRegistryCenter regCenter, final LiteJobConfiguration liteJobConfig, final JobEventBus jobEventBus, final ElasticJobListener... elasticJobListeners) {
+    public JobScheduler(final CoordinatorRegistryCenter regCenter, final LiteJobConfiguration liteJobConfig, final JobEventConfiguration jobEventConfig, 
+                        final JobEventDispatchConfiguration jobEventDispatchConfig, final ElasticJobListener... elasticJobListeners) {
+        this(regCenter, liteJobConfig, new JobEventBus(liteJobConfig.getJobName(), jobEventConfig, jobEventDispatchConfig), elasticJobListeners);
+    }
+    
+    private JobScheduler(final CoordinatorRegistryCenter regCenter, final LiteJobConfiguration liteJobConfig, final JobEventSink jobEventSink, final ElasticJobListener... elasticJobListeners) {
         JobRegistry.getInstance().addJobInstance(liteJobConfig.getJobName(), new JobInstance());
+        JobRegistry.getInstance().addJobEventSink(liteJobConfig.getJobName(), jobEventSink);
         this.liteJobConfig = liteJobConfig;
         this.regCenter = regCenter;
         List<ElasticJobListener> elasticJobListenerList = Arrays.asList(elasticJobListeners);
         setGuaranteeServiceForElasticJobListeners(regCenter, elasticJobListenerList);
         schedulerFacade = new SchedulerFacade(regCenter, liteJobConfig.getJobName(), elasticJobListenerList);
-        jobFacade = new LiteJobFacade(regCenter, liteJobConfig.getJobName(), Arrays.asList(elasticJobListeners), jobEventBus);
+        jobFacade = new LiteJobFacade(regCenter, liteJobConfig.getJobName(), Arrays.asList(elasticJobListeners), jobEventSink);
     }
     
     private void setGuaranteeServiceForElasticJobListeners(final CoordinatorRegistryCenter regCenter, final List<ElasticJobListener> elasticJobListeners) {
@@ -103,25 +120,44 @@ public class JobScheduler {
     public void init() {
         LiteJobConfiguration liteJobConfigFromRegCenter = schedulerFacade.updateJobConfiguration(liteJobConfig);
         JobRegistry.getInstance().setCurrentShardingTotalCount(liteJobConfigFromRegCenter.getJobName(), liteJobConfigFromRegCenter.getTypeConfig().getCoreConfig().getShardingTotalCount());
-        JobScheduleController jobScheduleController = new JobScheduleController(
-                createScheduler(), createJobDetail(liteJobConfigFromRegCenter.getTypeConfig().getJobClass()), liteJobConfigFromRegCenter.getJobName());
+        String cron = liteJobConfigFromRegCenter.getTypeConfig().getCoreConfig().getCron();
+        JobScheduleController jobScheduleController = createJobScheduleController(liteJobConfigFromRegCenter.getTypeConfig().getJobClass(), cron);
         JobRegistry.getInstance().registerJob(liteJobConfigFromRegCenter.getJobName(), jobScheduleController, regCenter);
         schedulerFacade.registerStartUpInfo(!liteJobConfigFromRegCenter.isDisabled());
-        jobScheduleController.scheduleJob(liteJobConfigFromRegCenter.getTypeConfig().getCoreConfig().getCron());
+        jobScheduleController.scheduleJob(cron);
     }
     
-    private JobDetail createJobDetail(final String jobClass) {
-        JobDetail result = JobBuilder.newJob(LiteJob.class).withIdentity(liteJobConfig.getJobName()).build();
-        result.getJobDataMap().put(JOB_FACADE_DATA_MAP_KEY, jobFacade);
+    private JobScheduleController createJobScheduleController(final String jobClass, final String cron) {
+        ElasticJob elasticJob = createElasticJob(jobClass);
+        JobExecutorCache jobExecutorCache = new JobExecutorCache(elasticJob, jobFacade);
+        if (TimingWheelScheduler.isRequired(cron)) {
+            return new TimingWheelJobScheduleController(TimingWheelScheduler.getInstance(), liteJobConfig.getJobName(), jobExecutorCache, schedulerFacade.newJobTriggerListener());
+        }
+        JobTriggerListener jobTriggerListener = schedulerFacade.newJobTriggerListener();
+        JobDetail jobDetail = createJobDetail(elasticJob, new JobExecutionDispatcher(SharedScheduler.getInstance(), liteJobConfig.getJobName(), jobExecutorCache, jobTriggerListener));
+        return new QuartzJobScheduleController(createScheduler(jobTriggerListener), jobDetail, liteJobConfig.getJobName());
+    }
+    
+    private ElasticJob createElasticJob(final String jobClass) {
         Optional<ElasticJob> elasticJobInstance = createElasticJobInstance();
         if (elasticJobInstance.isPresent()) {
-            result.getJobDataMap().put(ELASTIC_JOB_DATA_MAP_KEY, elasticJobInstance.get());
-        } else if (!jobClass.equals(ScriptJob.class.getCanonicalName())) {
-            try {
-                result.getJobDataMap().put(ELASTIC_JOB_DATA_MAP_KEY, Class.forName(jobClass).newInstance());
-            } catch (final ReflectiveOperationException ex) {
-                throw new JobConfigurationException("Elastic-Job: Job class '%s' can not initialize.", jobClass);
-            }
+            return elasticJobInstance.get();
+        }
+        if (jobClass.equals(ScriptJob.class.getCanonicalName())) {
+            return null;
+        }
+        try {
+            return (ElasticJob) Class.forName(jobClass).newInstance();
+        } catch (final ReflectiveOperationException ex) {
+            throw new JobConfigurationException("Elastic-Job: Job class '%s' can not initialize.", jobClass);
+        }
+    }
+    
+    private JobDetail createJobDetail(final ElasticJob elasticJob, final JobExecutionDispatcher jobExecutionDispatcher) {
+        JobDetail result = JobBuilder.newJob(LiteJob.class).withIdentity(liteJobConfig.getJobName()).build();
+        result.getJobDataMap().put(JOB_EXECUTION_DISPATCHER_DATA_MAP_KEY, jobExecutionDispatcher);
+        if (null != elasticJob) {
+            result.getJobDataMap().put(ELASTIC_JOB_DATA_MAP_KEY, elasticJob);
         }
         return result;
     }
@@ -130,27 +166,7 @@ public class JobScheduler {
         return Optional.absent();
     }
     
-    private Scheduler createScheduler() {
-        Scheduler result;
-        try {
-            StdSchedulerFactory factory = new StdSchedulerFactory();
-            factory.initialize(getBaseQuartzProperties());
-            result = factory.getScheduler();
-            result.getListenerManager().addTriggerListener(schedulerFacade.newJobTriggerListener());
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-        return result;
-    }
-    
-    private Properties getBaseQuartzProperties() {
-        Properties result = new Properties();
-        result.put("org.quartz.threadPool.class", org.quartz.simpl.SimpleThreadPool.class.getName());
-        result.put("org.quartz.threadPool.threadCount", "1");
-        result.put("org.quartz.scheduler.instanceName", liteJobConfig.getJobName());
-        result.put("org.quartz.jobStore.misfireThreshold", "1");
-        result.put("org.quartz.plugin.shutdownhook.class", JobShutdownHookPlugin.class.getName());
-        result.put("org.quartz.plugin.shutdownhook.cleanShutdown", Boolean.TRUE.toString());
-        return result;
+    private Scheduler createScheduler(final JobTriggerListener jobTriggerListener) {
+        return SharedScheduler.getInstance().register(liteJobConfig.getJobName(), jobTriggerListener);
     }
 }
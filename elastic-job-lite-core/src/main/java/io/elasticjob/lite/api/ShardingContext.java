@@ -61,6 +61,12 @@ public final class ShardingContext {
      */
     private final String shardingParameter;
     
+    /**
+     * 建议每次获取数据的数量.
+     * 仅用于数据流作业获取数据, 由执行器根据处理数据的耗时调整, 0表示不建议.
+     */
+    private final int suggestedBatchSize;
+    
     public ShardingContext(final ShardingContexts shardingContexts, final int shardingItem) {
         jobName = shardingContexts.getJobName();
         taskId = shardingContexts.getTaskId();
@@ -68,5 +74,16 @@ public final class ShardingContext {
         jobParameter = shardingContexts.getJobParameter();
         this.shardingItem = shardingItem;
         shardingParameter = shardingContexts.getShardingItemParameters().get(shardingItem);
+        suggestedBatchSize = 0;
+    }
+    
+    public ShardingContext(final ShardingContext shardingContext, final int suggestedBatchSize) {
+        jobName = shardingContext.getJobName();
+        taskId = shardingContext.getTaskId();
+        shardingTotalCount = shardingContext.getShardingTotalCount();
+        jobParameter = shardingContext.getJobParameter();
+        shardingItem = shardingContext.getShardingItem();
+        shardingParameter = shardingContext.getShardingParameter();
+        this.suggestedBatchSize = suggestedBatchSize;
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.api.dataflow;
+
+/**
+ * 按分区键保证处理顺序的数据流分布式作业接口.
+ * 
+ * <p>
+ * 并行处理数据时, 分区键相同的数据将被分配到同一子批次并保持获取时的顺序.
+ * </p>
+ * 
+ * @param <T> 数据类型
+ */
+public interface PartitionedDataflowJob<T> extends DataflowJob<T> {
+    
+    /**
+     * 获取数据的分区键.
+     * 
+     * @param data 待处理数据
+     * @return 分区键
+     */
+    Object getPartitionKey(T data);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.api.strategy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 增量作业分片策略.
+ * 
+ * <p>
+ * 根据当前分片结果计算新的分片结果, 注册中心仅更新分配的作业实例发生变化的分片项.
+ * </p>
+ */
+public interface IncrementalJobShardingStrategy extends JobShardingStrategy {
+    
+    /**
+     * 作业分片.
+     * 
+     * @param jobInstances 所有参与分片的单元列表
+     * @param jobName 作业名称
+     * @param shardingTotalCount 分片总数
+     * @param currentShardingResults 当前分片项所分配的作业实例, 不包含尚未分配的分片项
+     * @return 分片结果
+     */
+    Map<JobInstance, List<Integer>> sharding(List<JobInstance> jobInstances, String jobName, int shardingTotalCount, Map<Integer, JobInstance> currentShardingResults);
+}
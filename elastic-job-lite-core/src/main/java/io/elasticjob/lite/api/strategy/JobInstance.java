@@ -18,9 +18,9 @@
 package io.elasticjob.lite.api.strategy;
 
 import io.elasticjob.lite.util.env.IpUtils;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.lang.management.ManagementFactory;
 
@@ -29,7 +29,7 @@ import java.lang.management.ManagementFactory;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "jobInstanceId")
 public final class JobInstance {
@@ -41,8 +41,22 @@ public final class JobInstance {
      */
     private final String jobInstanceId;
     
+    /**
+     * 作业实例权重, 未发布时为0.
+     */
+    private final int weight;
+    
+    /**
+     * 作业实例分片项执行耗时的移动平均微秒数, 未发布时为0.
+     */
+    private final long itemExecutionLatency;
+    
     public JobInstance() {
-        jobInstanceId = IpUtils.getIp() + DELIMITER + ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+        this(IpUtils.getIp() + DELIMITER + ManagementFactory.getRuntimeMXBean().getName().split("@")[0]);
+    }
+    
+    public JobInstance(final String jobInstanceId) {
+        this(jobInstanceId, 0, 0L);
     }
     
     /**
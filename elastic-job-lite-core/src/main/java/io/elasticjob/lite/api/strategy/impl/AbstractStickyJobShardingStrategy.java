@@ -0,0 +1,82 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.api.strategy.impl;
+
+import io.elasticjob.lite.api.strategy.IncrementalJobShardingStrategy;
+import io.elasticjob.lite.api.strategy.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 粘性分片策略的抽象类.
+ * 
+ * <p>
+ * 由子类计算各作业实例应分配的分片项数量, 分片项尽量保留在当前所分配的作业实例, 仅迁移超出数量或无有效作业实例的分片项.
+ * </p>
+ */
+public abstract class AbstractStickyJobShardingStrategy implements IncrementalJobShardingStrategy {
+    
+    @Override
+    public final Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        return sharding(jobInstances, jobName, shardingTotalCount, Collections.<Integer, JobInstance>emptyMap());
+    }
+    
+    @Override
+    public final Map<JobInstance, List<Integer>> sharding(
+            final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount, final Map<Integer, JobInstance> currentShardingResults) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<JobInstance, Integer> quotas = getQuotas(jobInstances, shardingTotalCount, currentShardingResults);
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : jobInstances) {
+            result.put(each, new ArrayList<Integer>(quotas.get(each)));
+        }
+        List<Integer> unassignedItems = new LinkedList<>();
+        for (int i = 0; i < shardingTotalCount; i++) {
+            List<Integer> shardingItems = result.get(currentShardingResults.get(i));
+            if (null != shardingItems && shardingItems.size() < quotas.get(currentShardingResults.get(i))) {
+                shardingItems.add(i);
+            } else {
+                unassignedItems.add(i);
+            }
+        }
+        for (Map.Entry<JobInstance, List<Integer>> entry : result.entrySet()) {
+            while (entry.getValue().size() < quotas.get(entry.getKey())) {
+                entry.getValue().add(unassignedItems.remove(0));
+            }
+            Collections.sort(entry.getValue());
+        }
+        return result;
+    }
+    
+    /**
+     * 计算各作业实例应分配的分片项数量.
+     * 
+     * @param jobInstances 所有参与分片的单元列表
+     * @param shardingTotalCount 分片总数
+     * @param currentShardingResults 当前分片项所分配的作业实例
+     * @return 各作业实例应分配的分片项数量, 总和需等于分片总数
+     */
+    protected abstract Map<JobInstance, Integer> getQuotas(List<JobInstance> jobInstances, int shardingTotalCount, Map<Integer, JobInstance> currentShardingResults);
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.api.strategy.impl;
+
+import io.elasticjob.lite.api.strategy.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于最少迁移的粘性分片策略.
+ * 
+ * <p>
+ * 分片项尽量保留在当前所分配的作业实例, 仅迁移使各作业实例分片项数量均衡所需的最少分片项.
+ * 每台服务器分到的分片数量与平均分配算法一致, 不能整除的多余分片优先分配给当前分片项较多的服务器.
+ * 如: 
+ * 1. 如果有2台服务器, 分成6片, 当前分片是: 1=[0,1,2], 2=[3,4,5], 新增第3台服务器, 则每台服务器分到的分片是: 1=[0,1], 2=[3,4], 3=[2,5].
+ * 2. 如果有3台服务器, 分成6片, 当前分片是: 1=[0,1], 2=[2,3], 3=[4,5], 第3台服务器下线, 则每台服务器分到的分片是: 1=[0,1,4], 2=[2,3,5].
+ * </p>
+ */
+public final class StickyJobShardingStrategy extends AbstractStickyJobShardingStrategy {
+    
+    @Override
+    protected Map<JobInstance, Integer> getQuotas(final List<JobInstance> jobInstances, final int shardingTotalCount, final Map<Integer, JobInstance> currentShardingResults) {
+        final Map<JobInstance, Integer> currentItemCounts = new HashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : jobInstances) {
+            currentItemCounts.put(each, 0);
+        }
+        for (Map.Entry<Integer, JobInstance> entry : currentShardingResults.entrySet()) {
+            Integer count = currentItemCounts.get(entry.getValue());
+            if (null != count && entry.getKey() < shardingTotalCount) {
+                currentItemCounts.put(entry.getValue(), count + 1);
+            }
+        }
+        List<JobInstance> sortedJobInstances = new ArrayList<>(jobInstances);
+        Collections.sort(sortedJobInstances, new Comparator<JobInstance>() {
+            
+            @Override
+            public int compare(final JobInstance o1, final JobInstance o2) {
+                return currentItemCounts.get(o2).compareTo(currentItemCounts.get(o1));
+            }
+        });
+        Map<JobInstance, Integer> result = new HashMap<>(jobInstances.size(), 1);
+        int aliquant = shardingTotalCount % jobInstances.size();
+        for (int i = 0; i < sortedJobInstances.size(); i++) {
+            result.put(sortedJobInstances.get(i), shardingTotalCount / jobInstances.size() + (i < aliquant ? 1 : 0));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.api.strategy.impl;
+
+import io.elasticjob.lite.api.strategy.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于作业实例负载能力按比例分配的分片策略.
+ * 
+ * <p>
+ * 每台服务器分到的分片数量与其负载能力成正比, 按比例计算后不能整除的多余分片依次分配给小数部分较大的服务器.
+ * 负载能力为作业实例发布的权重, 所有作业实例均发布了分片项执行耗时时, 负载能力为权重除以分片项执行耗时.
+ * 未发布权重的作业实例使用已发布权重的平均值, 均未发布时所有作业实例权重相同.
+ * 分片项与粘性分片策略一样尽量保留在当前所分配的作业实例.
+ * 如: 
+ * 1. 如果有2台服务器, 权重分别为4和12, 分成8片, 则每台服务器分到的分片是: 1=[0,1], 2=[2,3,4,5,6,7].
+ * 2. 如果有2台服务器, 权重均为8, 分片项执行耗时分别为300和100毫秒, 分成8片, 则每台服务器分到的分片是: 1=[0,1], 2=[2,3,4,5,6,7].
+ * </p>
+ */
+public final class WeightedJobShardingStrategy extends AbstractStickyJobShardingStrategy {
+    
+    @Override
+    protected Map<JobInstance, Integer> getQuotas(final List<JobInstance> jobInstances, final int shardingTotalCount, final Map<Integer, JobInstance> currentShardingResults) {
+        double[] capacities = getCapacities(jobInstances);
+        double totalCapacity = 0D;
+        for (double each : capacities) {
+            totalCapacity += each;
+        }
+        Map<JobInstance, Integer> result = new HashMap<>(jobInstances.size(), 1);
+        final double[] remainders = new double[jobInstances.size()];
+        List<Integer> indexes = new ArrayList<>(jobInstances.size());
+        int assignedCount = 0;
+        for (int i = 0; i < jobInstances.size(); i++) {
+            double exactCount = shardingTotalCount * capacities[i] / totalCapacity;
+            int count = (int) exactCount;
+            result.put(jobInstances.get(i), count);
+            remainders[i] = exactCount - count;
+            indexes.add(i);
+            assignedCount += count;
+        }
+        Collections.sort(indexes, new Comparator<Integer>() {
+            
+            @Override
+            public int compare(final Integer o1, final Integer o2) {
+                return Double.compare(remainders[o2], remainders[o1]);
+            }
+        });
+        for (int i = 0; i < shardingTotalCount - assignedCount; i++) {
+            JobInstance jobInstance = jobInstances.get(indexes.get(i));
+            result.put(jobInstance, result.get(jobInstance) + 1);
+        }
+        return result;
+    }
+    
+    private double[] getCapacities(final List<JobInstance> jobInstances) {
+        double publishedWeightSum = 0D;
+        int publishedWeightCount = 0;
+        boolean latencyPublished = true;
+        for (JobInstance each : jobInstances) {
+            if (each.getWeight() > 0) {
+                publishedWeightSum += each.getWeight();
+                publishedWeightCount++;
+            }
+            latencyPublished = latencyPublished && each.getItemExecutionLatency() > 0L;
+        }
+        double defaultWeight = 0 == publishedWeightCount ? 1D : publishedWeightSum / publishedWeightCount;
+        double[] result = new double[jobInstances.size()];
+        for (int i = 0; i < jobInstances.size(); i++) {
+            JobInstance jobInstance = jobInstances.get(i);
+            double weight = jobInstance.getWeight() > 0 ? jobInstance.getWeight() : defaultWeight;
+            result[i] = latencyPublished ? weight / jobInstance.getItemExecutionLatency() : weight;
+        }
+        return result;
+    }
+}
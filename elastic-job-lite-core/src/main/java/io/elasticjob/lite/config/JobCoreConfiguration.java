@@ -52,6 +52,8 @@ public final class JobCoreConfiguration {
     
     private final JobProperties jobProperties;
     
+    private final long shardingItemTimeoutMilliseconds;
+    
     /**
      * 创建简单作业配置构建器.
      *
@@ -85,6 +87,8 @@ public final class JobCoreConfiguration {
         
         private final JobProperties jobProperties = new JobProperties();
         
+        private long shardingItemTimeoutMilliseconds;
+        
         /**
          * 设置分片序列号和个性化参数对照表.
          *
@@ -179,6 +183,23 @@ public final class JobCoreConfiguration {
             return this;
         }
         
+        /**
+         * 设置分片项执行超时毫秒数.
+         *
+         * <p>
+         * 分片项从提交执行时开始计时, 超时后将被取消并按执行失败处理, 尚未开始执行的分片项同样会被取消.
+         * 小于等于0表示不超时.
+         * </p>
+         *
+         * @param shardingItemTimeoutMilliseconds 分片项执行超时毫秒数
+         *
+         * @return 作业配置构建器
+         */
+        public Builder shardingItemTimeoutMilliseconds(final long shardingItemTimeoutMilliseconds) {
+            this.shardingItemTimeoutMilliseconds = shardingItemTimeoutMilliseconds;
+            return this;
+        }
+        
         /**
          * 构建作业配置对象.
          *
@@ -188,7 +209,7 @@ public final class JobCoreConfiguration {
             Preconditions.checkArgument(!Strings.isNullOrEmpty(jobName), "jobName can not be empty.");
             Preconditions.checkArgument(!Strings.isNullOrEmpty(cron), "cron can not be empty.");
             Preconditions.checkArgument(shardingTotalCount > 0, "shardingTotalCount should larger than zero.");
-            return new JobCoreConfiguration(jobName, cron, shardingTotalCount, shardingItemParameters, jobParameter, failover, misfire, description, jobProperties);
+            return new JobCoreConfiguration(jobName, cron, shardingTotalCount, shardingItemParameters, jobParameter, failover, misfire, description, jobProperties, shardingItemTimeoutMilliseconds);
         }
     }
 }
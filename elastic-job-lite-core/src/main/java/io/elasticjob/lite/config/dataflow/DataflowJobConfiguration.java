@@ -20,6 +20,8 @@ package io.elasticjob.lite.config.dataflow;
 import io.elasticjob.lite.api.JobType;
 import io.elasticjob.lite.config.JobCoreConfiguration;
 import io.elasticjob.lite.config.JobTypeConfiguration;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -29,7 +31,7 @@ import lombok.RequiredArgsConstructor;
  * @author caohao
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class DataflowJobConfiguration implements JobTypeConfiguration {
     
@@ -40,4 +42,151 @@ public final class DataflowJobConfiguration implements JobTypeConfiguration {
     private final String jobClass;
     
     private final boolean streamingProcess;
+    
+    /**
+     * 流式处理数据时预取数据的批次数量.
+     * 大于0时获取数据和处理数据并行执行, 预取队列满时暂停获取数据, 0表示串行获取和处理数据.
+     */
+    private final int streamingPrefetchDepth;
+    
+    /**
+     * 单个分片处理数据的并发数.
+     * 大于1时将获取的数据拆分为多个子批次并行处理, 0或1表示串行处理.
+     */
+    private final int processConcurrency;
+    
+    /**
+     * 建议每次获取数据的数量.
+     * 通过分片上下文提供给作业, 0表示不建议.
+     */
+    private final int batchSize;
+    
+    /**
+     * 处理每批数据的目标耗时毫秒数.
+     * 大于0时根据处理数据的实际耗时自适应调整建议每次获取数据的数量, 0表示不调整.
+     */
+    private final int processTargetMilliseconds;
+    
+    /**
+     * 作业实例每秒最多处理的数据数量.
+     * 超出时处理数据前等待, 0表示不限制.
+     */
+    private final int maxRecordsPerSecond;
+    
+    public DataflowJobConfiguration(final JobCoreConfiguration coreConfig, final String jobClass, final boolean streamingProcess) {
+        this(coreConfig, jobClass, streamingProcess, 0, 0, 0, 0, 0);
+    }
+    
+    /**
+     * 创建数据流作业配置构建器.
+     * 
+     * @param coreConfig 作业核心配置
+     * @param jobClass 作业实现类名称
+     * @param streamingProcess 是否流式处理数据
+     * @return 数据流作业配置构建器
+     */
+    public static Builder newBuilder(final JobCoreConfiguration coreConfig, final String jobClass, final boolean streamingProcess) {
+        return new Builder(coreConfig, jobClass, streamingProcess);
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Builder {
+        
+        private final JobCoreConfiguration coreConfig;
+        
+        private final String jobClass;
+        
+        private final boolean streamingProcess;
+        
+        private int streamingPrefetchDepth;
+        
+        private int processConcurrency;
+        
+        private int batchSize;
+        
+        private int processTargetMilliseconds;
+        
+        private int maxRecordsPerSecond;
+        
+        /**
+         * 设置流式处理数据时预取数据的批次数量.
+         * 
+         * <p>
+         * 大于0时获取数据和处理数据并行执行, 0表示串行获取和处理数据.
+         * </p>
+         * 
+         * @param streamingPrefetchDepth 流式处理数据时预取数据的批次数量
+         * 
+         * @return 数据流作业配置构建器
+         */
+        public Builder streamingPrefetchDepth(final int streamingPrefetchDepth) {
+            this.streamingPrefetchDepth = streamingPrefetchDepth;
+            return this;
+        }
+        
+        /**
+         * 设置单个分片处理数据的并发数.
+         * 
+         * <p>
+         * 大于1时将获取的数据拆分为多个子批次并行处理.
+         * </p>
+         * 
+         * @param processConcurrency 单个分片处理数据的并发数
+         * 
+         * @return 数据流作业配置构建器
+         */
+        public Builder processConcurrency(final int processConcurrency) {
+            this.processConcurrency = processConcurrency;
+            return this;
+        }
+        
+        /**
+         * 设置建议每次获取数据的数量.
+         * 
+         * @param batchSize 建议每次获取数据的数量
+         * 
+         * @return 数据流作业配置构建器
+         */
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+        
+        /**
+         * 设置处理每批数据的目标耗时毫秒数.
+         * 
+         * <p>
+         * 大于0时根据处理数据的实际耗时自适应调整建议每次获取数据的数量.
+         * </p>
+         * 
+         * @param processTargetMilliseconds 处理每批数据的目标耗时毫秒数
+         * 
+         * @return 数据流作业配置构建器
+         */
+        public Builder processTargetMilliseconds(final int processTargetMilliseconds) {
+            this.processTargetMilliseconds = processTargetMilliseconds;
+            return this;
+        }
+        
+        /**
+         * 设置作业实例每秒最多处理的数据数量.
+         * 
+         * @param maxRecordsPerSecond 作业实例每秒最多处理的数据数量
+         * 
+         * @return 数据流作业配置构建器
+         */
+        public Builder maxRecordsPerSecond(final int maxRecordsPerSecond) {
+            this.maxRecordsPerSecond = maxRecordsPerSecond;
+            return this;
+        }
+        
+        /**
+         * 构建数据流作业配置对象.
+         * 
+         * @return 数据流作业配置对象
+         */
+        public final DataflowJobConfiguration build() {
+            return new DataflowJobConfiguration(coreConfig, jobClass, streamingProcess, streamingPrefetchDepth, processConcurrency, batchSize, processTargetMilliseconds, maxRecordsPerSecond);
+        }
+    }
 }
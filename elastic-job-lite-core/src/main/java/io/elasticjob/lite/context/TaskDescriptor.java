@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.context;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 任务描述.
+ * 
+ * <p>
+ * 生成任务主键时一并构建的不可变任务信息, 发布作业状态痕迹事件时无需再解析任务主键.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class TaskDescriptor implements Serializable {
+    
+    private static final long serialVersionUID = -2379468427587437127L;
+    
+    /**
+     * 任务主键.
+     */
+    private final String taskId;
+    
+    /**
+     * 作业名称.
+     */
+    private final String jobName;
+    
+    /**
+     * 执行类型.
+     */
+    private final ExecutionType type;
+    
+    /**
+     * 任务执行服务器主键.
+     */
+    private final String slaveId;
+    
+    /**
+     * 分片项字符串, 格式与分片项列表的toString一致.
+     */
+    private final String shardingItems;
+    
+    public TaskDescriptor(final String taskId, final String jobName, final ExecutionType type, final String slaveId, final List<Integer> shardingItems) {
+        this(taskId, jobName, type, slaveId, shardingItems.toString());
+    }
+    
+    /**
+     * 根据任务主键解析任务描述.
+     * 
+     * @param taskId 任务主键
+     * @return 任务描述
+     */
+    public static TaskDescriptor from(final String taskId) {
+        TaskContext taskContext = TaskContext.from(taskId);
+        return new TaskDescriptor(taskId, taskContext.getMetaInfo().getJobName(), taskContext.getType(), taskContext.getSlaveId(), taskContext.getMetaInfo().getShardingItems());
+    }
+}
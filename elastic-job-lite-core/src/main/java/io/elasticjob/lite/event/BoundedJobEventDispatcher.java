@@ -0,0 +1,171 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event;
+
+import com.google.common.base.Joiner;
+import com.google.common.eventbus.EventBus;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 有界作业事件分发器.
+ * 
+ * <p>
+ * 事件放入固定容量的环形数组队列, 由分发线程取出后同步发布给监听器. 队列已满时按配置的策略阻塞、丢弃新事件、丢弃最早的事件或采样.
+ * 分发线程按需创建, 空闲超时后回收. 分发耗时为事件放入队列至监听器处理完成的时间.
+ * </p>
+ */
+final class BoundedJobEventDispatcher {
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    private final EventBus eventBus;
+    
+    private final JobEventOverflowPolicy overflowPolicy;
+    
+    private final int sampleRate;
+    
+    private final int capacity;
+    
+    private final BlockingQueue<Runnable> queue;
+    
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
+    private final AtomicLong sampleSequence = new AtomicLong();
+    
+    private final AtomicLong droppedCount = new AtomicLong();
+    
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    
+    private final AtomicLong totalDispatchLatencyNanos = new AtomicLong();
+    
+    private final AtomicLong maxDispatchLatencyNanos = new AtomicLong();
+    
+    BoundedJobEventDispatcher(final EventBus eventBus, final JobEventDispatchConfiguration dispatchConfig, final String jobName, final int threadSize) {
+        this.eventBus = eventBus;
+        overflowPolicy = null == dispatchConfig.getOverflowPolicy() ? JobEventOverflowPolicy.BLOCK : dispatchConfig.getOverflowPolicy();
+        sampleRate = Math.max(1, dispatchConfig.getSampleRate());
+        capacity = dispatchConfig.getCapacity();
+        queue = new ArrayBlockingQueue<>(capacity);
+        threadPoolExecutor = new ThreadPoolExecutor(threadSize, threadSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, 
+                new BasicThreadFactory.Builder().namingPattern(Joiner.on("-").join("job-event-dispatcher", jobName, "%s")).daemon(true).build(), new OverflowHandler());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * 分发事件.
+     * 
+     * @param event 作业事件
+     */
+    void dispatch(final JobEvent event) {
+        if (JobEventOverflowPolicy.SAMPLE == overflowPolicy && queue.size() * 2 >= capacity && 0L != sampleSequence.getAndIncrement() % sampleRate) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        threadPoolExecutor.execute(new DispatchTask(event, System.nanoTime()));
+    }
+    
+    /**
+     * 关闭分发器, 终止分发线程并丢弃队列中未分发的事件.
+     */
+    void close() {
+        if (!threadPoolExecutor.isShutdown()) {
+            droppedCount.addAndGet(threadPoolExecutor.shutdownNow().size());
+        }
+    }
+    
+    int getQueueDepth() {
+        return queue.size();
+    }
+    
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+    
+    long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+    
+    long getTotalDispatchLatencyNanos() {
+        return totalDispatchLatencyNanos.get();
+    }
+    
+    long getMaxDispatchLatencyNanos() {
+        return maxDispatchLatencyNanos.get();
+    }
+    
+    private void recordDispatchLatency(final long latencyNanos) {
+        dispatchedCount.incrementAndGet();
+        totalDispatchLatencyNanos.addAndGet(latencyNanos);
+        long max = maxDispatchLatencyNanos.get();
+        while (latencyNanos > max && !maxDispatchLatencyNanos.compareAndSet(max, latencyNanos)) {
+            max = maxDispatchLatencyNanos.get();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class DispatchTask implements Runnable {
+        
+        private final JobEvent event;
+        
+        private final long enqueueNanoTime;
+        
+        @Override
+        public void run() {
+            eventBus.post(event);
+            recordDispatchLatency(System.nanoTime() - enqueueNanoTime);
+        }
+    }
+    
+    private final class OverflowHandler implements RejectedExecutionHandler {
+        
+        @Override
+        public void rejectedExecution(final Runnable task, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            switch (overflowPolicy) {
+                case BLOCK:
+                    try {
+                        queue.put(task);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        droppedCount.incrementAndGet();
+                    }
+                    break;
+                case DROP_OLDEST:
+                    if (null != queue.poll()) {
+                        droppedCount.incrementAndGet();
+                    }
+                    executor.execute(task);
+                    break;
+                default:
+                    droppedCount.incrementAndGet();
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event;
+
+/**
+ * 未配置作业事件时使用的事件接收器.
+ * 
+ * <p>
+ * 忽略所有事件, 执行器据此跳过事件的构建.
+ * </p>
+ */
+public final class DisabledJobEventSink implements JobEventSink {
+    
+    @Override
+    public void post(final JobEvent event) {
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+    
+    @Override
+    public int getQueueDepth() {
+        return 0;
+    }
+    
+    @Override
+    public long getDroppedCount() {
+        return 0L;
+    }
+    
+    @Override
+    public long getDispatchedCount() {
+        return 0L;
+    }
+    
+    @Override
+    public long getTotalDispatchLatencyNanos() {
+        return 0L;
+    }
+    
+    @Override
+    public long getMaxDispatchLatencyNanos() {
+        return 0L;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -22,6 +22,9 @@ import com.google.common.eventbus.EventBus;
 import io.elasticjob.lite.util.concurrent.ExecutorServiceObject;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
+import java.io.IOException;
+
 /**
  * 运行痕迹事件总线.
  * 
@@ -29,7 +32,7 @@ import lombok.extern.slf4j.Slf4j;
  * @author caohao
  */
 @Slf4j
-public final class JobEventBus {
+public final class JobEventBus implements JobEventSink {
     
     private final JobEventConfiguration jobEventConfig;
     
@@ -37,38 +40,105 @@ public final class JobEventBus {
     
     private final EventBus eventBus;
     
+    private final BoundedJobEventDispatcher boundedDispatcher;
+    
+    private JobEventListener jobEventListener;
+    
     private boolean isRegistered;
     
     public JobEventBus() {
         jobEventConfig = null;
         executorServiceObject = null;
         eventBus = null;
+        boundedDispatcher = null;
     }
     
     public JobEventBus(final JobEventConfiguration jobEventConfig) {
+        this(null, jobEventConfig, null);
+    }
+    
+    public JobEventBus(final String jobName, final JobEventConfiguration jobEventConfig, final JobEventDispatchConfiguration dispatchConfig) {
         this.jobEventConfig = jobEventConfig;
-        executorServiceObject = new ExecutorServiceObject("job-event", Runtime.getRuntime().availableProcessors() * 2);
-        eventBus = new AsyncEventBus(executorServiceObject.createExecutorService());
+        int threadSize = Runtime.getRuntime().availableProcessors() * 2;
+        if (null == dispatchConfig || dispatchConfig.getCapacity() <= 0) {
+            executorServiceObject = new ExecutorServiceObject("job-event", threadSize);
+            eventBus = new AsyncEventBus(executorServiceObject.createExecutorService());
+            boundedDispatcher = null;
+        } else {
+            executorServiceObject = null;
+            eventBus = new EventBus();
+            boundedDispatcher = new BoundedJobEventDispatcher(eventBus, dispatchConfig, jobName, threadSize);
+        }
         register();
     }
     
     private void register() {
         try {
-            eventBus.register(jobEventConfig.createJobEventListener());
+            jobEventListener = jobEventConfig.createJobEventListener();
+            eventBus.register(jobEventListener);
             isRegistered = true;
         } catch (final JobEventListenerConfigurationException ex) {
             log.error("Elastic job: create JobEventListener failure, error is: ", ex);
         }
     }
     
-    /**
-     * 发布事件.
-     *
-     * @param event 作业事件
-     */
+    @Override
     public void post(final JobEvent event) {
-        if (isRegistered && !executorServiceObject.isShutdown()) {
+        if (!isRegistered) {
+            return;
+        }
+        if (null != boundedDispatcher) {
+            boundedDispatcher.dispatch(event);
+        } else if (!executorServiceObject.isShutdown()) {
             eventBus.post(event);
         }
     }
+    
+    @Override
+    public boolean isEnabled() {
+        return isRegistered;
+    }
+    
+    @Override
+    public int getQueueDepth() {
+        if (null != boundedDispatcher) {
+            return boundedDispatcher.getQueueDepth();
+        }
+        return null == executorServiceObject ? 0 : executorServiceObject.getWorkQueueSize();
+    }
+    
+    @Override
+    public long getDroppedCount() {
+        return null == boundedDispatcher ? 0L : boundedDispatcher.getDroppedCount();
+    }
+    
+    @Override
+    public long getDispatchedCount() {
+        return null == boundedDispatcher ? 0L : boundedDispatcher.getDispatchedCount();
+    }
+    
+    @Override
+    public long getTotalDispatchLatencyNanos() {
+        return null == boundedDispatcher ? 0L : boundedDispatcher.getTotalDispatchLatencyNanos();
+    }
+    
+    @Override
+    public long getMaxDispatchLatencyNanos() {
+        return null == boundedDispatcher ? 0L : boundedDispatcher.getMaxDispatchLatencyNanos();
+    }
+    
+    @Override
+    public void close() {
+        if (null != boundedDispatcher) {
+            boundedDispatcher.close();
+        }
+        if (!(jobEventListener instanceof Closeable)) {
+            return;
+        }
+        try {
+            ((Closeable) jobEventListener).close();
+        } catch (final IOException ex) {
+            log.error("Elastic job: close JobEventListener failure, error is: ", ex);
+        }
+    }
 }
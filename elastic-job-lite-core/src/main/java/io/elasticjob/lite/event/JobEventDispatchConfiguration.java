@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 作业事件分发配置.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class JobEventDispatchConfiguration {
+    
+    /**
+     * 分发队列容量.
+     * 大于0时使用有界队列分发事件, 0表示使用无界队列.
+     */
+    private final int capacity;
+    
+    /**
+     * 分发队列已满时的处理策略.
+     */
+    private final JobEventOverflowPolicy overflowPolicy;
+    
+    /**
+     * 采样率.
+     * 处理策略为SAMPLE且队列使用超过一半时, 每sampleRate个事件保留1个.
+     */
+    private final int sampleRate;
+    
+    public JobEventDispatchConfiguration(final int capacity, final JobEventOverflowPolicy overflowPolicy) {
+        this(capacity, overflowPolicy, 1);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event;
+
+/**
+ * 作业事件队列已满时的处理策略.
+ * 
+ * <p>
+ * 用于作业事件分发队列及运行痕迹事件批量写入队列.
+ * </p>
+ */
+public enum JobEventOverflowPolicy {
+    
+    /**
+     * 阻塞发布事件的线程直至队列有空余.
+     */
+    BLOCK, 
+    
+    /**
+     * 丢弃新事件.
+     */
+    DROP, 
+    
+    /**
+     * 丢弃队列中最早的事件.
+     */
+    DROP_OLDEST, 
+    
+    /**
+     * 队列使用超过一半时按采样率保留事件, 队列已满时丢弃新事件.
+     */
+    SAMPLE
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event;
+
+/**
+ * 作业事件接收器.
+ * 
+ * <p>
+ * 执行器在构建事件前通过{@link #isEnabled()}判断是否需要发布事件, 未启用时无需创建事件对象及拼装事件消息.
+ * </p>
+ */
+public interface JobEventSink {
+    
+    /**
+     * 发布事件.
+     *
+     * @param event 作业事件
+     */
+    void post(JobEvent event);
+    
+    /**
+     * 判断是否启用事件发布.
+     * 
+     * @return 是否启用事件发布
+     */
+    boolean isEnabled();
+    
+    /**
+     * 获取待分发的事件数量.
+     * 
+     * @return 待分发的事件数量
+     */
+    int getQueueDepth();
+    
+    /**
+     * 获取因分发队列已满或已关闭而丢弃的事件数量.
+     * 
+     * @return 丢弃的事件数量
+     */
+    long getDroppedCount();
+    
+    /**
+     * 获取已分发的事件数量.
+     * 仅使用有界队列分发时统计.
+     * 
+     * @return 已分发的事件数量
+     */
+    long getDispatchedCount();
+    
+    /**
+     * 获取已分发事件的分发耗时纳秒数总和.
+     * 仅使用有界队列分发时统计.
+     * 
+     * @return 分发耗时纳秒数总和
+     */
+    long getTotalDispatchLatencyNanos();
+    
+    /**
+     * 获取已分发事件的最大分发耗时纳秒数.
+     * 仅使用有界队列分发时统计.
+     * 
+     * @return 最大分发耗时纳秒数
+     */
+    long getMaxDispatchLatencyNanos();
+    
+    /**
+     * 关闭事件接收器, 释放其持有的资源.
+     */
+    void close();
+}
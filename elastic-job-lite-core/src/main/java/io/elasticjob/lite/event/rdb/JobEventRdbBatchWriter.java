@@ -0,0 +1,239 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event.rdb;
+
+import io.elasticjob.lite.event.JobEvent;
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
+import io.elasticjob.lite.event.type.JobExecutionEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 运行痕迹事件异步批量写入器.
+ * 
+ * <p>
+ * 事件先放入有界队列, 由写入线程在达到批量数量或刷新间隔时批量写入数据库.
+ * 关闭或虚拟机退出时写入队列中剩余的事件.
+ * </p>
+ */
+@Slf4j
+final class JobEventRdbBatchWriter {
+    
+    private static final AtomicInteger WRITER_SEQUENCE = new AtomicInteger();
+    
+    private static final JobEvent CLOSE_SIGNAL = new JobEvent() {
+        
+        @Override
+        public String getJobName() {
+            return "";
+        }
+    };
+    
+    private final JobEventRdbStorage repository;
+    
+    private final int batchSize;
+    
+    private final long flushIntervalNanos;
+    
+    private final JobEventOverflowPolicy overflowPolicy;
+    
+    private final BlockingQueue<JobEvent> queue;
+    
+    private final AtomicLong droppedCount = new AtomicLong();
+    
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
+    private final Thread writerThread;
+    
+    private final Thread shutdownHook;
+    
+    JobEventRdbBatchWriter(final JobEventRdbStorage repository, final int batchSize, final int flushIntervalMilliseconds, final int queueCapacity, 
+                           final JobEventOverflowPolicy overflowPolicy) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMilliseconds));
+        this.overflowPolicy = null == overflowPolicy ? JobEventOverflowPolicy.DROP : overflowPolicy;
+        queue = new ArrayBlockingQueue<>(Math.max(batchSize, queueCapacity));
+        writerThread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                writeUntilClosed();
+            }
+        }, "job-event-rdb-writer-" + WRITER_SEQUENCE.incrementAndGet());
+        writerThread.setDaemon(true);
+        writerThread.start();
+        shutdownHook = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                close();
+            }
+        }, writerThread.getName() + "-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+    
+    /**
+     * 放入待写入的事件.
+     * 
+     * @param event 作业事件
+     */
+    void write(final JobEvent event) {
+        if (closed.get()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(event);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    droppedCount.incrementAndGet();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    if (null != queue.poll()) {
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                break;
+            default:
+                if (!queue.offer(event)) {
+                    droppedCount.incrementAndGet();
+                }
+                break;
+        }
+    }
+    
+    /**
+     * 获取待写入的事件数量.
+     * 
+     * @return 待写入的事件数量
+     */
+    int getPendingCount() {
+        return queue.size();
+    }
+    
+    /**
+     * 获取因队列已满或已关闭而丢弃的事件数量.
+     * 
+     * @return 丢弃的事件数量
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+    
+    /**
+     * 关闭写入器, 等待队列中剩余的事件写入完成.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.offer(CLOSE_SIGNAL);
+        if (Thread.currentThread() != shutdownHook) {
+            removeShutdownHook();
+        }
+        try {
+            writerThread.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        queue.remove(CLOSE_SIGNAL);
+        if (droppedCount.get() > 0L) {
+            log.warn("Elastic job: job event rdb writer '{}' dropped {} events.", writerThread.getName(), droppedCount.get());
+        }
+    }
+    
+    private void removeShutdownHook() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (final IllegalStateException ex) {
+            log.debug("Elastic job: JVM is shutting down, skip removing job event rdb writer shutdown hook.");
+        }
+    }
+    
+    private void writeUntilClosed() {
+        List<JobEvent> batch = new ArrayList<>(batchSize);
+        while (!closed.get()) {
+            try {
+                fillBatch(batch);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush(batch);
+        }
+        while (!queue.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            flush(batch);
+        }
+    }
+    
+    private void fillBatch(final List<JobEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize && !closed.get()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return;
+            }
+            JobEvent event = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (null == event || CLOSE_SIGNAL == event) {
+                return;
+            }
+            batch.add(event);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+    
+    private void flush(final List<JobEvent> batch) {
+        batch.remove(CLOSE_SIGNAL);
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<JobExecutionEvent> jobExecutionEvents = new ArrayList<>(batch.size());
+        List<JobStatusTraceEvent> jobStatusTraceEvents = new ArrayList<>(batch.size());
+        for (JobEvent each : batch) {
+            if (each instanceof JobExecutionEvent) {
+                jobExecutionEvents.add((JobExecutionEvent) each);
+            } else if (each instanceof JobStatusTraceEvent) {
+                jobStatusTraceEvents.add((JobStatusTraceEvent) each);
+            }
+        }
+        batch.clear();
+        try {
+            repository.addJobExecutionEvents(jobExecutionEvents);
+            repository.addJobStatusTraceEvents(jobStatusTraceEvents);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Elastic job: write job events failure, error is: ", ex);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event.rdb;
+
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 运行痕迹事件批量写入器注册表.
+ * 
+ * <p>
+ * 使用同一数据源的监听器共享一个批量写入器, 批量配置以首个监听器的配置为准. 最后一个监听器释放时关闭写入器.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class JobEventRdbBatchWriterRegistry {
+    
+    private static final Map<DataSource, JobEventRdbBatchWriter> REGISTRY = new HashMap<>();
+    
+    private static final Map<DataSource, Integer> REFERENCE_COUNTS = new HashMap<>();
+    
+    /**
+     * 获取数据源对应的批量写入器, 不存在时创建.
+     * 
+     * @param dataSource 数据源
+     * @param repository 运行痕迹事件数据库存储
+     * @param batchSize 批量写入事件的数量
+     * @param flushIntervalMilliseconds 批量写入事件的刷新间隔毫秒数
+     * @param queueCapacity 待写入事件队列容量
+     * @param overflowPolicy 待写入事件队列已满时的处理策略
+     * @return 批量写入器
+     */
+    static synchronized JobEventRdbBatchWriter acquire(final DataSource dataSource, final JobEventRdbStorage repository, 
+                                                       final int batchSize, final int flushIntervalMilliseconds, final int queueCapacity, final JobEventOverflowPolicy overflowPolicy) {
+        JobEventRdbBatchWriter result = REGISTRY.get(dataSource);
+        if (null == result) {
+            result = new JobEventRdbBatchWriter(repository, batchSize, flushIntervalMilliseconds, queueCapacity, overflowPolicy);
+            REGISTRY.put(dataSource, result);
+            REFERENCE_COUNTS.put(dataSource, 1);
+        } else {
+            REFERENCE_COUNTS.put(dataSource, REFERENCE_COUNTS.get(dataSource) + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * 释放数据源对应的批量写入器, 无监听器使用时关闭并删除.
+     * 
+     * @param dataSource 数据源
+     */
+    static synchronized void release(final DataSource dataSource) {
+        Integer referenceCount = REFERENCE_COUNTS.get(dataSource);
+        if (null == referenceCount) {
+            return;
+        }
+        if (referenceCount > 1) {
+            REFERENCE_COUNTS.put(dataSource, referenceCount - 1);
+            return;
+        }
+        REFERENCE_COUNTS.remove(dataSource);
+        REGISTRY.remove(dataSource).close();
+    }
+}
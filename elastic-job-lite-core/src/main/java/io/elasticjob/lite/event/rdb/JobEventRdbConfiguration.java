@@ -20,8 +20,9 @@ package io.elasticjob.lite.event.rdb;
 import io.elasticjob.lite.event.JobEventConfiguration;
 import io.elasticjob.lite.event.JobEventListener;
 import io.elasticjob.lite.event.JobEventListenerConfigurationException;
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import javax.sql.DataSource;
 import java.io.Serializable;
@@ -32,7 +33,7 @@ import java.sql.SQLException;
  *
  * @author caohao
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class JobEventRdbConfiguration extends JobEventRdbIdentity implements JobEventConfiguration, Serializable {
     
@@ -40,10 +41,36 @@ public final class JobEventRdbConfiguration extends JobEventRdbIdentity implemen
     
     private final transient DataSource dataSource;
     
+    /**
+     * 批量写入事件的数量.
+     * 大于0时事件放入有界队列异步批量写入, 0表示每个事件同步写入.
+     */
+    private final int batchSize;
+    
+    /**
+     * 批量写入事件的刷新间隔毫秒数.
+     */
+    private final int flushIntervalMilliseconds;
+    
+    /**
+     * 待写入事件队列容量.
+     */
+    private final int queueCapacity;
+    
+    /**
+     * 待写入事件队列已满时的处理策略.
+     * 不支持采样, SAMPLE按DROP处理.
+     */
+    private final JobEventOverflowPolicy overflowPolicy;
+    
+    public JobEventRdbConfiguration(final DataSource dataSource) {
+        this(dataSource, 0, 1000, 10000, JobEventOverflowPolicy.DROP);
+    }
+    
     @Override
     public JobEventListener createJobEventListener() throws JobEventListenerConfigurationException {
         try {
-            return new JobEventRdbListener(dataSource);
+            return new JobEventRdbListener(dataSource, batchSize, flushIntervalMilliseconds, queueCapacity, overflowPolicy);
         } catch (final SQLException ex) {
             throw new JobEventListenerConfigurationException(ex);
         }
@@ -18,32 +18,76 @@
 package io.elasticjob.lite.event.rdb;
 
 import io.elasticjob.lite.event.JobEventListener;
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
 import io.elasticjob.lite.event.type.JobExecutionEvent;
 import io.elasticjob.lite.event.type.JobStatusTraceEvent;
 
 import javax.sql.DataSource;
+import java.io.Closeable;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 运行痕迹事件数据库监听器.
  *
  * @author caohao
  */
-public final class JobEventRdbListener extends JobEventRdbIdentity implements JobEventListener {
+public final class JobEventRdbListener extends JobEventRdbIdentity implements JobEventListener, Closeable {
+    
+    private final DataSource dataSource;
     
     private final JobEventRdbStorage repository;
     
+    private final JobEventRdbBatchWriter batchWriter;
+    
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
     public JobEventRdbListener(final DataSource dataSource) throws SQLException {
+        this(dataSource, 0, 0, 0, null);
+    }
+    
+    public JobEventRdbListener(final DataSource dataSource, final int batchSize, final int flushIntervalMilliseconds, final int queueCapacity, 
+                               final JobEventOverflowPolicy overflowPolicy) throws SQLException {
+        this.dataSource = dataSource;
         repository = new JobEventRdbStorage(dataSource);
+        batchWriter = batchSize > 0 ? JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, batchSize, flushIntervalMilliseconds, queueCapacity, overflowPolicy) : null;
     }
     
     @Override
     public void listen(final JobExecutionEvent executionEvent) {
-        repository.addJobExecutionEvent(executionEvent);
+        if (null == batchWriter) {
+            repository.addJobExecutionEvent(executionEvent);
+        } else {
+            batchWriter.write(executionEvent);
+        }
     }
     
     @Override
     public void listen(final JobStatusTraceEvent jobStatusTraceEvent) {
-        repository.addJobStatusTraceEvent(jobStatusTraceEvent);
+        if (null == batchWriter) {
+            repository.addJobStatusTraceEvent(jobStatusTraceEvent);
+        } else {
+            batchWriter.write(jobStatusTraceEvent);
+        }
+    }
+    
+    /**
+     * 获取因待写入事件队列已满或已关闭而丢弃的事件数量.
+     * 
+     * <p>
+     * 使用同一数据源的监听器共享批量写入器, 丢弃数量为该数据源的合计. 未开启批量写入时返回0.
+     * </p>
+     * 
+     * @return 丢弃的事件数量
+     */
+    public long getDroppedCount() {
+        return null == batchWriter ? 0L : batchWriter.getDroppedCount();
+    }
+    
+    @Override
+    public void close() {
+        if (null != batchWriter && closed.compareAndSet(false, true)) {
+            JobEventRdbBatchWriterRegistry.release(dataSource);
+        }
     }
 }
@@ -26,16 +26,20 @@ import io.elasticjob.lite.event.type.JobStatusTraceEvent;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -52,6 +56,17 @@ final class JobEventRdbStorage {
     
     private static final String TASK_ID_STATE_INDEX = "TASK_ID_STATE_INDEX";
     
+    private static final String INSERT_JOB_EXECUTION_LOG_SQL = "INSERT INTO `" + TABLE_JOB_EXECUTION_LOG 
+            + "` (`id`, `job_name`, `task_id`, `hostname`, `ip`, `sharding_item`, `execution_source`, `is_success`, `start_time`) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?);";
+    
+    private static final String UPDATE_JOB_EXECUTION_LOG_WHEN_SUCCESS_SQL = "UPDATE `" + TABLE_JOB_EXECUTION_LOG + "` SET `is_success` = ?, `complete_time` = ? WHERE id = ?";
+    
+    private static final String UPDATE_JOB_EXECUTION_LOG_FAILURE_SQL = "UPDATE `" + TABLE_JOB_EXECUTION_LOG + "` SET `is_success` = ?, `complete_time` = ?, `failure_cause` = ? WHERE id = ?";
+    
+    private static final String INSERT_JOB_STATUS_TRACE_LOG_SQL = "INSERT INTO `" + TABLE_JOB_STATUS_TRACE_LOG 
+            + "` (`id`, `job_name`, `original_task_id`, `task_id`, `slave_id`, `source`, `execution_type`, `sharding_item`, `state`, `message`, `creation_time`) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
+    
     private final DataSource dataSource;
     
     private DatabaseType databaseType;
@@ -160,22 +175,122 @@ final class JobEventRdbStorage {
         }
     }
     
+    /**
+     * 批量添加作业执行事件.
+     * 
+     * <p>
+     * 使用同一连接批量执行, 先插入开始事件再更新完成事件, 批量执行失败时逐条重新执行.
+     * </p>
+     * 
+     * @param jobExecutionEvents 作业执行事件集合
+     * @return 是否全部添加成功
+     */
+    boolean addJobExecutionEvents(final List<JobExecutionEvent> jobExecutionEvents) {
+        List<JobExecutionEvent> startEvents = new ArrayList<>(jobExecutionEvents.size());
+        List<JobExecutionEvent> successEvents = new ArrayList<>(jobExecutionEvents.size());
+        List<JobExecutionEvent> failureEvents = new ArrayList<>(jobExecutionEvents.size());
+        for (JobExecutionEvent each : jobExecutionEvents) {
+            if (null == each.getCompleteTime()) {
+                startEvents.add(each);
+            } else if (each.isSuccess()) {
+                successEvents.add(each);
+            } else {
+                failureEvents.add(each);
+            }
+        }
+        boolean result;
+        try (Connection conn = dataSource.getConnection()) {
+            result = insertJobExecutionEvents(conn, startEvents);
+            result = updateJobExecutionEventsWhenSuccess(conn, successEvents) && result;
+            result = updateJobExecutionEventsFailure(conn, failureEvents) && result;
+        } catch (final SQLException ex) {
+            // TODO 记录失败直接输出日志,未来可考虑配置化
+            log.error(ex.getMessage());
+            result = false;
+        }
+        return result;
+    }
+    
+    private boolean insertJobExecutionEvents(final Connection conn, final List<JobExecutionEvent> jobExecutionEvents) {
+        if (jobExecutionEvents.isEmpty()) {
+            return true;
+        }
+        try (PreparedStatement preparedStatement = conn.prepareStatement(INSERT_JOB_EXECUTION_LOG_SQL)) {
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                setInsertJobExecutionEventParameters(preparedStatement, each);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            return true;
+        } catch (final SQLException ex) {
+            boolean result = true;
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                result = insertJobExecutionEvent(each) && result;
+            }
+            return result;
+        }
+    }
+    
+    private boolean updateJobExecutionEventsWhenSuccess(final Connection conn, final List<JobExecutionEvent> jobExecutionEvents) {
+        if (jobExecutionEvents.isEmpty()) {
+            return true;
+        }
+        int[] updateCounts;
+        try (PreparedStatement preparedStatement = conn.prepareStatement(UPDATE_JOB_EXECUTION_LOG_WHEN_SUCCESS_SQL)) {
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                setUpdateJobExecutionEventWhenSuccessParameters(preparedStatement, each);
+                preparedStatement.addBatch();
+            }
+            updateCounts = preparedStatement.executeBatch();
+        } catch (final SQLException ex) {
+            boolean result = true;
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                result = updateJobExecutionEventWhenSuccess(each) && result;
+            }
+            return result;
+        }
+        boolean result = true;
+        for (int i = 0; i < jobExecutionEvents.size(); i++) {
+            if (0 == updateCounts[i]) {
+                result = insertJobExecutionEventWhenSuccess(jobExecutionEvents.get(i)) && result;
+            }
+        }
+        return result;
+    }
+    
+    private boolean updateJobExecutionEventsFailure(final Connection conn, final List<JobExecutionEvent> jobExecutionEvents) {
+        if (jobExecutionEvents.isEmpty()) {
+            return true;
+        }
+        int[] updateCounts;
+        try (PreparedStatement preparedStatement = conn.prepareStatement(UPDATE_JOB_EXECUTION_LOG_FAILURE_SQL)) {
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                setUpdateJobExecutionEventFailureParameters(preparedStatement, each);
+                preparedStatement.addBatch();
+            }
+            updateCounts = preparedStatement.executeBatch();
+        } catch (final SQLException ex) {
+            boolean result = true;
+            for (JobExecutionEvent each : jobExecutionEvents) {
+                result = updateJobExecutionEventFailure(each) && result;
+            }
+            return result;
+        }
+        boolean result = true;
+        for (int i = 0; i < jobExecutionEvents.size(); i++) {
+            if (0 == updateCounts[i]) {
+                result = insertJobExecutionEventWhenFailure(jobExecutionEvents.get(i)) && result;
+            }
+        }
+        return result;
+    }
+    
     private boolean insertJobExecutionEvent(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
-        String sql = "INSERT INTO `" + TABLE_JOB_EXECUTION_LOG + "` (`id`, `job_name`, `task_id`, `hostname`, `ip`, `sharding_item`, `execution_source`, `is_success`, `start_time`) "
-                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?);";
         try (
                 Connection conn = dataSource.getConnection();
-                PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-            preparedStatement.setString(1, jobExecutionEvent.getId());
-            preparedStatement.setString(2, jobExecutionEvent.getJobName());
-            preparedStatement.setString(3, jobExecutionEvent.getTaskId());
-            preparedStatement.setString(4, jobExecutionEvent.getHostname());
-            preparedStatement.setString(5, jobExecutionEvent.getIp());
-            preparedStatement.setInt(6, jobExecutionEvent.getShardingItem());
-            preparedStatement.setString(7, jobExecutionEvent.getSource().toString());
-            preparedStatement.setBoolean(8, jobExecutionEvent.isSuccess());
-            preparedStatement.setTimestamp(9, new Timestamp(jobExecutionEvent.getStartTime().getTime()));
+                PreparedStatement preparedStatement = conn.prepareStatement(INSERT_JOB_EXECUTION_LOG_SQL)) {
+            setInsertJobExecutionEventParameters(preparedStatement, jobExecutionEvent);
             preparedStatement.execute();
             result = true;
         } catch (final SQLException ex) {
@@ -187,6 +302,18 @@ final class JobEventRdbStorage {
         return result;
     }
     
+    private void setInsertJobExecutionEventParameters(final PreparedStatement preparedStatement, final JobExecutionEvent jobExecutionEvent) throws SQLException {
+        preparedStatement.setString(1, jobExecutionEvent.getId());
+        preparedStatement.setString(2, jobExecutionEvent.getJobName());
+        preparedStatement.setString(3, jobExecutionEvent.getTaskId());
+        preparedStatement.setString(4, jobExecutionEvent.getHostname());
+        preparedStatement.setString(5, jobExecutionEvent.getIp());
+        preparedStatement.setInt(6, jobExecutionEvent.getShardingItem());
+        preparedStatement.setString(7, jobExecutionEvent.getSource().toString());
+        preparedStatement.setBoolean(8, jobExecutionEvent.isSuccess());
+        preparedStatement.setTimestamp(9, new Timestamp(jobExecutionEvent.getStartTime().getTime()));
+    }
+    
     private boolean isDuplicateRecord(final SQLException ex) {
         return DatabaseType.MySQL.equals(databaseType) && 1062 == ex.getErrorCode() || DatabaseType.H2.equals(databaseType) && 23505 == ex.getErrorCode() 
                 || DatabaseType.SQLServer.equals(databaseType) && 1 == ex.getErrorCode() || DatabaseType.DB2.equals(databaseType) && -803 == ex.getErrorCode()
@@ -195,13 +322,10 @@ final class JobEventRdbStorage {
     
     private boolean updateJobExecutionEventWhenSuccess(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
-        String sql = "UPDATE `" + TABLE_JOB_EXECUTION_LOG + "` SET `is_success` = ?, `complete_time` = ? WHERE id = ?";
         try (
                 Connection conn = dataSource.getConnection();
-                PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-            preparedStatement.setBoolean(1, jobExecutionEvent.isSuccess());
-            preparedStatement.setTimestamp(2, new Timestamp(jobExecutionEvent.getCompleteTime().getTime()));
-            preparedStatement.setString(3, jobExecutionEvent.getId());
+                PreparedStatement preparedStatement = conn.prepareStatement(UPDATE_JOB_EXECUTION_LOG_WHEN_SUCCESS_SQL)) {
+            setUpdateJobExecutionEventWhenSuccessParameters(preparedStatement, jobExecutionEvent);
             if (0 == preparedStatement.executeUpdate()) {
                 return insertJobExecutionEventWhenSuccess(jobExecutionEvent);
             }
@@ -213,6 +337,12 @@ final class JobEventRdbStorage {
         return result;
     }
     
+    private void setUpdateJobExecutionEventWhenSuccessParameters(final PreparedStatement preparedStatement, final JobExecutionEvent jobExecutionEvent) throws SQLException {
+        preparedStatement.setBoolean(1, jobExecutionEvent.isSuccess());
+        preparedStatement.setTimestamp(2, new Timestamp(jobExecutionEvent.getCompleteTime().getTime()));
+        preparedStatement.setString(3, jobExecutionEvent.getId());
+    }
+    
     private boolean insertJobExecutionEventWhenSuccess(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
         String sql = "INSERT INTO `" + TABLE_JOB_EXECUTION_LOG + "` (`id`, `job_name`, `task_id`, `hostname`, `ip`, `sharding_item`, `execution_source`, `is_success`, `start_time`, `complete_time`) "
@@ -220,15 +350,7 @@ final class JobEventRdbStorage {
         try (
                 Connection conn = dataSource.getConnection();
                 PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-            preparedStatement.setString(1, jobExecutionEvent.getId());
-            preparedStatement.setString(2, jobExecutionEvent.getJobName());
-            preparedStatement.setString(3, jobExecutionEvent.getTaskId());
-            preparedStatement.setString(4, jobExecutionEvent.getHostname());
-            preparedStatement.setString(5, jobExecutionEvent.getIp());
-            preparedStatement.setInt(6, jobExecutionEvent.getShardingItem());
-            preparedStatement.setString(7, jobExecutionEvent.getSource().toString());
-            preparedStatement.setBoolean(8, jobExecutionEvent.isSuccess());
-            preparedStatement.setTimestamp(9, new Timestamp(jobExecutionEvent.getStartTime().getTime()));
+            setInsertJobExecutionEventParameters(preparedStatement, jobExecutionEvent);
             preparedStatement.setTimestamp(10, new Timestamp(jobExecutionEvent.getCompleteTime().getTime()));
             preparedStatement.execute();
             result = true;
@@ -244,14 +366,10 @@ final class JobEventRdbStorage {
     
     private boolean updateJobExecutionEventFailure(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
-        String sql = "UPDATE `" + TABLE_JOB_EXECUTION_LOG + "` SET `is_success` = ?, `complete_time` = ?, `failure_cause` = ? WHERE id = ?";
         try (
                 Connection conn = dataSource.getConnection();
-                PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-            preparedStatement.setBoolean(1, jobExecutionEvent.isSuccess());
-            preparedStatement.setTimestamp(2, new Timestamp(jobExecutionEvent.getCompleteTime().getTime()));
-            preparedStatement.setString(3, truncateString(jobExecutionEvent.getFailureCause()));
-            preparedStatement.setString(4, jobExecutionEvent.getId());
+                PreparedStatement preparedStatement = conn.prepareStatement(UPDATE_JOB_EXECUTION_LOG_FAILURE_SQL)) {
+            setUpdateJobExecutionEventFailureParameters(preparedStatement, jobExecutionEvent);
             if (0 == preparedStatement.executeUpdate()) {
                 return insertJobExecutionEventWhenFailure(jobExecutionEvent);
             }
@@ -263,6 +381,13 @@ final class JobEventRdbStorage {
         return result;
     }
     
+    private void setUpdateJobExecutionEventFailureParameters(final PreparedStatement preparedStatement, final JobExecutionEvent jobExecutionEvent) throws SQLException {
+        preparedStatement.setBoolean(1, jobExecutionEvent.isSuccess());
+        preparedStatement.setTimestamp(2, new Timestamp(jobExecutionEvent.getCompleteTime().getTime()));
+        preparedStatement.setString(3, truncateString(jobExecutionEvent.getFailureCause()));
+        preparedStatement.setString(4, jobExecutionEvent.getId());
+    }
+    
     private boolean insertJobExecutionEventWhenFailure(final JobExecutionEvent jobExecutionEvent) {
         boolean result = false;
         String sql = "INSERT INTO `" + TABLE_JOB_EXECUTION_LOG + "` (`id`, `job_name`, `task_id`, `hostname`, `ip`, `sharding_item`, `execution_source`, `failure_cause`, `is_success`, `start_time`) "
@@ -297,23 +422,15 @@ final class JobEventRdbStorage {
         if (State.TASK_STAGING != jobStatusTraceEvent.getState()) {
             originalTaskId = getOriginalTaskId(jobStatusTraceEvent.getTaskId());
         }
+        return insertJobStatusTraceEvent(jobStatusTraceEvent, originalTaskId);
+    }
+    
+    private boolean insertJobStatusTraceEvent(final JobStatusTraceEvent jobStatusTraceEvent, final String originalTaskId) {
         boolean result = false;
-        String sql = "INSERT INTO `" + TABLE_JOB_STATUS_TRACE_LOG + "` (`id`, `job_name`, `original_task_id`, `task_id`, `slave_id`, `source`, `execution_type`, `sharding_item`,  " 
-                + "`state`, `message`, `creation_time`) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
         try (
                 Connection conn = dataSource.getConnection();
-                PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-            preparedStatement.setString(1, UUID.randomUUID().toString());
-            preparedStatement.setString(2, jobStatusTraceEvent.getJobName());
-            preparedStatement.setString(3, originalTaskId);
-            preparedStatement.setString(4, jobStatusTraceEvent.getTaskId());
-            preparedStatement.setString(5, jobStatusTraceEvent.getSlaveId());
-            preparedStatement.setString(6, jobStatusTraceEvent.getSource().toString());
-            preparedStatement.setString(7, jobStatusTraceEvent.getExecutionType().name());
-            preparedStatement.setString(8, jobStatusTraceEvent.getShardingItems());
-            preparedStatement.setString(9, jobStatusTraceEvent.getState().toString());
-            preparedStatement.setString(10, truncateString(jobStatusTraceEvent.getMessage()));
-            preparedStatement.setTimestamp(11, new Timestamp(jobStatusTraceEvent.getCreationTime().getTime()));
+                PreparedStatement preparedStatement = conn.prepareStatement(INSERT_JOB_STATUS_TRACE_LOG_SQL)) {
+            setInsertJobStatusTraceEventParameters(preparedStatement, jobStatusTraceEvent, originalTaskId);
             preparedStatement.execute();
             result = true;
         } catch (final SQLException ex) {
@@ -323,6 +440,78 @@ final class JobEventRdbStorage {
         return result;
     }
     
+    /**
+     * 批量添加作业状态痕迹事件.
+     * 
+     * <p>
+     * 同一批次中已有暂存状态事件的任务直接使用其原始任务主键, 不再查询数据库.
+     * 批量写入失败时逐条重试未写入成功的事件.
+     * </p>
+     * 
+     * @param jobStatusTraceEvents 作业状态痕迹事件集合
+     * @return 是否全部添加成功
+     */
+    boolean addJobStatusTraceEvents(final List<JobStatusTraceEvent> jobStatusTraceEvents) {
+        if (jobStatusTraceEvents.isEmpty()) {
+            return true;
+        }
+        Map<String, String> originalTaskIdMap = new HashMap<>(jobStatusTraceEvents.size(), 1);
+        List<String> originalTaskIds = new ArrayList<>(jobStatusTraceEvents.size());
+        for (JobStatusTraceEvent each : jobStatusTraceEvents) {
+            originalTaskIds.add(getOriginalTaskId(originalTaskIdMap, each));
+        }
+        int[] updateCounts;
+        try (
+                Connection conn = dataSource.getConnection();
+                PreparedStatement preparedStatement = conn.prepareStatement(INSERT_JOB_STATUS_TRACE_LOG_SQL)) {
+            for (int i = 0; i < jobStatusTraceEvents.size(); i++) {
+                setInsertJobStatusTraceEventParameters(preparedStatement, jobStatusTraceEvents.get(i), originalTaskIds.get(i));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            return true;
+        } catch (final BatchUpdateException ex) {
+            updateCounts = ex.getUpdateCounts();
+        } catch (final SQLException ex) {
+            updateCounts = new int[0];
+        }
+        boolean result = true;
+        for (int i = 0; i < jobStatusTraceEvents.size(); i++) {
+            if (i >= updateCounts.length || Statement.EXECUTE_FAILED == updateCounts[i]) {
+                result = insertJobStatusTraceEvent(jobStatusTraceEvents.get(i), originalTaskIds.get(i)) && result;
+            }
+        }
+        return result;
+    }
+    
+    private String getOriginalTaskId(final Map<String, String> originalTaskIds, final JobStatusTraceEvent jobStatusTraceEvent) {
+        if (State.TASK_STAGING == jobStatusTraceEvent.getState()) {
+            originalTaskIds.put(jobStatusTraceEvent.getTaskId(), jobStatusTraceEvent.getOriginalTaskId());
+            return jobStatusTraceEvent.getOriginalTaskId();
+        }
+        String result = originalTaskIds.get(jobStatusTraceEvent.getTaskId());
+        if (null == result) {
+            result = getOriginalTaskId(jobStatusTraceEvent.getTaskId());
+            originalTaskIds.put(jobStatusTraceEvent.getTaskId(), result);
+        }
+        return result;
+    }
+    
+    private void setInsertJobStatusTraceEventParameters(
+            final PreparedStatement preparedStatement, final JobStatusTraceEvent jobStatusTraceEvent, final String originalTaskId) throws SQLException {
+        preparedStatement.setString(1, UUID.randomUUID().toString());
+        preparedStatement.setString(2, jobStatusTraceEvent.getJobName());
+        preparedStatement.setString(3, originalTaskId);
+        preparedStatement.setString(4, jobStatusTraceEvent.getTaskId());
+        preparedStatement.setString(5, jobStatusTraceEvent.getSlaveId());
+        preparedStatement.setString(6, jobStatusTraceEvent.getSource().toString());
+        preparedStatement.setString(7, jobStatusTraceEvent.getExecutionType().name());
+        preparedStatement.setString(8, jobStatusTraceEvent.getShardingItems());
+        preparedStatement.setString(9, jobStatusTraceEvent.getState().toString());
+        preparedStatement.setString(10, truncateString(jobStatusTraceEvent.getMessage()));
+        preparedStatement.setTimestamp(11, new Timestamp(jobStatusTraceEvent.getCreationTime().getTime()));
+    }
+    
     private String getOriginalTaskId(final String taskId) {
         String sql = String.format("SELECT original_task_id FROM %s WHERE task_id = '%s' and state='%s' LIMIT 1", TABLE_JOB_STATUS_TRACE_LOG, taskId, State.TASK_STAGING);
         String result = "";
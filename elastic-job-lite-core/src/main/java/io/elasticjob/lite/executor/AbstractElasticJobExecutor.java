@@ -28,18 +28,33 @@ import io.elasticjob.lite.executor.handler.ExecutorServiceHandler;
 import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistry;
 import io.elasticjob.lite.executor.handler.JobExceptionHandler;
 import io.elasticjob.lite.executor.handler.JobProperties;
+import io.elasticjob.lite.metrics.JobMetrics;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 弹性化分布式作业执行器.
+ * 
+ * <p>
+ * 执行器可跨作业触发复用, 但不能被并发调用.
+ * </p>
  *
  * @author zhangliang
  */
@@ -58,7 +73,9 @@ public abstract class AbstractElasticJobExecutor {
     
     private final JobExceptionHandler jobExceptionHandler;
     
-    private final Map<Integer, String> itemErrorMessages;
+    private final long shardingItemTimeoutMilliseconds;
+    
+    private final JobMetrics jobMetrics;
     
     protected AbstractElasticJobExecutor(final JobFacade jobFacade) {
         this.jobFacade = jobFacade;
@@ -66,7 +83,8 @@ public abstract class AbstractElasticJobExecutor {
         jobName = jobRootConfig.getTypeConfig().getCoreConfig().getJobName();
         executorService = ExecutorServiceHandlerRegistry.getExecutorServiceHandler(jobName, (ExecutorServiceHandler) getHandler(JobProperties.JobPropertiesEnum.EXECUTOR_SERVICE_HANDLER));
         jobExceptionHandler = (JobExceptionHandler) getHandler(JobProperties.JobPropertiesEnum.JOB_EXCEPTION_HANDLER);
-        itemErrorMessages = new ConcurrentHashMap<>(jobRootConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 1);
+        shardingItemTimeoutMilliseconds = jobRootConfig.getTypeConfig().getCoreConfig().getShardingItemTimeoutMilliseconds();
+        jobMetrics = JobMetricsRegistry.getInstance().getJobMetrics(jobName);
     }
     
     private Object getHandler(final JobProperties.JobPropertiesEnum jobPropertiesEnum) {
@@ -95,18 +113,22 @@ public abstract class AbstractElasticJobExecutor {
      * 执行作业.
      */
     public final void execute() {
+        jobMetrics.recordFire();
         try {
             jobFacade.checkJobExecutionEnvironment();
         } catch (final JobExecutionEnvironmentException cause) {
             jobExceptionHandler.handleException(jobName, cause);
         }
+        long coordinationStartNanoTime = System.nanoTime();
         ShardingContexts shardingContexts = jobFacade.getShardingContexts();
-        if (shardingContexts.isAllowSendJobEvent()) {
-            jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, String.format("Job '%s' execute begin.", jobName));
+        jobMetrics.recordCoordinationTime(System.nanoTime() - coordinationStartNanoTime);
+        if (isJobStatusTraceEventRequired(shardingContexts)) {
+            jobFacade.postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, String.format("Job '%s' execute begin.", jobName));
         }
         if (jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())) {
-            if (shardingContexts.isAllowSendJobEvent()) {
-                jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format(
+            jobMetrics.recordMisfire();
+            if (isJobStatusTraceEventRequired(shardingContexts)) {
+                jobFacade.postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, String.format(
                         "Previous job '%s' - shardingItems '%s' is still running, misfired job will start after previous job completed.", jobName, 
                         shardingContexts.getShardingItemParameters().keySet()));
             }
@@ -136,44 +158,57 @@ public abstract class AbstractElasticJobExecutor {
     
     private void execute(final ShardingContexts shardingContexts, final JobExecutionEvent.ExecutionSource executionSource) {
         if (shardingContexts.getShardingItemParameters().isEmpty()) {
-            if (shardingContexts.isAllowSendJobEvent()) {
-                jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format("Sharding item for job '%s' is empty.", jobName));
+            if (isJobStatusTraceEventRequired(shardingContexts)) {
+                jobFacade.postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, String.format("Sharding item for job '%s' is empty.", jobName));
             }
             return;
         }
         jobFacade.registerJobBegin(shardingContexts);
-        String taskId = shardingContexts.getTaskId();
-        if (shardingContexts.isAllowSendJobEvent()) {
-            jobFacade.postJobStatusTraceEvent(taskId, State.TASK_RUNNING, "");
+        if (isJobStatusTraceEventRequired(shardingContexts)) {
+            jobFacade.postJobStatusTraceEvent(shardingContexts, State.TASK_RUNNING, "");
         }
+        Map<Integer, String> itemErrorMessages = new ConcurrentHashMap<>(shardingContexts.getShardingItemParameters().size(), 1);
+        long startNanoTime = System.nanoTime();
         try {
-            process(shardingContexts, executionSource);
+            process(shardingContexts, executionSource, itemErrorMessages);
         } finally {
+            jobMetrics.recordExecutionTime(System.nanoTime() - startNanoTime);
             // TODO 考虑增加作业失败的状态，并且考虑如何处理作业失败的整体回路
             jobFacade.registerJobCompleted(shardingContexts);
             if (itemErrorMessages.isEmpty()) {
-                if (shardingContexts.isAllowSendJobEvent()) {
-                    jobFacade.postJobStatusTraceEvent(taskId, State.TASK_FINISHED, "");
+                if (isJobStatusTraceEventRequired(shardingContexts)) {
+                    jobFacade.postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, "");
                 }
             } else {
-                if (shardingContexts.isAllowSendJobEvent()) {
-                    jobFacade.postJobStatusTraceEvent(taskId, State.TASK_ERROR, itemErrorMessages.toString());
+                if (isJobStatusTraceEventRequired(shardingContexts)) {
+                    jobFacade.postJobStatusTraceEvent(shardingContexts, State.TASK_ERROR, itemErrorMessages.toString());
                 }
             }
         }
     }
     
-    private void process(final ShardingContexts shardingContexts, final JobExecutionEvent.ExecutionSource executionSource) {
+    private boolean isJobStatusTraceEventRequired(final ShardingContexts shardingContexts) {
+        return shardingContexts.isAllowSendJobEvent() && (jobFacade.isJobEventEnabled() || jobFacade.isJobStatusTraceLogEnabled());
+    }
+    
+    /*
+     * 分片项错误信息按每次执行单独收集, 超时未响应中断的分片项不会影响后续执行的结果.
+     */
+    private void process(final ShardingContexts shardingContexts, final JobExecutionEvent.ExecutionSource executionSource, final Map<Integer, String> itemErrorMessages) {
         Collection<Integer> items = shardingContexts.getShardingItemParameters().keySet();
+        if (shardingItemTimeoutMilliseconds > 0L) {
+            processWithTimeout(shardingContexts, executionSource, items, itemErrorMessages);
+            return;
+        }
+        boolean jobEventEnabled = jobFacade.isJobEventEnabled();
         if (1 == items.size()) {
             int item = shardingContexts.getShardingItemParameters().keySet().iterator().next();
-            JobExecutionEvent jobExecutionEvent =  new JobExecutionEvent(shardingContexts.getTaskId(), jobName, executionSource, item);
-            process(shardingContexts, item, jobExecutionEvent);
+            process(shardingContexts, item, createJobExecutionEvent(jobEventEnabled, shardingContexts, executionSource, item), itemErrorMessages);
             return;
         }
         final CountDownLatch latch = new CountDownLatch(items.size());
         for (final int each : items) {
-            final JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(shardingContexts.getTaskId(), jobName, executionSource, each);
+            final JobExecutionEvent jobExecutionEvent = createJobExecutionEvent(jobEventEnabled, shardingContexts, executionSource, each);
             if (executorService.isShutdown()) {
                 return;
             }
@@ -182,7 +217,7 @@ public abstract class AbstractElasticJobExecutor {
                 @Override
                 public void run() {
                     try {
-                        process(shardingContexts, each, jobExecutionEvent);
+                        process(shardingContexts, each, jobExecutionEvent, itemErrorMessages);
                     } finally {
                         latch.countDown();
                     }
@@ -196,26 +231,118 @@ public abstract class AbstractElasticJobExecutor {
         }
     }
     
-    private void process(final ShardingContexts shardingContexts, final int item, final JobExecutionEvent startEvent) {
-        if (shardingContexts.isAllowSendJobEvent()) {
+    private JobExecutionEvent createJobExecutionEvent(final boolean jobEventEnabled, final ShardingContexts shardingContexts, final JobExecutionEvent.ExecutionSource executionSource, final int item) {
+        return jobEventEnabled ? new JobExecutionEvent(shardingContexts.getTaskId(), jobName, executionSource, item) : null;
+    }
+    
+    /*
+     * 分片项从提交时计时, 超时后取消并按执行失败处理, 已完成的分片项不受影响.
+     * 线程池繁忙时仍在排队的分片项同样会超时, 取消后不会再执行.
+     * 自行创建FutureTask提交, 使取消时总能中断执行分片项的线程, 不依赖线程池的任务包装实现.
+     */
+    private void processWithTimeout(final ShardingContexts shardingContexts, final JobExecutionEvent.ExecutionSource executionSource, final Collection<Integer> items, 
+                                    final Map<Integer, String> itemErrorMessages) {
+        boolean jobEventEnabled = jobFacade.isJobEventEnabled();
+        Map<Integer, Long> submitTimes = new HashMap<>(items.size(), 1);
+        final BlockingQueue<Future<Void>> completedItems = new LinkedBlockingQueue<>();
+        Map<Future<Void>, Integer> runningItems = new HashMap<>(items.size(), 1);
+        Map<Integer, JobExecutionEvent> jobExecutionEvents = new HashMap<>(items.size(), 1);
+        for (final int each : items) {
+            final JobExecutionEvent jobExecutionEvent = createJobExecutionEvent(jobEventEnabled, shardingContexts, executionSource, each);
+            if (executorService.isShutdown()) {
+                break;
+            }
+            FutureTask<Void> futureTask = new FutureTask<Void>(new Callable<Void>() {
+                
+                @Override
+                public Void call() {
+                    process(shardingContexts, each, jobExecutionEvent, itemErrorMessages);
+                    return null;
+                }
+            }) {
+                
+                @Override
+                protected void done() {
+                    completedItems.add(this);
+                }
+            };
+            submitTimes.put(each, System.currentTimeMillis());
+            executorService.execute(futureTask);
+            runningItems.put(futureTask, each);
+            jobExecutionEvents.put(each, jobExecutionEvent);
+        }
+        try {
+            while (!runningItems.isEmpty()) {
+                Future<Void> completedFuture = completedItems.poll(getWaitingMilliseconds(runningItems.values(), submitTimes), TimeUnit.MILLISECONDS);
+                if (null != completedFuture) {
+                    runningItems.remove(completedFuture);
+                }
+                cancelTimeoutItems(shardingContexts, runningItems, jobExecutionEvents, submitTimes, itemErrorMessages);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private long getWaitingMilliseconds(final Collection<Integer> runningItems, final Map<Integer, Long> submitTimes) {
+        long result = shardingItemTimeoutMilliseconds;
+        long currentTimeMillis = System.currentTimeMillis();
+        for (Integer each : runningItems) {
+            result = Math.min(result, submitTimes.get(each) + shardingItemTimeoutMilliseconds - currentTimeMillis);
+        }
+        return Math.max(result, 1L);
+    }
+    
+    private void cancelTimeoutItems(final ShardingContexts shardingContexts, final Map<Future<Void>, Integer> runningItems, 
+                                    final Map<Integer, JobExecutionEvent> jobExecutionEvents, final Map<Integer, Long> submitTimes, final Map<Integer, String> itemErrorMessages) {
+        long currentTimeMillis = System.currentTimeMillis();
+        Iterator<Entry<Future<Void>, Integer>> iterator = runningItems.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Future<Void>, Integer> entry = iterator.next();
+            int item = entry.getValue();
+            if (currentTimeMillis - submitTimes.get(item) < shardingItemTimeoutMilliseconds) {
+                continue;
+            }
+            iterator.remove();
+            if (entry.getKey().cancel(true)) {
+                JobSystemException cause = new JobSystemException("Job '%s' sharding item '%d' execute timeout after %d milliseconds.", jobName, item, shardingItemTimeoutMilliseconds);
+                JobExecutionEvent startEvent = jobExecutionEvents.get(item);
+                if (null != startEvent && shardingContexts.isAllowSendJobEvent()) {
+                    jobFacade.postJobExecutionEvent(startEvent.executionFailure(cause));
+                }
+                jobMetrics.recordItemFailure();
+                itemErrorMessages.put(item, ExceptionUtil.transform(cause));
+                jobExceptionHandler.handleException(jobName, cause);
+            }
+        }
+    }
+    
+    /*
+     * 未启用作业事件时startEvent为null, 不再创建及发布执行事件.
+     */
+    private void process(final ShardingContexts shardingContexts, final int item, final JobExecutionEvent startEvent, final Map<Integer, String> itemErrorMessages) {
+        if (null != startEvent && shardingContexts.isAllowSendJobEvent()) {
             jobFacade.postJobExecutionEvent(startEvent);
         }
         log.trace("Job '{}' executing, item is: '{}'.", jobName, item);
-        JobExecutionEvent completeEvent;
+        long startNanoTime = System.nanoTime();
         try {
             process(new ShardingContext(shardingContexts, item));
-            completeEvent = startEvent.executionSuccess();
             log.trace("Job '{}' executed, item is: '{}'.", jobName, item);
-            if (shardingContexts.isAllowSendJobEvent()) {
-                jobFacade.postJobExecutionEvent(completeEvent);
+            if (null != startEvent && shardingContexts.isAllowSendJobEvent()) {
+                jobFacade.postJobExecutionEvent(startEvent.executionSuccess());
             }
             // CHECKSTYLE:OFF
         } catch (final Throwable cause) {
             // CHECKSTYLE:ON
-            completeEvent = startEvent.executionFailure(cause);
-            jobFacade.postJobExecutionEvent(completeEvent);
+            if (null != startEvent) {
+                jobFacade.postJobExecutionEvent(startEvent.executionFailure(cause));
+            }
+            jobMetrics.recordItemFailure();
             itemErrorMessages.put(item, ExceptionUtil.transform(cause));
             jobExceptionHandler.handleException(jobName, cause);
+        } finally {
+            jobMetrics.recordItemExecutionTime(item, System.nanoTime() - startNanoTime);
         }
     }
     
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor;
+
+import io.elasticjob.lite.api.ElasticJob;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 作业执行器缓存.
+ * 
+ * <p>
+ * 作业执行器跨作业触发复用, 仅在作业配置变化时重新创建, 避免每次触发重复解析配置及反射创建处理器.
+ * 作业配置从缓存读取时同一配置版本返回同一对象, 因此以配置对象是否相同判断配置版本是否变化.
+ * 同一作业不会并发执行, 缓存的执行器不会被并发调用.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class JobExecutorCache {
+    
+    private final ElasticJob elasticJob;
+    
+    private final JobFacade jobFacade;
+    
+    private AbstractElasticJobExecutor jobExecutor;
+    
+    /**
+     * 获取作业执行器.
+     * 
+     * @return 作业执行器
+     */
+    public synchronized AbstractElasticJobExecutor getJobExecutor() {
+        if (null == jobExecutor || jobExecutor.getJobRootConfig() != jobFacade.loadJobRootConfiguration(true)) {
+            jobExecutor = JobExecutorFactory.getJobExecutor(elasticJob, jobFacade);
+        }
+        return jobExecutor;
+    }
+}
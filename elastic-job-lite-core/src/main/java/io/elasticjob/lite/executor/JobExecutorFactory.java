@@ -21,6 +21,8 @@ import io.elasticjob.lite.api.ElasticJob;
 import io.elasticjob.lite.api.dataflow.DataflowJob;
 import io.elasticjob.lite.api.simple.SimpleJob;
 import io.elasticjob.lite.exception.JobConfigurationException;
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistry;
+import io.elasticjob.lite.executor.type.AdaptiveBatchControllerRegistry;
 import io.elasticjob.lite.executor.type.DataflowJobExecutor;
 import io.elasticjob.lite.executor.type.ScriptJobExecutor;
 import io.elasticjob.lite.executor.type.SimpleJobExecutor;
@@ -55,4 +57,18 @@ public final class JobExecutorFactory {
         }
         throw new JobConfigurationException("Cannot support job type '%s'", elasticJob.getClass().getCanonicalName());
     }
+    
+    /**
+     * 释放作业执行器跨作业触发保留的资源.
+     * 
+     * <p>
+     * 包括作业内部处理数据使用的线程池服务及数据流作业的自适应批次控制器.
+     * </p>
+     *
+     * @param jobName 作业名称
+     */
+    public static void release(final String jobName) {
+        ExecutorServiceHandlerRegistry.removeInnerExecutorServices(jobName);
+        AdaptiveBatchControllerRegistry.remove(jobName);
+    }
 }
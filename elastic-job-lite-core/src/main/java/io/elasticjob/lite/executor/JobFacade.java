@@ -124,6 +124,28 @@ public interface JobFacade {
      */
     void afterJobExecuted(ShardingContexts shardingContexts);
     
+    /**
+     * 判断是否启用作业事件.
+     * 
+     * <p>
+     * 未启用时无需构建作业事件及事件消息.
+     * </p>
+     *
+     * @return 是否启用作业事件
+     */
+    boolean isJobEventEnabled();
+    
+    /**
+     * 判断是否启用作业状态追踪日志.
+     * 
+     * <p>
+     * 作业事件未启用时, 仍需发布作业状态追踪以输出追踪日志, 但不构建作业事件.
+     * </p>
+     *
+     * @return 是否启用作业状态追踪日志
+     */
+    boolean isJobStatusTraceLogEnabled();
+    
     /**
      * 发布执行事件.
      *
@@ -139,4 +161,17 @@ public interface JobFacade {
      * @param message 作业执行消息
      */
     void postJobStatusTraceEvent(String taskId, State state, String message);
+    
+    /**
+     * 发布作业状态追踪事件.
+     * 
+     * <p>
+     * 优先使用分片上下文中的任务描述, 无需解析作业Id.
+     * </p>
+     *
+     * @param shardingContexts 分片上下文
+     * @param state 作业执行状态
+     * @param message 作业执行消息
+     */
+    void postJobStatusTraceEvent(ShardingContexts shardingContexts, State state, String message);
 }
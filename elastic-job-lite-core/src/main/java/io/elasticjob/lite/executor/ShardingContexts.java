@@ -17,8 +17,8 @@
 
 package io.elasticjob.lite.executor;
 
+import io.elasticjob.lite.context.TaskDescriptor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
@@ -30,7 +30,6 @@ import java.util.Map;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 @Getter
 @ToString
 public final class ShardingContexts implements Serializable {
@@ -66,7 +65,13 @@ public final class ShardingContexts implements Serializable {
     /**
      * 作业事件采样统计数.
      */
-    private int jobEventSamplingCount;
+    private final int jobEventSamplingCount;
+    
+    /**
+     * 任务描述.
+     * 为null时发布作业状态痕迹事件需解析任务主键.
+     */
+    private final TaskDescriptor taskDescriptor;
     
     /**
      * 当前作业事件采样统计数.
@@ -80,13 +85,23 @@ public final class ShardingContexts implements Serializable {
     @Setter
     private boolean allowSendJobEvent = true;
     
+    public ShardingContexts(final String taskId, final String jobName, final int shardingTotalCount, final String jobParameter, final Map<Integer, String> shardingItemParameters) {
+        this(taskId, jobName, shardingTotalCount, jobParameter, shardingItemParameters, 0);
+    }
+    
     public ShardingContexts(final String taskId, final String jobName, final int shardingTotalCount, final String jobParameter, 
                             final Map<Integer, String> shardingItemParameters, final int jobEventSamplingCount) {
+        this(taskId, jobName, shardingTotalCount, jobParameter, shardingItemParameters, jobEventSamplingCount, null);
+    }
+    
+    public ShardingContexts(final String taskId, final String jobName, final int shardingTotalCount, final String jobParameter, 
+                            final Map<Integer, String> shardingItemParameters, final int jobEventSamplingCount, final TaskDescriptor taskDescriptor) {
         this.taskId = taskId;
         this.jobName = jobName;
         this.shardingTotalCount = shardingTotalCount;
         this.jobParameter = jobParameter;
         this.shardingItemParameters = shardingItemParameters;
         this.jobEventSamplingCount = jobEventSamplingCount;
+        this.taskDescriptor = taskDescriptor;
     }
 }
@@ -17,12 +17,20 @@
 
 package io.elasticjob.lite.executor.handler;
 
+import com.google.common.base.Joiner;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 线程池服务处理器注册表.
@@ -48,6 +56,70 @@ public final class ExecutorServiceHandlerRegistry {
         return REGISTRY.get(jobName);
     }
     
+    /**
+     * 获取作业分片项内并行处理数据的线程池服务.
+     * 
+     * <p>
+     * 每个分片项使用独立的线程池, 并发数变化时关闭原线程池并重新创建.
+     * </p>
+     * 
+     * @param jobName 作业名称
+     * @param item 分片项
+     * @param concurrency 处理数据的并发数
+     * @return 线程池服务
+     */
+    public static synchronized ExecutorService getProcessExecutorService(final String jobName, final int item, final int concurrency) {
+        String key = Joiner.on("/").join(jobName, "process", item);
+        ThreadPoolExecutor result = (ThreadPoolExecutor) REGISTRY.get(key);
+        if (null != result && result.getMaximumPoolSize() == concurrency) {
+            return result;
+        }
+        if (null != result) {
+            result.shutdown();
+        }
+        result = new ThreadPoolExecutor(concurrency, concurrency, 5L, TimeUnit.MINUTES, new LinkedBlockingQueue<Runnable>(), 
+                new BasicThreadFactory.Builder().namingPattern(Joiner.on("-").join("inner-job", jobName, "process", item, "%s")).daemon(true).build());
+        result.allowCoreThreadTimeOut(true);
+        REGISTRY.put(key, result);
+        return result;
+    }
+    
+    /**
+     * 获取作业流式处理时预取数据的线程池服务.
+     * 
+     * <p>
+     * 预取线程在作业触发间复用, 空闲时自动回收.
+     * </p>
+     * 
+     * @param jobName 作业名称
+     * @return 线程池服务
+     */
+    public static synchronized ExecutorService getPrefetchExecutorService(final String jobName) {
+        String key = Joiner.on("/").join(jobName, "prefetch");
+        if (!REGISTRY.containsKey(key)) {
+            REGISTRY.put(key, new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1L, TimeUnit.MINUTES, new SynchronousQueue<Runnable>(), 
+                    new BasicThreadFactory.Builder().namingPattern(Joiner.on("-").join("inner-job", jobName, "prefetch", "%s")).daemon(true).build()));
+        }
+        return REGISTRY.get(key);
+    }
+    
+    /**
+     * 从注册表中删除并关闭该作业内部处理数据使用的线程池服务.
+     * 
+     * @param jobName 作业名称
+     */
+    public static synchronized void removeInnerExecutorServices(final String jobName) {
+        String keyPrefix = jobName + "/";
+        Iterator<Entry<String, ExecutorService>> iterator = REGISTRY.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, ExecutorService> entry = iterator.next();
+            if (entry.getKey().startsWith(keyPrefix)) {
+                entry.getValue().shutdown();
+                iterator.remove();
+            }
+        }
+    }
+    
     /**
      * 从注册表中删除该作业线程池服务.
      *
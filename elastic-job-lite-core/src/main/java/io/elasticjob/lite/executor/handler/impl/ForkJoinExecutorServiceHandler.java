@@ -0,0 +1,51 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.handler.impl;
+
+import com.google.common.base.Joiner;
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于工作窃取的线程池服务处理器.
+ * 
+ * <p>
+ * 分片项执行时长不均匀时, 空闲线程可窃取其他线程队列中的分片项执行, 避免出现部分线程空闲.
+ * </p>
+ */
+public final class ForkJoinExecutorServiceHandler implements ExecutorServiceHandler {
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName) {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors() * 2, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            
+            private final AtomicInteger threadIndex = new AtomicInteger();
+            
+            @Override
+            public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+                ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                result.setName(Joiner.on("-").join("inner-job", jobName, threadIndex.incrementAndGet()));
+                return result;
+            }
+        }, null, true);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.handler.impl;
+
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 基于虚拟线程的线程池服务处理器.
+ * 
+ * <p>
+ * 每个分片项使用一个虚拟线程执行, 适用于阻塞在数据库或网络调用上的作业.
+ * JDK不支持虚拟线程时使用默认线程池服务处理器.
+ * </p>
+ */
+@Slf4j
+public final class VirtualThreadExecutorServiceHandler implements ExecutorServiceHandler {
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName) {
+        try {
+            return createVirtualThreadExecutorService(jobName);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Virtual thread is not supported by current JDK, job '{}' use default executor service instead.", jobName);
+            return new DefaultExecutorServiceHandler().createExecutorService(jobName);
+        }
+    }
+    
+    private ExecutorService createVirtualThreadExecutorService(final String jobName) throws ReflectiveOperationException {
+        Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> threadBuilderClass = Class.forName("java.lang.Thread$Builder");
+        threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class).invoke(threadBuilder, "inner-job-" + jobName + "-", 1L);
+        ThreadFactory threadFactory = (ThreadFactory) threadBuilderClass.getMethod("factory").invoke(threadBuilder);
+        Method newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) newThreadPerTaskExecutorMethod.invoke(null, threadFactory);
+    }
+}
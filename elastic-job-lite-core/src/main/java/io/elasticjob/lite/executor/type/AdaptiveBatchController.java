@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.type;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import lombok.Getter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 数据流作业自适应批次控制器.
+ * 
+ * <p>
+ * 根据处理数据的实际耗时与目标耗时调整各分片项的建议批次数量, 单次调整幅度在当前数量的1/2至2倍之间, 
+ * 调整范围为1至配置批次数量的10倍, 且不超过目标耗时内允许处理的数据数量.
+ * 每秒处理数据数量超过上限时, 处理数据前按令牌桶等待.
+ * </p>
+ */
+public final class AdaptiveBatchController {
+    
+    private static final int MAX_BATCH_SIZE_FACTOR = 10;
+    
+    @Getter
+    private final int batchSize;
+    
+    @Getter
+    private final int processTargetMilliseconds;
+    
+    @Getter
+    private final int maxRecordsPerSecond;
+    
+    private final RateLimiter rateLimiter;
+    
+    private final ConcurrentMap<Integer, Integer> suggestedBatchSizes = new ConcurrentHashMap<>();
+    
+    public AdaptiveBatchController(final int batchSize, final int processTargetMilliseconds, final int maxRecordsPerSecond) {
+        this.batchSize = batchSize;
+        this.processTargetMilliseconds = processTargetMilliseconds;
+        this.maxRecordsPerSecond = maxRecordsPerSecond;
+        rateLimiter = maxRecordsPerSecond > 0 ? RateLimiter.create(maxRecordsPerSecond) : null;
+    }
+    
+    /**
+     * 判断配置是否与控制器一致.
+     * 
+     * @param dataflowConfig 数据流作业配置
+     * @return 配置是否与控制器一致
+     */
+    public boolean isSameConfiguration(final DataflowJobConfiguration dataflowConfig) {
+        return batchSize == dataflowConfig.getBatchSize() && processTargetMilliseconds == dataflowConfig.getProcessTargetMilliseconds() 
+                && maxRecordsPerSecond == dataflowConfig.getMaxRecordsPerSecond();
+    }
+    
+    /**
+     * 获取分片项的建议批次数量.
+     * 
+     * @param shardingItem 分片项
+     * @return 建议批次数量, 0表示不建议
+     */
+    public int getSuggestedBatchSize(final int shardingItem) {
+        if (batchSize <= 0) {
+            return 0;
+        }
+        Integer result = suggestedBatchSizes.get(shardingItem);
+        return null == result ? Math.min(batchSize, getMaxBatchSize()) : result;
+    }
+    
+    /**
+     * 处理数据前获取令牌, 超出每秒处理数据数量上限时等待.
+     * 
+     * @param records 待处理数据数量
+     */
+    public void acquire(final int records) {
+        if (null != rateLimiter && records > 0) {
+            rateLimiter.acquire(records);
+        }
+    }
+    
+    /**
+     * 根据处理数据的实际耗时调整分片项的建议批次数量.
+     * 
+     * @param shardingItem 分片项
+     * @param records 已处理数据数量
+     * @param elapsedNanos 处理数据耗时纳秒数
+     */
+    public void adjust(final int shardingItem, final int records, final long elapsedNanos) {
+        if (batchSize <= 0 || processTargetMilliseconds <= 0 || records <= 0) {
+            return;
+        }
+        int current = getSuggestedBatchSize(shardingItem);
+        long target = elapsedNanos <= 0L ? current * 2L : (long) ((double) records * TimeUnit.MILLISECONDS.toNanos(processTargetMilliseconds) / elapsedNanos);
+        long next = Math.max(current / 2, Math.min(current * 2L, target));
+        suggestedBatchSizes.put(shardingItem, (int) Math.max(1L, Math.min(getMaxBatchSize(), next)));
+    }
+    
+    private int getMaxBatchSize() {
+        long result = (long) batchSize * MAX_BATCH_SIZE_FACTOR;
+        if (maxRecordsPerSecond > 0 && processTargetMilliseconds > 0) {
+            result = Math.min(result, (long) maxRecordsPerSecond * processTargetMilliseconds / 1000L);
+        }
+        return (int) Math.max(1L, Math.min(Integer.MAX_VALUE, result));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.type;
+
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 数据流作业自适应批次控制器注册表.
+ * 
+ * <p>
+ * 控制器跨作业触发保留各分片项的建议批次数量, 配置变化时重新创建.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdaptiveBatchControllerRegistry {
+    
+    private static final Map<String, AdaptiveBatchController> REGISTRY = new HashMap<>();
+    
+    /**
+     * 获取自适应批次控制器.
+     * 
+     * @param jobName 作业名称
+     * @param dataflowConfig 数据流作业配置
+     * @return 自适应批次控制器
+     */
+    public static synchronized AdaptiveBatchController getAdaptiveBatchController(final String jobName, final DataflowJobConfiguration dataflowConfig) {
+        AdaptiveBatchController result = REGISTRY.get(jobName);
+        if (null == result || !result.isSameConfiguration(dataflowConfig)) {
+            result = new AdaptiveBatchController(dataflowConfig.getBatchSize(), dataflowConfig.getProcessTargetMilliseconds(), dataflowConfig.getMaxRecordsPerSecond());
+            REGISTRY.put(jobName, result);
+        }
+        return result;
+    }
+    
+    /**
+     * 从注册表中删除该作业自适应批次控制器.
+     * 
+     * @param jobName 作业名称
+     */
+    public static synchronized void remove(final String jobName) {
+        REGISTRY.remove(jobName);
+    }
+}
@@ -17,32 +17,64 @@
 
 package io.elasticjob.lite.executor.type;
 
+import com.google.common.collect.Lists;
 import io.elasticjob.lite.api.ShardingContext;
 import io.elasticjob.lite.api.dataflow.DataflowJob;
+import io.elasticjob.lite.api.dataflow.PartitionedDataflowJob;
 import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import io.elasticjob.lite.exception.JobSystemException;
 import io.elasticjob.lite.executor.AbstractElasticJobExecutor;
 import io.elasticjob.lite.executor.JobFacade;
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 数据流作业执行器.
  * 
  * @author zhangliang
  */
+@Slf4j
 public final class DataflowJobExecutor extends AbstractElasticJobExecutor {
     
+    private static final List<Object> END_OF_DATA = new ArrayList<>(0);
+    
+    private static final long PREFETCH_STOP_TIMEOUT_MILLISECONDS = 5000L;
+    
     private final DataflowJob<Object> dataflowJob;
     
+    private final AdaptiveBatchController adaptiveBatchController;
+    
+    private final ConcurrentMap<Integer, CountDownLatch> prefetchCompletedLatches = new ConcurrentHashMap<>();
+    
     public DataflowJobExecutor(final DataflowJob<Object> dataflowJob, final JobFacade jobFacade) {
         super(jobFacade);
         this.dataflowJob = dataflowJob;
+        DataflowJobConfiguration dataflowConfig = (DataflowJobConfiguration) getJobRootConfig().getTypeConfig();
+        adaptiveBatchController = AdaptiveBatchControllerRegistry.getAdaptiveBatchController(dataflowConfig.getCoreConfig().getJobName(), dataflowConfig);
     }
     
     @Override
     protected void process(final ShardingContext shardingContext) {
         DataflowJobConfiguration dataflowConfig = (DataflowJobConfiguration) getJobRootConfig().getTypeConfig();
-        if (dataflowConfig.isStreamingProcess()) {
+        if (dataflowConfig.isStreamingProcess() && dataflowConfig.getStreamingPrefetchDepth() > 0) {
+            pipelinedStreamingExecute(shardingContext, dataflowConfig.getStreamingPrefetchDepth());
+        } else if (dataflowConfig.isStreamingProcess()) {
             streamingExecute(shardingContext);
         } else {
             oneOffExecute(shardingContext);
@@ -60,6 +92,78 @@ public final class DataflowJobExecutor extends AbstractElasticJobExecutor {
         }
     }
     
+    /*
+     * 预取线程持续获取数据放入有界队列, 当前线程处理数据, 队列满时预取线程阻塞.
+     * 作业不再满足运行条件或处理数据出错时停止预取, 已预取但未处理的数据将被丢弃.
+     * 同一分片项上次触发的预取结束前不会开始新的预取.
+     */
+    private void pipelinedStreamingExecute(final ShardingContext shardingContext, final int prefetchDepth) {
+        BlockingQueue<List<Object>> prefetchQueue = new ArrayBlockingQueue<>(prefetchDepth);
+        AtomicReference<Throwable> fetchFailureCause = new AtomicReference<>();
+        PrefetchTask prefetchTask = new PrefetchTask(shardingContext, prefetchQueue, fetchFailureCause);
+        Future<?> prefetchFuture;
+        try {
+            prefetchFuture = startPrefetch(shardingContext, prefetchTask);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            List<Object> data = prefetchQueue.take();
+            while (END_OF_DATA != data) {
+                processData(shardingContext, data);
+                if (!getJobFacade().isEligibleForJobRunning()) {
+                    return;
+                }
+                data = prefetchQueue.take();
+            }
+            if (fetchFailureCause.get() instanceof RuntimeException) {
+                throw (RuntimeException) fetchFailureCause.get();
+            }
+            if (null != fetchFailureCause.get()) {
+                throw new JobSystemException(fetchFailureCause.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            prefetchFuture.cancel(true);
+            stopPrefetch(shardingContext, prefetchTask);
+        }
+    }
+    
+    private Future<?> startPrefetch(final ShardingContext shardingContext, final PrefetchTask prefetchTask) throws InterruptedException {
+        CountDownLatch previousPrefetchCompletedLatch = prefetchCompletedLatches.put(shardingContext.getShardingItem(), prefetchTask.completedLatch);
+        boolean submitted = false;
+        try {
+            if (null != previousPrefetchCompletedLatch) {
+                previousPrefetchCompletedLatch.await();
+            }
+            Future<?> result = ExecutorServiceHandlerRegistry.getPrefetchExecutorService(shardingContext.getJobName()).submit(prefetchTask);
+            submitted = true;
+            return result;
+        } finally {
+            if (!submitted) {
+                prefetchTask.skip();
+            }
+        }
+    }
+    
+    private void stopPrefetch(final ShardingContext shardingContext, final PrefetchTask prefetchTask) {
+        boolean isInterrupted = Thread.interrupted();
+        try {
+            if (!prefetchTask.awaitStopped(PREFETCH_STOP_TIMEOUT_MILLISECONDS)) {
+                log.warn("Job '{}' sharding item '{}' prefetch is still running after {} milliseconds, next prefetch will wait for it.", 
+                        shardingContext.getJobName(), shardingContext.getShardingItem(), PREFETCH_STOP_TIMEOUT_MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            isInterrupted = true;
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
     private void oneOffExecute(final ShardingContext shardingContext) {
         List<Object> data = fetchData(shardingContext);
         if (null != data && !data.isEmpty()) {
@@ -68,10 +172,158 @@ public final class DataflowJobExecutor extends AbstractElasticJobExecutor {
     }
     
     private List<Object> fetchData(final ShardingContext shardingContext) {
-        return dataflowJob.fetchData(shardingContext);
+        return dataflowJob.fetchData(new ShardingContext(shardingContext, adaptiveBatchController.getSuggestedBatchSize(shardingContext.getShardingItem())));
     }
     
     private void processData(final ShardingContext shardingContext, final List<Object> data) {
-        dataflowJob.processData(shardingContext, data);
+        adaptiveBatchController.acquire(data.size());
+        long startNanoTime = System.nanoTime();
+        int processConcurrency = ((DataflowJobConfiguration) getJobRootConfig().getTypeConfig()).getProcessConcurrency();
+        if (processConcurrency > 1 && data.size() > 1) {
+            parallelProcessData(shardingContext, splitData(data, Math.min(processConcurrency, data.size())), processConcurrency);
+        } else {
+            dataflowJob.processData(shardingContext, data);
+        }
+        adaptiveBatchController.adjust(shardingContext.getShardingItem(), data.size(), System.nanoTime() - startNanoTime);
+    }
+    
+    /*
+     * 作业实现PartitionedDataflowJob时按分区键拆分子批次, 相同分区键的数据在同一子批次中保持原有顺序; 否则按顺序均匀拆分.
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> splitData(final List<Object> data, final int subBatchCount) {
+        if (!(dataflowJob instanceof PartitionedDataflowJob)) {
+            return Lists.partition(data, (data.size() + subBatchCount - 1) / subBatchCount);
+        }
+        PartitionedDataflowJob<Object> partitionedDataflowJob = (PartitionedDataflowJob<Object>) dataflowJob;
+        List<List<Object>> result = new ArrayList<>(subBatchCount);
+        for (int i = 0; i < subBatchCount; i++) {
+            result.add(new ArrayList<>());
+        }
+        for (Object each : data) {
+            Object partitionKey = partitionedDataflowJob.getPartitionKey(each);
+            int hashCode = null == partitionKey ? 0 : partitionKey.hashCode();
+            result.get((hashCode & Integer.MAX_VALUE) % subBatchCount).add(each);
+        }
+        Iterator<List<Object>> iterator = result.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isEmpty()) {
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+    
+    /*
+     * 等待全部子批次处理完成, 多个子批次处理失败时首个异常作为分片异常抛出, 其余异常作为其抑制异常.
+     * 等待时被中断则取消其余子批次并抛出异常, 避免未处理完的数据被当作处理成功.
+     */
+    private void parallelProcessData(final ShardingContext shardingContext, final List<List<Object>> subBatches, final int processConcurrency) {
+        ExecutorService executorService = ExecutorServiceHandlerRegistry.getProcessExecutorService(shardingContext.getJobName(), shardingContext.getShardingItem(), processConcurrency);
+        List<Future<?>> futures = new ArrayList<>(subBatches.size());
+        for (final List<Object> each : subBatches) {
+            futures.add(executorService.submit(new Runnable() {
+                
+                @Override
+                public void run() {
+                    dataflowJob.processData(shardingContext, each);
+                }
+            }));
+        }
+        Throwable failureCause = null;
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelAll(futures);
+                throw new JobSystemException(ex);
+            } catch (final ExecutionException ex) {
+                if (null == failureCause) {
+                    failureCause = ex.getCause();
+                } else if (failureCause != ex.getCause()) {
+                    failureCause.addSuppressed(ex.getCause());
+                }
+            }
+        }
+        if (failureCause instanceof RuntimeException) {
+            throw (RuntimeException) failureCause;
+        }
+        if (null != failureCause) {
+            throw new JobSystemException(failureCause);
+        }
+    }
+    
+    private void cancelAll(final List<Future<?>> futures) {
+        for (Future<?> each : futures) {
+            each.cancel(true);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class PrefetchTask implements Runnable {
+        
+        private final ShardingContext shardingContext;
+        
+        private final BlockingQueue<List<Object>> prefetchQueue;
+        
+        private final AtomicReference<Throwable> fetchFailureCause;
+        
+        private final AtomicBoolean started = new AtomicBoolean();
+        
+        private final CountDownLatch completedLatch = new CountDownLatch(1);
+        
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                fetch();
+            } finally {
+                completedLatch.countDown();
+            }
+        }
+        
+        /*
+         * 任务尚未开始执行时直接标记为已结束, 之后不再执行.
+         */
+        boolean skip() {
+            if (started.compareAndSet(false, true)) {
+                completedLatch.countDown();
+                return true;
+            }
+            return false;
+        }
+        
+        boolean awaitStopped(final long timeoutMilliseconds) throws InterruptedException {
+            return skip() || completedLatch.await(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        }
+        
+        private void fetch() {
+            try {
+                fetchUntilEmpty();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+                // CHECKSTYLE:OFF
+            } catch (final Throwable cause) {
+                // CHECKSTYLE:ON
+                fetchFailureCause.set(cause);
+            }
+            try {
+                prefetchQueue.put(END_OF_DATA);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        private void fetchUntilEmpty() throws InterruptedException {
+            List<Object> data = fetchData(shardingContext);
+            while (null != data && !data.isEmpty()) {
+                prefetchQueue.put(data);
+                data = fetchData(shardingContext);
+            }
+        }
     }
 }
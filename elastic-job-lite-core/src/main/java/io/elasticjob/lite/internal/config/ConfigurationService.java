@@ -17,6 +17,7 @@
 
 package io.elasticjob.lite.internal.config;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Optional;
 import io.elasticjob.lite.config.LiteJobConfiguration;
 import io.elasticjob.lite.exception.JobConfigurationException;
@@ -24,6 +25,11 @@ import io.elasticjob.lite.exception.JobExecutionEnvironmentException;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import io.elasticjob.lite.util.env.TimeService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.curator.framework.recipes.cache.ChildData;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 弹性化分布式作业配置服务.
@@ -37,6 +43,8 @@ public final class ConfigurationService {
     
     private final JobNodeStorage jobNodeStorage;
     
+    private final AtomicReference<ConfigurationSnapshot> snapshot = new AtomicReference<>();
+    
     public ConfigurationService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         timeService = new TimeService();
@@ -45,12 +53,20 @@ public final class ConfigurationService {
     /**
      * 读取作业配置.
      * 
+     * <p>
+     * 从缓存中读取时, 同一配置节点版本只解析一次, 版本变化后替换为新解析的配置快照.
+     * </p>
+     * 
      * @param fromCache 是否从缓存中读取
      * @return 作业配置
      */
     public LiteJobConfiguration load(final boolean fromCache) {
         String result;
         if (fromCache) {
+            ChildData cachedData = jobNodeStorage.getJobNodeCachedData(ConfigurationNode.ROOT);
+            if (null != cachedData && null != cachedData.getData() && null != cachedData.getStat()) {
+                return loadSnapshot(cachedData);
+            }
             result = jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT);
             if (null == result) {
                 result = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
@@ -61,6 +77,19 @@ public final class ConfigurationService {
         return LiteJobConfigurationGsonFactory.fromJson(result);
     }
     
+    private LiteJobConfiguration loadSnapshot(final ChildData cachedData) {
+        long version = cachedData.getStat().getMzxid();
+        ConfigurationSnapshot current = snapshot.get();
+        if (null != current && current.getVersion() == version) {
+            return current.getLiteJobConfig();
+        }
+        LiteJobConfiguration result = LiteJobConfigurationGsonFactory.fromJson(new String(cachedData.getData(), Charsets.UTF_8));
+        if (null != result) {
+            snapshot.compareAndSet(current, new ConfigurationSnapshot(version, result));
+        }
+        return result;
+    }
+    
     /**
      * 持久化分布式作业配置信息.
      * 
@@ -109,4 +138,13 @@ public final class ConfigurationService {
                     "Time different between job server and register center exceed '%s' seconds, max time different is '%s' seconds.", timeDiff / 1000, maxTimeDiffSeconds);
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ConfigurationSnapshot {
+        
+        private final long version;
+        
+        private final LiteJobConfiguration liteJobConfig;
+    }
 }
@@ -56,6 +56,7 @@ public final class ElectionListenerManager extends AbstractListenerManager {
     public void start() {
         addDataListener(new LeaderElectionJobListener());
         addDataListener(new LeaderAbdicationJobListener());
+        addDataListener(new LeaderChangedJobListener());
     }
     
     class LeaderElectionJobListener extends AbstractJobListener {
@@ -97,4 +98,14 @@ public final class ElectionListenerManager extends AbstractListenerManager {
             return serverNode.isLocalServerPath(path) && ServerStatus.DISABLED.name().equals(data);
         }
     }
+    
+    class LeaderChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            if (!JobRegistry.getInstance().isShutdown(jobName) && leaderNode.isLeaderInstancePath(path)) {
+                JobRegistry.getInstance().getShardingStateChangeSignal(jobName).signalAll();
+            }
+        }
+    }
 }
@@ -22,7 +22,7 @@ import io.elasticjob.lite.internal.server.ServerService;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
 import io.elasticjob.lite.internal.storage.LeaderExecutionCallback;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
-import io.elasticjob.lite.util.concurrent.BlockUtils;
+import io.elasticjob.lite.util.concurrent.ChangeSignal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class LeaderService {
     
+    private static final long ELECTING_TIMEOUT_MILLISECONDS = 100L;
+    
     private final String jobName;
     
     private final ServerService serverService;
@@ -60,17 +62,21 @@ public final class LeaderService {
      * 
      * <p>
      * 如果主节点正在选举中而导致取不到主节点, 则阻塞至主节点选举完成再返回.
+     * 主节点变化时立即唤醒, 否则每次最多等待100毫秒后再次尝试选举.
      * </p>
      * 
      * @return 当前节点是否是主节点
      */
     public boolean isLeaderUntilBlock() {
+        ChangeSignal shardingStateChangeSignal = JobRegistry.getInstance().getShardingStateChangeSignal(jobName);
+        long version = shardingStateChangeSignal.getVersion();
         while (!hasLeader() && serverService.hasAvailableServers()) {
-            log.info("Leader is electing, waiting for {} ms", 100);
-            BlockUtils.waitingShortTime();
+            log.info("Leader is electing, waiting for {} ms", ELECTING_TIMEOUT_MILLISECONDS);
+            shardingStateChangeSignal.awaitChange(version, ELECTING_TIMEOUT_MILLISECONDS);
             if (!JobRegistry.getInstance().isShutdown(jobName) && serverService.isAvailableServer(JobRegistry.getInstance().getJobInstance(jobName).getIp())) {
                 electLeader();
             }
+            version = shardingStateChangeSignal.getVersion();
         }
         return isLeader();
     }
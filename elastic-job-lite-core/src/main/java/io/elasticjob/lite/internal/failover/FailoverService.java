@@ -17,12 +17,15 @@
 
 package io.elasticjob.lite.internal.failover;
 
+import com.google.common.base.Optional;
 import io.elasticjob.lite.internal.schedule.JobRegistry;
 import io.elasticjob.lite.internal.schedule.JobScheduleController;
 import io.elasticjob.lite.internal.sharding.ShardingNode;
 import io.elasticjob.lite.internal.sharding.ShardingService;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
 import io.elasticjob.lite.internal.storage.LeaderExecutionCallback;
+import io.elasticjob.lite.metrics.JobMetrics;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -86,9 +89,11 @@ public final class FailoverService {
      * @param items 执行完毕失效转移的分片项集合
      */
     public void updateFailoverComplete(final Collection<Integer> items) {
+        List<String> nodes = new ArrayList<>(items.size());
         for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getExecutionFailoverNode(each));
+            nodes.add(FailoverNode.getExecutionFailoverNode(each));
         }
+        jobNodeStorage.removeJobNodesIfExisted(nodes);
     }
     
     /**
@@ -132,7 +137,7 @@ public final class FailoverService {
         List<Integer> shardingItems = shardingService.getLocalShardingItems();
         List<Integer> result = new ArrayList<>(shardingItems.size());
         for (int each : shardingItems) {
-            if (jobNodeStorage.isJobNodeExisted(FailoverNode.getExecutionFailoverNode(each))) {
+            if (jobNodeStorage.isJobNodeExistedInCache(FailoverNode.getExecutionFailoverNode(each))) {
                 result.add(each);
             }
         }
@@ -159,6 +164,10 @@ public final class FailoverService {
             log.debug("Failover job '{}' begin, crashed item '{}'", jobName, crashedItem);
             jobNodeStorage.fillEphemeralJobNode(FailoverNode.getExecutionFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
             jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getItemsNode(crashedItem));
+            Optional<JobMetrics> jobMetrics = JobMetricsRegistry.getInstance().findJobMetrics(jobName);
+            if (jobMetrics.isPresent()) {
+                jobMetrics.get().recordFailover();
+            }
             // TODO 不应使用triggerJob, 而是使用executor统一调度
             JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
             if (null != jobScheduleController) {
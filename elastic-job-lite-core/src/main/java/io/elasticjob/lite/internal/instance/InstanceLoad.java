@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.instance;
+
+import com.google.common.base.Strings;
+import com.google.gson.JsonParseException;
+import io.elasticjob.lite.util.json.GsonFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 作业运行实例负载信息.
+ * 
+ * <p>
+ * 以JSON格式存储于作业运行实例节点, 供按负载能力分配分片项的分片策略使用.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public final class InstanceLoad {
+    
+    /**
+     * 作业实例权重的系统属性名称, 未配置时以CPU核数作为权重.
+     */
+    public static final String WEIGHT_PROPERTY_KEY = "elasticjob.instance.weight";
+    
+    /**
+     * 作业实例权重.
+     */
+    private final int weight;
+    
+    /**
+     * 分片项执行耗时的移动平均微秒数, 尚无记录时为0.
+     */
+    private final long itemExecutionLatency;
+    
+    /**
+     * 根据作业运行实例节点数据获取负载信息.
+     * 
+     * @param data 作业运行实例节点数据
+     * @return 负载信息, 节点数据不是负载信息时返回权重及耗时均为0的负载信息
+     */
+    public static InstanceLoad fromJson(final String data) {
+        if (Strings.isNullOrEmpty(data) || !data.startsWith("{")) {
+            return new InstanceLoad(0, 0L);
+        }
+        try {
+            return GsonFactory.getGson().fromJson(data, InstanceLoad.class);
+        } catch (final JsonParseException ex) {
+            return new InstanceLoad(0, 0L);
+        }
+    }
+    
+    /**
+     * 获取本作业实例的权重.
+     * 
+     * @return 本作业实例的权重, 配置的权重不是正整数时以CPU核数作为权重
+     */
+    public static int getLocalWeight() {
+        String weight = System.getProperty(WEIGHT_PROPERTY_KEY);
+        if (null == weight) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        int result;
+        try {
+            result = Integer.parseInt(weight.trim());
+        } catch (final NumberFormatException ex) {
+            result = 0;
+        }
+        if (result > 0) {
+            return result;
+        }
+        log.warn("Elastic job: instance weight '{}' of system property '{}' is not a positive integer, use available processors instead.", weight, WEIGHT_PROPERTY_KEY);
+        return Runtime.getRuntime().availableProcessors();
+    }
+    
+    /**
+     * 将负载信息转换为JSON字符串.
+     * 
+     * @return JSON字符串
+     */
+    public String toJson() {
+        return GsonFactory.getGson().toJson(this);
+    }
+}
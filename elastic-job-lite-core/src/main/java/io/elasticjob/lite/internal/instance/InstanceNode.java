@@ -67,6 +67,10 @@ public final class InstanceNode {
     }
     
     String getLocalInstanceNode() {
-        return String.format(INSTANCES, JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+        return getInstanceNode(JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+    }
+    
+    String getInstanceNode(final String jobInstanceId) {
+        return String.format(INSTANCES, jobInstanceId);
     }
 }
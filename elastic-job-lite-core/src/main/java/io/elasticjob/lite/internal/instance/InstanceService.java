@@ -17,10 +17,15 @@
 
 package io.elasticjob.lite.internal.instance;
 
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
 import io.elasticjob.lite.api.strategy.JobInstance;
 import io.elasticjob.lite.internal.server.ServerService;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
+import io.elasticjob.lite.metrics.JobMetrics;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+import org.apache.curator.framework.recipes.cache.ChildData;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -32,6 +37,10 @@ import java.util.List;
  */
 public final class InstanceService {
     
+    private static final int LATENCY_CHANGE_RATIO_DENOMINATOR = 5;
+    
+    private final String jobName;
+    
     private final JobNodeStorage jobNodeStorage;
     
     private final InstanceNode instanceNode;
@@ -39,6 +48,7 @@ public final class InstanceService {
     private final ServerService serverService;
     
     public InstanceService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         instanceNode = new InstanceNode(jobName);
         serverService = new ServerService(regCenter, jobName);
@@ -48,7 +58,37 @@ public final class InstanceService {
      * 持久化作业运行实例上线相关信息.
      */
     public void persistOnline() {
-        jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstanceNode(), "");
+        jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstanceNode(), getLocalInstanceLoad().toJson());
+    }
+    
+    /**
+     * 如果负载信息变化则更新作业运行实例节点.
+     * 
+     * <p>
+     * 仅在权重变化或分片项执行耗时的移动平均值变化超过20%时更新, 存在未处理的触发标记时不更新.
+     * 按读取时的节点版本更新, 读取后写入的触发标记不会被覆盖.
+     * </p>
+     */
+    public void persistLoadIfNecessary() {
+        ChildData childData = jobNodeStorage.getJobNodeCachedData(instanceNode.getLocalInstanceNode());
+        if (null == childData || null == childData.getData()) {
+            return;
+        }
+        String data = new String(childData.getData(), Charsets.UTF_8);
+        if (InstanceOperation.TRIGGER.name().equals(data)) {
+            return;
+        }
+        InstanceLoad publishedInstanceLoad = InstanceLoad.fromJson(data);
+        InstanceLoad localInstanceLoad = getLocalInstanceLoad();
+        if (publishedInstanceLoad.getWeight() != localInstanceLoad.getWeight() 
+                || Math.abs(localInstanceLoad.getItemExecutionLatency() - publishedInstanceLoad.getItemExecutionLatency()) * LATENCY_CHANGE_RATIO_DENOMINATOR > publishedInstanceLoad.getItemExecutionLatency()) {
+            jobNodeStorage.updateJobNodeIfVersionMatched(instanceNode.getLocalInstanceNode(), localInstanceLoad.toJson(), childData.getStat().getVersion());
+        }
+    }
+    
+    private InstanceLoad getLocalInstanceLoad() {
+        Optional<JobMetrics> jobMetrics = JobMetricsRegistry.getInstance().findJobMetrics(jobName);
+        return new InstanceLoad(InstanceLoad.getLocalWeight(), jobMetrics.isPresent() ? jobMetrics.get().getRollingItemExecutionLatency() : 0L);
     }
     
     /**
@@ -62,11 +102,15 @@ public final class InstanceService {
      * 清理作业触发标记.
      */
     public void clearTriggerFlag() {
-        jobNodeStorage.updateJobNode(instanceNode.getLocalInstanceNode(), "");
+        jobNodeStorage.updateJobNode(instanceNode.getLocalInstanceNode(), getLocalInstanceLoad().toJson());
     }
     
     /**
      * 获取可分片的作业运行实例.
+     * 
+     * <p>
+     * 作业运行实例包含其发布的负载信息.
+     * </p>
      *
      * @return 可分片的作业运行实例
      */
@@ -75,7 +119,8 @@ public final class InstanceService {
         for (String each : jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)) {
             JobInstance jobInstance = new JobInstance(each);
             if (serverService.isEnableServer(jobInstance.getIp())) {
-                result.add(new JobInstance(each));
+                InstanceLoad instanceLoad = InstanceLoad.fromJson(jobNodeStorage.getJobNodeData(instanceNode.getInstanceNode(each)));
+                result.add(new JobInstance(each, instanceLoad.getWeight(), instanceLoad.getItemExecutionLatency()));
             }
         }
         return result;
@@ -18,8 +18,12 @@
 package io.elasticjob.lite.internal.monitor;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import io.elasticjob.lite.internal.config.ConfigurationService;
 import io.elasticjob.lite.internal.util.SensitiveInfoUtils;
+import io.elasticjob.lite.metrics.JobMetrics;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
+import io.elasticjob.lite.metrics.LatencyHistogram;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.recipes.cache.ChildData;
@@ -34,6 +38,7 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 
 /**
  * 作业监控服务.
@@ -45,6 +50,8 @@ public final class MonitorService {
     
     public static final String DUMP_COMMAND = "dump";
     
+    public static final String METRICS_COMMAND = "metrics";
+    
     private final String jobName;
     
     private final CoordinatorRegistryCenter regCenter;
@@ -104,10 +111,42 @@ public final class MonitorService {
                 List<String> result = new ArrayList<>();
                 dumpDirectly("/" + jobName, result);
                 outputMessage(writer, Joiner.on("\n").join(SensitiveInfoUtils.filterSensitiveIps(result)) + "\n");
+            } else if (null != cmdLine && METRICS_COMMAND.equalsIgnoreCase(cmdLine)) {
+                outputMessage(writer, Joiner.on("\n").join(dumpMetrics()) + "\n");
             }
         }
     }
     
+    private List<String> dumpMetrics() {
+        Optional<JobMetrics> jobMetricsOptional = JobMetricsRegistry.getInstance().findJobMetrics(jobName);
+        List<String> result = new ArrayList<>();
+        if (!jobMetricsOptional.isPresent()) {
+            return result;
+        }
+        JobMetrics jobMetrics = jobMetricsOptional.get();
+        result.add(Joiner.on(" | ").join("fire_count", jobMetrics.getFireCount()));
+        result.add(Joiner.on(" | ").join("misfire_count", jobMetrics.getMisfireCount()));
+        result.add(Joiner.on(" | ").join("failover_count", jobMetrics.getFailoverCount()));
+        result.add(Joiner.on(" | ").join("item_failure_count", jobMetrics.getItemFailureCount()));
+        result.add(Joiner.on(" | ").join("registry_center_request_count", jobMetrics.getRegistryCenterRequestCount()));
+        result.add(Joiner.on(" | ").join("event_queue_depth", jobMetrics.getEventQueueDepth()));
+        result.add(Joiner.on(" | ").join("event_dropped_count", jobMetrics.getEventDroppedCount()));
+        result.add(Joiner.on(" | ").join("event_dispatched_count", jobMetrics.getEventDispatchedCount()));
+        result.add(Joiner.on(" | ").join("event_dispatch_latency_micros", 
+                String.format("mean=%d max=%d", jobMetrics.getMeanEventDispatchLatency(), jobMetrics.getMaxEventDispatchLatency())));
+        result.add(Joiner.on(" | ").join("coordination_latency_micros", formatLatency(jobMetrics.getCoordinationLatency())));
+        result.add(Joiner.on(" | ").join("execution_latency_micros", formatLatency(jobMetrics.getExecutionLatency())));
+        for (Entry<Integer, LatencyHistogram> entry : jobMetrics.getItemExecutionLatencies().entrySet()) {
+            result.add(Joiner.on(" | ").join("item_execution_latency_micros/" + entry.getKey(), formatLatency(entry.getValue())));
+        }
+        return result;
+    }
+    
+    private String formatLatency(final LatencyHistogram latencyHistogram) {
+        return String.format("count=%d mean=%.1f p50=%d p90=%d p99=%d max=%d", latencyHistogram.getCount(), latencyHistogram.getMean(), latencyHistogram.getValueAtPercentile(50D), 
+                latencyHistogram.getValueAtPercentile(90D), latencyHistogram.getValueAtPercentile(99D), latencyHistogram.getMax());
+    }
+    
     private void dumpDirectly(final String path, final List<String> result) {
         for (String each : regCenter.getChildrenKeys(path)) {
             String zkPath = path + "/" + each;
@@ -0,0 +1,235 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 哈希时间轮定时器.
+ * 
+ * <p>
+ * 单个工作线程按固定刻度推进时间轮, 到期任务在工作线程中直接执行, 因此任务必须足够轻量.
+ * 新增任务先进入无锁队列, 由工作线程在每个刻度批量放入对应的槽位, 新增和取消任务均无需加锁.
+ * </p>
+ */
+@Slf4j
+public final class HashedWheelTimer {
+    
+    private static final int WORKER_STATE_INIT = 0;
+    
+    private static final int WORKER_STATE_STARTED = 1;
+    
+    private static final int WORKER_STATE_SHUTDOWN = 2;
+    
+    private final long tickDurationNanos;
+    
+    private final Queue<Timeout>[] wheel;
+    
+    private final int mask;
+    
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_STATE_INIT);
+    
+    private final Thread workerThread;
+    
+    private volatile long startTime;
+    
+    private long tick;
+    
+    /**
+     * 创建哈希时间轮定时器.
+     * 
+     * @param threadName 工作线程名称
+     * @param tickDuration 刻度时长
+     * @param unit 刻度时长单位
+     * @param ticksPerWheel 时间轮槽位数, 将向上取整为2的幂
+     */
+    @SuppressWarnings("unchecked")
+    public HashedWheelTimer(final String threadName, final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        tickDurationNanos = unit.toNanos(tickDuration);
+        int wheelSize = Integer.highestOneBit(Math.max(ticksPerWheel, 1) - 1) << 1;
+        wheel = new Queue[Math.max(wheelSize, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new LinkedList<>();
+        }
+        mask = wheel.length - 1;
+        ThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadName).daemon(true).build();
+        workerThread = threadFactory.newThread(new Worker());
+    }
+    
+    /**
+     * 添加定时任务.
+     * 
+     * @param task 到期时在工作线程中执行的任务
+     * @param delay 延迟时长
+     * @param unit 延迟时长单位
+     * @return 定时任务句柄
+     */
+    public Timeout newTimeout(final Runnable task, final long delay, final TimeUnit unit) {
+        start();
+        Timeout result = new Timeout(task, System.nanoTime() - startTime + Math.max(unit.toNanos(delay), 0L));
+        pendingTimeouts.add(result);
+        return result;
+    }
+    
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_STATE_INIT:
+                if (workerState.compareAndSet(WORKER_STATE_INIT, WORKER_STATE_STARTED)) {
+                    startTime = System.nanoTime();
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("Timer has been stopped.");
+        }
+        while (0L == startTime) {
+            Thread.yield();
+        }
+    }
+    
+    /**
+     * 停止定时器.
+     * 
+     * <p>
+     * 未到期的任务将被丢弃.
+     * </p>
+     */
+    public void stop() {
+        if (WORKER_STATE_STARTED == workerState.getAndSet(WORKER_STATE_SHUTDOWN)) {
+            workerThread.interrupt();
+        }
+    }
+    
+    private final class Worker implements Runnable {
+        
+        @Override
+        public void run() {
+            while (WORKER_STATE_STARTED == workerState.get()) {
+                long deadline = waitForNextTick();
+                if (deadline < 0L) {
+                    continue;
+                }
+                transferPendingTimeouts();
+                expireTimeouts(wheel[(int) (tick & mask)], deadline);
+                tick++;
+            }
+        }
+        
+        private long waitForNextTick() {
+            long deadline = tickDurationNanos * (tick + 1);
+            while (true) {
+                long sleepTimeNanos = deadline - (System.nanoTime() - startTime);
+                if (sleepTimeNanos <= 0L) {
+                    return deadline;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepTimeNanos);
+                } catch (final InterruptedException ex) {
+                    if (WORKER_STATE_SHUTDOWN == workerState.get()) {
+                        return -1L;
+                    }
+                }
+            }
+        }
+        
+        private void transferPendingTimeouts() {
+            Timeout each;
+            while (null != (each = pendingTimeouts.poll())) {
+                if (each.isCancelled()) {
+                    continue;
+                }
+                long calculatedTicks = each.deadline / tickDurationNanos;
+                each.remainingRounds = (calculatedTicks - tick) / wheel.length;
+                wheel[(int) (Math.max(calculatedTicks, tick) & mask)].add(each);
+            }
+        }
+        
+        private void expireTimeouts(final Queue<Timeout> bucket, final long deadline) {
+            Iterator<Timeout> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                Timeout each = iterator.next();
+                if (each.isCancelled()) {
+                    iterator.remove();
+                } else if (each.remainingRounds <= 0L && each.deadline <= deadline) {
+                    iterator.remove();
+                    each.expire();
+                } else {
+                    each.remainingRounds--;
+                }
+            }
+        }
+    }
+    
+    /**
+     * 定时任务句柄.
+     */
+    public static final class Timeout {
+        
+        private final Runnable task;
+        
+        private final long deadline;
+        
+        private volatile boolean cancelled;
+        
+        private long remainingRounds;
+        
+        private Timeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+        
+        /**
+         * 取消定时任务.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        /**
+         * 判断定时任务是否已取消.
+         * 
+         * @return 定时任务是否已取消
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+        
+        private void expire() {
+            try {
+                task.run();
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                log.error("Elastic job: timing wheel task execute failure, error is: ", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.executor.JobExecutorCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 作业执行分发器.
+ * 
+ * <p>
+ * 将Quartz触发交给共享的作业执行线程池执行, 同一作业不会并发执行, 上次执行未完成时的触发按错过执行处理.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public final class JobExecutionDispatcher {
+    
+    private final SharedScheduler sharedScheduler;
+    
+    private final String jobName;
+    
+    private final JobExecutorCache jobExecutorCache;
+    
+    private final JobTriggerListener jobTriggerListener;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    /**
+     * 分发作业执行.
+     */
+    public void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            jobTriggerListener.setMisfire();
+            return;
+        }
+        try {
+            sharedScheduler.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        jobExecutorCache.getJobExecutor().execute();
+                    } finally {
+                        running.set(false);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            running.set(false);
+            log.warn("Elastic job: job '{}' is not executed because shared scheduler has been shutdown.", jobName);
+        }
+    }
+}
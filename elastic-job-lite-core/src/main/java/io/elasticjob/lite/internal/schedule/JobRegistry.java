@@ -18,12 +18,17 @@
 package io.elasticjob.lite.internal.schedule;
 
 import io.elasticjob.lite.api.strategy.JobInstance;
+import io.elasticjob.lite.event.JobEventSink;
+import io.elasticjob.lite.executor.JobExecutorFactory;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
+import io.elasticjob.lite.util.concurrent.ChangeSignal;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 作业注册表.
@@ -46,6 +51,14 @@ public final class JobRegistry {
     
     private Map<String, Integer> currentShardingTotalCountMap = new ConcurrentHashMap<>();
     
+    private ConcurrentMap<String, Map<Integer, String>> shardingInstanceMap = new ConcurrentHashMap<>();
+    
+    private ConcurrentMap<String, ChangeSignal> shardingStateChangeSignalMap = new ConcurrentHashMap<>();
+    
+    private Map<String, Boolean> eligibleForJobRunningMap = new ConcurrentHashMap<>();
+    
+    private Map<String, JobEventSink> jobEventSinkMap = new ConcurrentHashMap<>();
+    
     /**
      * 获取作业注册表实例.
      * 
@@ -105,6 +118,20 @@ public final class JobRegistry {
         jobInstanceMap.put(jobName, jobInstance);
     }
     
+    /**
+     * 添加作业事件接收器.
+     * 
+     * <p>
+     * 终止任务调度时关闭, 释放事件分发及写入使用的线程.
+     * </p>
+     *
+     * @param jobName 作业名称
+     * @param jobEventSink 作业事件接收器
+     */
+    public void addJobEventSink(final String jobName, final JobEventSink jobEventSink) {
+        jobEventSinkMap.put(jobName, jobEventSink);
+    }
+    
     /**
      * 获取作业运行实例.
      *
@@ -157,6 +184,96 @@ public final class JobRegistry {
         currentShardingTotalCountMap.put(jobName, currentShardingTotalCount);
     }
     
+    /**
+     * 获取本地记录的分片项所分配的作业实例主键.
+     * 
+     * @param jobName 作业名称
+     * @param item 分片项
+     * @return 分片项所分配的作业实例主键, 本地未记录时返回null
+     */
+    public String getShardingInstanceId(final String jobName, final int item) {
+        Map<Integer, String> shardingInstances = shardingInstanceMap.get(jobName);
+        return null == shardingInstances ? null : shardingInstances.get(item);
+    }
+    
+    /**
+     * 记录分片项所分配的作业实例主键.
+     * 
+     * @param jobName 作业名称
+     * @param item 分片项
+     * @param jobInstanceId 作业实例主键
+     */
+    public void setShardingInstanceId(final String jobName, final int item, final String jobInstanceId) {
+        Map<Integer, String> shardingInstances = shardingInstanceMap.get(jobName);
+        if (null == shardingInstances) {
+            shardingInstanceMap.putIfAbsent(jobName, new ConcurrentHashMap<Integer, String>());
+            shardingInstances = shardingInstanceMap.get(jobName);
+        }
+        shardingInstances.put(item, jobInstanceId);
+    }
+    
+    /**
+     * 清除本地记录的分片项所分配的作业实例主键.
+     * 
+     * @param jobName 作业名称
+     * @param item 分片项
+     */
+    public void removeShardingInstanceId(final String jobName, final int item) {
+        Map<Integer, String> shardingInstances = shardingInstanceMap.get(jobName);
+        if (null != shardingInstances) {
+            shardingInstances.remove(item);
+        }
+    }
+    
+    /**
+     * 获取作业是否符合继续运行的条件.
+     * 
+     * @param jobName 作业名称
+     * @return 作业是否符合继续运行的条件, 尚未由监听器更新时返回null
+     */
+    public Boolean getEligibleForJobRunning(final String jobName) {
+        return eligibleForJobRunningMap.get(jobName);
+    }
+    
+    /**
+     * 设置作业是否符合继续运行的条件.
+     * 
+     * @param jobName 作业名称
+     * @param eligibleForJobRunning 作业是否符合继续运行的条件
+     */
+    public void setEligibleForJobRunning(final String jobName, final boolean eligibleForJobRunning) {
+        eligibleForJobRunningMap.put(jobName, eligibleForJobRunning);
+    }
+    
+    /**
+     * 删除作业是否符合继续运行的条件.
+     * 
+     * @param jobName 作业名称
+     */
+    public void removeEligibleForJobRunning(final String jobName) {
+        eligibleForJobRunningMap.remove(jobName);
+    }
+    
+    /**
+     * 获取主节点及分片状态变化信号.
+     * 
+     * <p>主节点选举, 重分片标记, 分片处理中标记及分片运行状态变化时发出信号. 作业已终止时返回不会收到信号的新对象.</p>
+     * 
+     * @param jobName 作业名称
+     * @return 主节点及分片状态变化信号
+     */
+    public ChangeSignal getShardingStateChangeSignal(final String jobName) {
+        if (isShutdown(jobName)) {
+            return new ChangeSignal();
+        }
+        ChangeSignal result = shardingStateChangeSignalMap.get(jobName);
+        if (null == result) {
+            shardingStateChangeSignalMap.putIfAbsent(jobName, new ChangeSignal());
+            result = shardingStateChangeSignalMap.get(jobName);
+        }
+        return result;
+    }
+    
     /**
      * 终止任务调度.
      * 
@@ -174,6 +291,18 @@ public final class JobRegistry {
         jobInstanceMap.remove(jobName);
         jobRunningMap.remove(jobName);
         currentShardingTotalCountMap.remove(jobName);
+        shardingInstanceMap.remove(jobName);
+        eligibleForJobRunningMap.remove(jobName);
+        JobExecutorFactory.release(jobName);
+        JobMetricsRegistry.getInstance().remove(jobName);
+        JobEventSink jobEventSink = jobEventSinkMap.remove(jobName);
+        if (null != jobEventSink) {
+            jobEventSink.close();
+        }
+        ChangeSignal shardingStateChangeSignal = shardingStateChangeSignalMap.remove(jobName);
+        if (null != shardingStateChangeSignal) {
+            shardingStateChangeSignal.signalAll();
+        }
     }
     
     /**
@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.exception.JobConfigurationException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.quartz.CronExpression;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 作业调度计划.
+ * 
+ * <p>
+ * 支持以下表达式:
+ * CRON表达式, 如: {@code 0/5 * * * * ?};
+ * 固定频率, 如: {@code @fixedRate 200ms}, 以上次计划触发时间为基准;
+ * 固定延迟, 如: {@code @fixedDelay 1s}, 以上次执行完成时间为基准.
+ * 间隔单位可以为ms, s或m, 缺省为ms.
+ * 固定频率及固定延迟仅由时间轮触发引擎支持.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class JobSchedule {
+    
+    public static final String FIXED_RATE_PREFIX = "@fixedRate";
+    
+    public static final String FIXED_DELAY_PREFIX = "@fixedDelay";
+    
+    private static final Pattern INTERVAL_PATTERN = Pattern.compile("(\\d+)\\s*(ms|s|m)?");
+    
+    private final String expression;
+    
+    private final Type type;
+    
+    private final CronExpression cronExpression;
+    
+    private final long intervalMilliseconds;
+    
+    /**
+     * 判断是否为固定频率或固定延迟表达式.
+     * 
+     * @param expression 调度表达式
+     * @return 是否为固定频率或固定延迟表达式
+     */
+    public static boolean isFixedSchedule(final String expression) {
+        String trimmedExpression = expression.trim();
+        return trimmedExpression.startsWith(FIXED_RATE_PREFIX) || trimmedExpression.startsWith(FIXED_DELAY_PREFIX);
+    }
+    
+    /**
+     * 解析调度表达式.
+     * 
+     * @param expression 调度表达式
+     * @return 作业调度计划
+     */
+    public static JobSchedule parse(final String expression) {
+        String trimmedExpression = expression.trim();
+        if (trimmedExpression.startsWith(FIXED_RATE_PREFIX)) {
+            return new JobSchedule(expression, Type.FIXED_RATE, null, parseInterval(expression, trimmedExpression.substring(FIXED_RATE_PREFIX.length())));
+        }
+        if (trimmedExpression.startsWith(FIXED_DELAY_PREFIX)) {
+            return new JobSchedule(expression, Type.FIXED_DELAY, null, parseInterval(expression, trimmedExpression.substring(FIXED_DELAY_PREFIX.length())));
+        }
+        try {
+            return new JobSchedule(expression, Type.CRON, new CronExpression(expression), 0L);
+        } catch (final ParseException ex) {
+            throw new JobConfigurationException("Cron expression '%s' is invalid.", expression);
+        }
+    }
+    
+    private static long parseInterval(final String expression, final String interval) {
+        Matcher matcher = INTERVAL_PATTERN.matcher(interval.trim());
+        if (!matcher.matches()) {
+            throw new JobConfigurationException("Schedule expression '%s' is invalid.", expression);
+        }
+        long result = Long.parseLong(matcher.group(1));
+        if ("s".equals(matcher.group(2))) {
+            result = TimeUnit.SECONDS.toMillis(result);
+        } else if ("m".equals(matcher.group(2))) {
+            result = TimeUnit.MINUTES.toMillis(result);
+        }
+        if (result <= 0L) {
+            throw new JobConfigurationException("Schedule expression '%s' is invalid, interval must be greater than 0.", expression);
+        }
+        return result;
+    }
+    
+    /**
+     * 计算下次触发时间.
+     * 
+     * @param baseTime 基准时间毫秒数, 固定频率为上次计划触发时间, 固定延迟为上次执行完成时间
+     * @param currentTime 当前时间毫秒数
+     * @return 下次触发时间毫秒数, 不会再触发时返回-1
+     */
+    public long getNextFireTime(final long baseTime, final long currentTime) {
+        switch (type) {
+            case FIXED_RATE:
+                return baseTime + intervalMilliseconds * (Math.max(currentTime - baseTime, 0L) / intervalMilliseconds + 1);
+            case FIXED_DELAY:
+                return baseTime + intervalMilliseconds;
+            default:
+                Date result = cronExpression.getNextValidTimeAfter(new Date(Math.max(baseTime, currentTime)));
+                return null == result ? -1L : result.getTime();
+        }
+    }
+    
+    /**
+     * 调度计划类型.
+     */
+    public enum Type {
+        
+        CRON, FIXED_RATE, FIXED_DELAY
+    }
+}
@@ -17,129 +17,55 @@
 
 package io.elasticjob.lite.internal.schedule;
 
-import io.elasticjob.lite.exception.JobSystemException;
-import lombok.RequiredArgsConstructor;
-import org.quartz.CronScheduleBuilder;
-import org.quartz.CronTrigger;
-import org.quartz.JobDetail;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.Trigger;
-import org.quartz.TriggerBuilder;
-import org.quartz.TriggerKey;
-
 /**
  * 作业调度控制器.
  * 
+ * <p>
+ * 调度器可能由多个作业共享, 暂停, 恢复, 触发及关闭仅作用于当前作业.
+ * </p>
+ * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
-public final class JobScheduleController {
-    
-    private final Scheduler scheduler;
-    
-    private final JobDetail jobDetail;
-    
-    private final String triggerIdentity;
+public interface JobScheduleController {
     
     /**
      * 调度作业.
      * 
-     * @param cron CRON表达式
+     * @param cron CRON表达式或固定频率/固定延迟表达式
      */
-    public void scheduleJob(final String cron) {
-        try {
-            if (!scheduler.checkExists(jobDetail.getKey())) {
-                scheduler.scheduleJob(jobDetail, createTrigger(cron));
-            }
-            scheduler.start();
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
+    void scheduleJob(String cron);
     
     /**
      * 重新调度作业.
      * 
-     * @param cron CRON表达式
+     * @param cron CRON表达式或固定频率/固定延迟表达式
      */
-    public synchronized void rescheduleJob(final String cron) {
-        try {
-            CronTrigger trigger = (CronTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
-            if (!scheduler.isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
-                scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createTrigger(cron));
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
-    
-    private CronTrigger createTrigger(final String cron) {
-        return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing()).build();
-    }
+    void rescheduleJob(String cron);
     
     /**
      * 判断作业是否暂停.
      * 
      * @return 作业是否暂停
      */
-    public synchronized boolean isPaused() {
-        try {
-            return !scheduler.isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
+    boolean isPaused();
     
     /**
      * 暂停作业.
      */
-    public synchronized void pauseJob() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.pauseAll();
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
+    void pauseJob();
     
     /**
      * 恢复作业.
      */
-    public synchronized void resumeJob() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.resumeAll();
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
+    void resumeJob();
     
     /**
      * 立刻启动作业.
      */
-    public synchronized void triggerJob() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.triggerJob(jobDetail.getKey());
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
+    void triggerJob();
     
     /**
-     * 关闭调度器.
+     * 关闭作业调度.
      */
-    public synchronized void shutdown() {
-        try {
-            if (!scheduler.isShutdown()) {
-                scheduler.shutdown();
-            }
-        } catch (final SchedulerException ex) {
-            throw new JobSystemException(ex);
-        }
-    }
+    void shutdown();
 }
@@ -3,10 +3,9 @@ package io.elasticjob.lite.internal.schedule;
 import io.elasticjob.lite.internal.election.LeaderService;
 import io.elasticjob.lite.internal.instance.InstanceService;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
 import org.quartz.plugins.management.ShutdownHookPlugin;
-import org.quartz.spi.ClassLoadHelper;
+
+import java.util.Collection;
 
 /**
  * 作业关闭钩子.
@@ -15,16 +14,18 @@ import org.quartz.spi.ClassLoadHelper;
  */
 public final class JobShutdownHookPlugin extends ShutdownHookPlugin {
     
-    private String jobName;
-    
     @Override
-    public void initialize(final String name, final Scheduler scheduler, final ClassLoadHelper classLoadHelper) throws SchedulerException {
-        super.initialize(name, scheduler, classLoadHelper);
-        jobName = scheduler.getSchedulerName();
+    public void shutdown() {
+        Collection<String> jobNames = SharedScheduler.getInstance().getJobNames();
+        if (!jobNames.isEmpty()) {
+            SharedScheduler.getInstance().awaitJobExecutionsCompleted();
+        }
+        for (String each : jobNames) {
+            removeJobInstance(each);
+        }
     }
     
-    @Override
-    public void shutdown() {
+    static void removeJobInstance(final String jobName) {
         CoordinatorRegistryCenter regCenter = JobRegistry.getInstance().getRegCenter(jobName);
         if (null == regCenter) {
             return;
@@ -31,19 +31,28 @@ import org.quartz.listeners.TriggerListenerSupport;
 @RequiredArgsConstructor
 public final class JobTriggerListener extends TriggerListenerSupport {
     
+    private final String jobName;
+    
     private final ExecutionService executionService;
     
     private final ShardingService shardingService;
     
     @Override
     public String getName() {
-        return "JobTriggerListener";
+        return "JobTriggerListener-" + jobName;
     }
     
     @Override
     public void triggerMisfired(final Trigger trigger) {
         if (null != trigger.getPreviousFireTime()) {
-            executionService.setMisfire(shardingService.getLocalShardingItems());
+            setMisfire();
         }
     }
+    
+    /**
+     * 设置本地分片项的错过执行标记.
+     */
+    public void setMisfire() {
+        executionService.setMisfire(shardingService.getLocalShardingItems());
+    }
 }
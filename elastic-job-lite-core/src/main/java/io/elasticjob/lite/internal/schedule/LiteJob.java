@@ -1,9 +1,7 @@
 package io.elasticjob.lite.internal.schedule;
 
-import io.elasticjob.lite.api.ElasticJob;
-import io.elasticjob.lite.executor.JobExecutorFactory;
-import io.elasticjob.lite.executor.JobFacade;
 import lombok.Setter;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -13,16 +11,14 @@ import org.quartz.JobExecutionException;
  *
  * @author zhangliang
  */
+@DisallowConcurrentExecution
 public final class LiteJob implements Job {
     
     @Setter
-    private ElasticJob elasticJob;
-    
-    @Setter
-    private JobFacade jobFacade;
+    private JobExecutionDispatcher jobExecutionDispatcher;
     
     @Override
     public void execute(final JobExecutionContext context) throws JobExecutionException {
-        JobExecutorFactory.getJobExecutor(elasticJob, jobFacade).execute();
+        jobExecutionDispatcher.dispatch();
     }
 }
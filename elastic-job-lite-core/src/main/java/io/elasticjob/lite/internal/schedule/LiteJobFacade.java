@@ -21,8 +21,8 @@ import com.google.common.base.Strings;
 import io.elasticjob.lite.api.listener.ElasticJobListener;
 import io.elasticjob.lite.config.LiteJobConfiguration;
 import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
-import io.elasticjob.lite.context.TaskContext;
-import io.elasticjob.lite.event.JobEventBus;
+import io.elasticjob.lite.context.TaskDescriptor;
+import io.elasticjob.lite.event.JobEventSink;
 import io.elasticjob.lite.event.type.JobExecutionEvent;
 import io.elasticjob.lite.event.type.JobStatusTraceEvent;
 import io.elasticjob.lite.event.type.JobStatusTraceEvent.Source;
@@ -32,9 +32,11 @@ import io.elasticjob.lite.executor.JobFacade;
 import io.elasticjob.lite.executor.ShardingContexts;
 import io.elasticjob.lite.internal.config.ConfigurationService;
 import io.elasticjob.lite.internal.failover.FailoverService;
+import io.elasticjob.lite.internal.instance.InstanceService;
 import io.elasticjob.lite.internal.sharding.ExecutionContextService;
 import io.elasticjob.lite.internal.sharding.ExecutionService;
 import io.elasticjob.lite.internal.sharding.ShardingService;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,6 +51,8 @@ import java.util.List;
 @Slf4j
 public final class LiteJobFacade implements JobFacade {
     
+    private final String jobName;
+    
     private final ConfigurationService configService;
     
     private final ShardingService shardingService;
@@ -59,18 +63,23 @@ public final class LiteJobFacade implements JobFacade {
     
     private final FailoverService failoverService;
     
+    private final InstanceService instanceService;
+    
     private final List<ElasticJobListener> elasticJobListeners;
     
-    private final JobEventBus jobEventBus;
+    private final JobEventSink jobEventSink;
     
-    public LiteJobFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final List<ElasticJobListener> elasticJobListeners, final JobEventBus jobEventBus) {
+    public LiteJobFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final List<ElasticJobListener> elasticJobListeners, final JobEventSink jobEventSink) {
+        this.jobName = jobName;
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         executionContextService = new ExecutionContextService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
         failoverService = new FailoverService(regCenter, jobName);
+        instanceService = new InstanceService(regCenter, jobName);
         this.elasticJobListeners = elasticJobListeners;
-        this.jobEventBus = jobEventBus;
+        this.jobEventSink = jobEventSink;
+        JobMetricsRegistry.getInstance().getJobMetrics(jobName).setJobEventSink(jobEventSink);
     }
     
     @Override
@@ -101,6 +110,7 @@ public final class LiteJobFacade implements JobFacade {
         if (configService.load(true).isFailover()) {
             failoverService.updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
         }
+        instanceService.persistLoadIfNecessary();
     }
     
     @Override
@@ -138,6 +148,10 @@ public final class LiteJobFacade implements JobFacade {
     
     @Override
     public boolean isEligibleForJobRunning() {
+        Boolean result = JobRegistry.getInstance().getEligibleForJobRunning(jobName);
+        if (null != result) {
+            return result;
+        }
         LiteJobConfiguration liteJobConfig = configService.load(true);
         if (liteJobConfig.getTypeConfig() instanceof DataflowJobConfiguration) {
             return !shardingService.isNeedSharding() && ((DataflowJobConfiguration) liteJobConfig.getTypeConfig()).isStreamingProcess();    
@@ -164,18 +178,44 @@ public final class LiteJobFacade implements JobFacade {
         }
     }
     
+    @Override
+    public boolean isJobEventEnabled() {
+        return jobEventSink.isEnabled();
+    }
+    
+    @Override
+    public boolean isJobStatusTraceLogEnabled() {
+        return log.isTraceEnabled();
+    }
+    
     @Override
     public void postJobExecutionEvent(final JobExecutionEvent jobExecutionEvent) {
-        jobEventBus.post(jobExecutionEvent);
+        jobEventSink.post(jobExecutionEvent);
     }
     
     @Override
     public void postJobStatusTraceEvent(final String taskId, final State state, final String message) {
-        TaskContext taskContext = TaskContext.from(taskId);
-        jobEventBus.post(new JobStatusTraceEvent(taskContext.getMetaInfo().getJobName(), taskContext.getId(),
-                taskContext.getSlaveId(), Source.LITE_EXECUTOR, taskContext.getType(), taskContext.getMetaInfo().getShardingItems().toString(), state, message));
+        if (jobEventSink.isEnabled()) {
+            postJobStatusTraceEvent(TaskDescriptor.from(taskId), state, message);
+        }
         if (!Strings.isNullOrEmpty(message)) {
             log.trace(message);
         }
     }
+    
+    @Override
+    public void postJobStatusTraceEvent(final ShardingContexts shardingContexts, final State state, final String message) {
+        if (jobEventSink.isEnabled()) {
+            TaskDescriptor taskDescriptor = shardingContexts.getTaskDescriptor();
+            postJobStatusTraceEvent(null == taskDescriptor ? TaskDescriptor.from(shardingContexts.getTaskId()) : taskDescriptor, state, message);
+        }
+        if (!Strings.isNullOrEmpty(message)) {
+            log.trace(message);
+        }
+    }
+    
+    private void postJobStatusTraceEvent(final TaskDescriptor taskDescriptor, final State state, final String message) {
+        jobEventSink.post(new JobStatusTraceEvent(taskDescriptor.getJobName(), taskDescriptor.getTaskId(), 
+                taskDescriptor.getSlaveId(), Source.LITE_EXECUTOR, taskDescriptor.getType(), taskDescriptor.getShardingItems(), state, message));
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.exception.JobSystemException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+
+/**
+ * 基于Quartz的作业调度控制器.
+ * 
+ * @author zhangliang
+ */
+@Slf4j
+@RequiredArgsConstructor
+public final class QuartzJobScheduleController implements JobScheduleController {
+    
+    private final Scheduler scheduler;
+    
+    private final JobDetail jobDetail;
+    
+    private final String triggerIdentity;
+    
+    @Override
+    public void scheduleJob(final String cron) {
+        try {
+            if (!scheduler.checkExists(jobDetail.getKey())) {
+                scheduler.scheduleJob(jobDetail, createTrigger(cron));
+            }
+            scheduler.start();
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public synchronized void rescheduleJob(final String cron) {
+        if (JobSchedule.isFixedSchedule(cron)) {
+            log.warn("Elastic job: job '{}' can not be rescheduled to '{}' by quartz trigger engine, please restart the job to apply it.", triggerIdentity, cron);
+            return;
+        }
+        try {
+            CronTrigger trigger = (CronTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
+            if (!scheduler.isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
+                scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createTrigger(cron));
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    private CronTrigger createTrigger(final String cron) {
+        return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing()).build();
+    }
+    
+    @Override
+    public synchronized boolean isPaused() {
+        try {
+            return !scheduler.isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public synchronized void pauseJob() {
+        try {
+            if (!scheduler.isShutdown()) {
+                scheduler.pauseJob(jobDetail.getKey());
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public synchronized void resumeJob() {
+        try {
+            if (!scheduler.isShutdown()) {
+                scheduler.resumeJob(jobDetail.getKey());
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public synchronized void triggerJob() {
+        try {
+            if (!scheduler.isShutdown() && scheduler.checkExists(jobDetail.getKey())) {
+                scheduler.triggerJob(jobDetail.getKey());
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    @Override
+    public synchronized void shutdown() {
+        try {
+            if (!scheduler.isShutdown()) {
+                scheduler.deleteJob(jobDetail.getKey());
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        } finally {
+            SharedScheduler.getInstance().unregister(triggerIdentity);
+        }
+    }
+}
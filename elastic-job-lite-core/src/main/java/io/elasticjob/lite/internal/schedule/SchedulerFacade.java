@@ -90,7 +90,7 @@ public final class SchedulerFacade {
      * @return 作业触发监听器
      */
     public JobTriggerListener newJobTriggerListener() {
-        return new JobTriggerListener(executionService, shardingService);
+        return new JobTriggerListener(jobName, executionService, shardingService);
     }
     
     /**
@@ -0,0 +1,222 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.exception.JobSystemException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
+import org.quartz.TriggerListener;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.KeyMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 共享作业调度器.
+ * 
+ * <p>
+ * 同一JVM内的所有作业共用一个Quartz调度器, 替代每个作业独立的调度器及线程.
+ * Quartz线程仅负责将触发交给共享的作业执行线程池, 不执行作业, 因此长时间运行的作业不会占用其他作业的触发线程.
+ * Quartz线程池大小可通过系统属性{@code elasticjob.scheduler.threadCount}配置.
+ * 作业执行线程按需创建, 空闲后回收, 同一作业不会并发执行, 因此执行线程数不超过正在运行的作业数.
+ * 全部作业注销后关闭调度器及作业执行线程池, 再次注册作业时重新创建.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SharedScheduler {
+    
+    public static final String THREAD_COUNT_PROPERTY_KEY = "elasticjob.scheduler.threadCount";
+    
+    private static final String SCHEDULER_NAME = "ElasticJobLiteScheduler";
+    
+    private static final int MIN_THREAD_COUNT = 10;
+    
+    private static volatile SharedScheduler instance;
+    
+    private final Map<String, String> triggerListenerNames = new LinkedHashMap<>();
+    
+    private Scheduler scheduler;
+    
+    private ThreadPoolExecutor executorService;
+    
+    /**
+     * 获取共享作业调度器实例.
+     * 
+     * @return 共享作业调度器实例
+     */
+    public static SharedScheduler getInstance() {
+        if (null == instance) {
+            synchronized (SharedScheduler.class) {
+                if (null == instance) {
+                    instance = new SharedScheduler();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * 注册作业.
+     * 
+     * @param jobName 作业名称
+     * @param triggerListener 仅监听该作业触发器的监听器
+     * @return Quartz调度器
+     */
+    public synchronized Scheduler register(final String jobName, final TriggerListener triggerListener) {
+        try {
+            if (null == scheduler || scheduler.isShutdown()) {
+                scheduler = createScheduler();
+                executorService = createExecutorService();
+            }
+            scheduler.getListenerManager().addTriggerListener(triggerListener, KeyMatcher.keyEquals(TriggerKey.triggerKey(jobName)));
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+        triggerListenerNames.put(jobName, triggerListener.getName());
+        return scheduler;
+    }
+    
+    private Scheduler createScheduler() throws SchedulerException {
+        StdSchedulerFactory factory = new StdSchedulerFactory();
+        factory.initialize(getBaseQuartzProperties());
+        return factory.getScheduler();
+    }
+    
+    private ThreadPoolExecutor createExecutorService() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), 
+                new BasicThreadFactory.Builder().namingPattern("job-executor-%s").build());
+    }
+    
+    private Properties getBaseQuartzProperties() {
+        Properties result = new Properties();
+        result.put("org.quartz.threadPool.class", org.quartz.simpl.SimpleThreadPool.class.getName());
+        result.put("org.quartz.threadPool.threadCount", Integer.toString(getThreadCount()));
+        result.put("org.quartz.scheduler.instanceName", SCHEDULER_NAME);
+        result.put("org.quartz.jobStore.misfireThreshold", "1");
+        result.put("org.quartz.plugin.shutdownhook.class", JobShutdownHookPlugin.class.getName());
+        result.put("org.quartz.plugin.shutdownhook.cleanShutdown", Boolean.TRUE.toString());
+        return result;
+    }
+    
+    static int getThreadCount() {
+        String threadCount = System.getProperty(THREAD_COUNT_PROPERTY_KEY);
+        if (null == threadCount) {
+            return getDefaultThreadCount();
+        }
+        int result;
+        try {
+            result = Integer.parseInt(threadCount.trim());
+        } catch (final NumberFormatException ex) {
+            result = 0;
+        }
+        if (result > 0) {
+            return result;
+        }
+        log.warn("Elastic job: scheduler thread count '{}' of system property '{}' is not a positive integer, use default thread count instead.", threadCount, THREAD_COUNT_PROPERTY_KEY);
+        return getDefaultThreadCount();
+    }
+    
+    private static int getDefaultThreadCount() {
+        return Math.max(MIN_THREAD_COUNT, Runtime.getRuntime().availableProcessors() * 2);
+    }
+    
+    /**
+     * 在作业执行线程池中执行作业.
+     * 
+     * @param task 作业执行任务
+     * @throws RejectedExecutionException 调度器已关闭时抛出
+     */
+    public synchronized void execute(final Runnable task) {
+        if (null == executorService) {
+            throw new RejectedExecutionException("Shared scheduler has been shutdown.");
+        }
+        executorService.execute(task);
+    }
+    
+    /*
+     * JVM关闭时等待正在执行的作业完成, 与Quartz调度器的cleanShutdown语义一致.
+     */
+    void awaitJobExecutionsCompleted() {
+        ThreadPoolExecutor currentExecutorService;
+        synchronized (this) {
+            currentExecutorService = executorService;
+        }
+        if (null == currentExecutorService) {
+            return;
+        }
+        currentExecutorService.shutdown();
+        try {
+            currentExecutorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 注销作业.
+     * 
+     * <p>
+     * 清理作业实例信息, 最后一个作业注销后关闭调度器.
+     * </p>
+     * 
+     * @param jobName 作业名称
+     */
+    public synchronized void unregister(final String jobName) {
+        String triggerListenerName = triggerListenerNames.remove(jobName);
+        if (null == triggerListenerName) {
+            return;
+        }
+        JobShutdownHookPlugin.removeJobInstance(jobName);
+        try {
+            if (scheduler.isShutdown()) {
+                return;
+            }
+            scheduler.getListenerManager().removeTriggerListener(triggerListenerName);
+            if (triggerListenerNames.isEmpty()) {
+                scheduler.shutdown();
+                executorService.shutdown();
+                executorService = null;
+            }
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    /**
+     * 获取已注册的作业名称.
+     * 
+     * @return 已注册的作业名称
+     */
+    public synchronized Collection<String> getJobNames() {
+        return new ArrayList<>(triggerListenerNames.keySet());
+    }
+}
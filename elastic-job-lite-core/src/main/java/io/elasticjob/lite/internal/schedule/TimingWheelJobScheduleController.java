@@ -0,0 +1,220 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.executor.JobExecutorCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 基于时间轮的作业调度控制器.
+ * 
+ * <p>
+ * 触发不经过Quartz的作业存储及锁, 同一作业不会并发执行, 上次执行未完成时的触发按错过执行处理.
+ * </p>
+ */
+@Slf4j
+public final class TimingWheelJobScheduleController implements JobScheduleController {
+    
+    private final TimingWheelScheduler timingWheelScheduler;
+    
+    private final String jobName;
+    
+    private final JobExecutorCache jobExecutorCache;
+    
+    private final JobTriggerListener jobTriggerListener;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    private final AtomicBoolean misfired = new AtomicBoolean();
+    
+    private final Runnable executionTask = new ExecutionTask();
+    
+    private JobSchedule jobSchedule;
+    
+    private HashedWheelTimer.Timeout timeout;
+    
+    private long nextFireTime;
+    
+    private long generation;
+    
+    private volatile boolean fired;
+    
+    private boolean paused;
+    
+    private boolean shutdown;
+    
+    public TimingWheelJobScheduleController(final TimingWheelScheduler timingWheelScheduler, final String jobName, 
+                                            final JobExecutorCache jobExecutorCache, final JobTriggerListener jobTriggerListener) {
+        this.timingWheelScheduler = timingWheelScheduler;
+        this.jobName = jobName;
+        this.jobExecutorCache = jobExecutorCache;
+        this.jobTriggerListener = jobTriggerListener;
+        timingWheelScheduler.register(jobName);
+    }
+    
+    @Override
+    public synchronized void scheduleJob(final String cron) {
+        if (shutdown || null != jobSchedule) {
+            return;
+        }
+        jobSchedule = JobSchedule.parse(cron);
+        scheduleNext(System.currentTimeMillis());
+    }
+    
+    @Override
+    public synchronized void rescheduleJob(final String cron) {
+        if (shutdown || null == jobSchedule || cron.equals(jobSchedule.getExpression())) {
+            return;
+        }
+        jobSchedule = JobSchedule.parse(cron);
+        cancelTimeout();
+        if (!paused) {
+            scheduleNext(System.currentTimeMillis());
+        }
+    }
+    
+    @Override
+    public synchronized boolean isPaused() {
+        return !shutdown && paused;
+    }
+    
+    @Override
+    public synchronized void pauseJob() {
+        if (!shutdown) {
+            paused = true;
+            cancelTimeout();
+        }
+    }
+    
+    @Override
+    public synchronized void resumeJob() {
+        if (shutdown || !paused) {
+            return;
+        }
+        paused = false;
+        if (null != jobSchedule) {
+            scheduleNext(System.currentTimeMillis());
+        }
+    }
+    
+    @Override
+    public void triggerJob() {
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+        }
+        dispatch();
+    }
+    
+    @Override
+    public synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        cancelTimeout();
+        timingWheelScheduler.unregister(jobName);
+    }
+    
+    private void scheduleNext(final long baseTime) {
+        generation++;
+        long currentTime = System.currentTimeMillis();
+        nextFireTime = jobSchedule.getNextFireTime(baseTime, currentTime);
+        if (nextFireTime < 0L) {
+            timeout = null;
+            return;
+        }
+        timeout = timingWheelScheduler.newTimeout(new FireTask(generation), nextFireTime - currentTime);
+    }
+    
+    private synchronized void scheduleNextAfterCompletion() {
+        if (!shutdown && !paused && null == timeout && null != jobSchedule && JobSchedule.Type.FIXED_DELAY == jobSchedule.getType()) {
+            scheduleNext(System.currentTimeMillis());
+        }
+    }
+    
+    private void cancelTimeout() {
+        generation++;
+        if (null != timeout) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+    
+    private void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            misfire();
+            return;
+        }
+        try {
+            timingWheelScheduler.execute(executionTask);
+        } catch (final RejectedExecutionException ex) {
+            running.set(false);
+            log.warn("Elastic job: job '{}' misfired because no executor thread is available.", jobName);
+            misfire();
+            scheduleNextAfterCompletion();
+        }
+    }
+    
+    private void misfire() {
+        if (fired && misfired.compareAndSet(false, true)) {
+            jobTriggerListener.setMisfire();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class FireTask implements Runnable {
+        
+        private final long scheduledGeneration;
+        
+        @Override
+        public void run() {
+            synchronized (TimingWheelJobScheduleController.this) {
+                if (shutdown || paused || scheduledGeneration != generation) {
+                    return;
+                }
+                if (JobSchedule.Type.FIXED_DELAY == jobSchedule.getType()) {
+                    timeout = null;
+                } else {
+                    scheduleNext(nextFireTime);
+                }
+            }
+            dispatch();
+        }
+    }
+    
+    private final class ExecutionTask implements Runnable {
+        
+        @Override
+        public void run() {
+            fired = true;
+            misfired.set(false);
+            try {
+                jobExecutorCache.getJobExecutor().execute();
+            } finally {
+                running.set(false);
+                scheduleNextAfterCompletion();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 共享时间轮调度器.
+ * 
+ * <p>
+ * 同一JVM内使用时间轮触发引擎的作业共用一个时间轮定时器及有界执行线程池.
+ * 线程池大小与{@link SharedScheduler}一致, 无空闲线程时触发将被拒绝并按错过执行处理.
+ * 全部作业注销后关闭时间轮及线程池, 再次注册作业时重新创建.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TimingWheelScheduler {
+    
+    public static final String TRIGGER_ENGINE_PROPERTY_KEY = "elasticjob.scheduler.triggerEngine";
+    
+    public static final String TRIGGER_ENGINE_TIMING_WHEEL = "timingWheel";
+    
+    private static final long TICK_DURATION_MILLISECONDS = 10L;
+    
+    private static final int TICKS_PER_WHEEL = 512;
+    
+    private static volatile TimingWheelScheduler instance;
+    
+    private final Set<String> jobNames = new LinkedHashSet<>();
+    
+    private volatile HashedWheelTimer timer;
+    
+    private volatile ThreadPoolExecutor executorService;
+    
+    private Thread shutdownHook;
+    
+    /**
+     * 获取共享时间轮调度器实例.
+     * 
+     * @return 共享时间轮调度器实例
+     */
+    public static TimingWheelScheduler getInstance() {
+        if (null == instance) {
+            synchronized (TimingWheelScheduler.class) {
+                if (null == instance) {
+                    instance = new TimingWheelScheduler();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * 判断作业是否使用时间轮触发引擎.
+     * 
+     * <p>
+     * 固定频率及固定延迟表达式总是使用时间轮触发引擎, CRON表达式在系统属性{@code elasticjob.scheduler.triggerEngine}为{@code timingWheel}时使用.
+     * </p>
+     * 
+     * @param cron CRON表达式或固定频率/固定延迟表达式
+     * @return 作业是否使用时间轮触发引擎
+     */
+    public static boolean isRequired(final String cron) {
+        return JobSchedule.isFixedSchedule(cron) || TRIGGER_ENGINE_TIMING_WHEEL.equalsIgnoreCase(System.getProperty(TRIGGER_ENGINE_PROPERTY_KEY));
+    }
+    
+    /**
+     * 注册作业.
+     * 
+     * @param jobName 作业名称
+     */
+    public synchronized void register(final String jobName) {
+        if (null == timer) {
+            timer = new HashedWheelTimer("job-timing-wheel", TICK_DURATION_MILLISECONDS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+            int threadCount = SharedScheduler.getThreadCount();
+            executorService = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), 
+                    new BasicThreadFactory.Builder().namingPattern("job-timing-wheel-executor-%s").build());
+            executorService.allowCoreThreadTimeOut(true);
+            shutdownHook = new Thread(new Runnable() {
+                
+                @Override
+                public void run() {
+                    for (String each : getJobNames()) {
+                        JobShutdownHookPlugin.removeJobInstance(each);
+                    }
+                }
+            }, "job-timing-wheel-shutdown-hook");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+        jobNames.add(jobName);
+    }
+    
+    /**
+     * 添加定时任务.
+     * 
+     * @param task 到期时在时间轮线程中执行的任务
+     * @param delayMilliseconds 延迟毫秒数
+     * @return 定时任务句柄
+     */
+    public HashedWheelTimer.Timeout newTimeout(final Runnable task, final long delayMilliseconds) {
+        HashedWheelTimer currentTimer = timer;
+        if (null == currentTimer) {
+            throw new IllegalStateException("Timing wheel scheduler has been shutdown.");
+        }
+        return currentTimer.newTimeout(task, delayMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * 在执行线程池中执行作业.
+     * 
+     * @param task 作业执行任务
+     * @throws RejectedExecutionException 无空闲执行线程时抛出
+     */
+    public void execute(final Runnable task) {
+        ThreadPoolExecutor currentExecutorService = executorService;
+        if (null == currentExecutorService) {
+            throw new RejectedExecutionException("Timing wheel scheduler has been shutdown.");
+        }
+        currentExecutorService.execute(task);
+    }
+    
+    /**
+     * 注销作业.
+     * 
+     * <p>
+     * 清理作业实例信息, 最后一个作业注销后关闭时间轮及执行线程池, 正在执行的作业不受影响.
+     * </p>
+     * 
+     * @param jobName 作业名称
+     */
+    public synchronized void unregister(final String jobName) {
+        if (!jobNames.remove(jobName)) {
+            return;
+        }
+        JobShutdownHookPlugin.removeJobInstance(jobName);
+        if (!jobNames.isEmpty()) {
+            return;
+        }
+        timer.stop();
+        timer = null;
+        executorService.shutdown();
+        executorService = null;
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (final IllegalStateException ignored) {
+            // JVM正在关闭, 关闭钩子已开始执行
+        }
+        shutdownHook = null;
+    }
+    
+    /**
+     * 获取已注册的作业名称.
+     * 
+     * @return 已注册的作业名称
+     */
+    public synchronized Collection<String> getJobNames() {
+        return new ArrayList<>(jobNames);
+    }
+}
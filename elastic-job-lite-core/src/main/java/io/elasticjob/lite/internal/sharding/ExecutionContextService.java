@@ -20,6 +20,8 @@ package io.elasticjob.lite.internal.sharding;
 import com.google.common.base.Joiner;
 import io.elasticjob.lite.api.strategy.JobInstance;
 import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.context.ExecutionType;
+import io.elasticjob.lite.context.TaskDescriptor;
 import io.elasticjob.lite.executor.ShardingContexts;
 import io.elasticjob.lite.internal.config.ConfigurationService;
 import io.elasticjob.lite.internal.schedule.JobRegistry;
@@ -40,6 +42,8 @@ import java.util.Map;
  */
 public final class ExecutionContextService {
     
+    private static final String DELIMITER = "@-@";
+    
     private final String jobName;
     
     private final JobNodeStorage jobNodeStorage;
@@ -61,19 +65,22 @@ public final class ExecutionContextService {
     public ShardingContexts getJobShardingContext(final List<Integer> shardingItems) {
         LiteJobConfiguration liteJobConfig = configService.load(false);
         removeRunningIfMonitorExecution(liteJobConfig.isMonitorExecution(), shardingItems);
+        TaskDescriptor taskDescriptor = buildTaskDescriptor(liteJobConfig, shardingItems);
         if (shardingItems.isEmpty()) {
-            return new ShardingContexts(buildTaskId(liteJobConfig, shardingItems), liteJobConfig.getJobName(), liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 
-                    liteJobConfig.getTypeConfig().getCoreConfig().getJobParameter(), Collections.<Integer, String>emptyMap());
+            return new ShardingContexts(taskDescriptor.getTaskId(), liteJobConfig.getJobName(), liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 
+                    liteJobConfig.getTypeConfig().getCoreConfig().getJobParameter(), Collections.<Integer, String>emptyMap(), 0, taskDescriptor);
         }
         Map<Integer, String> shardingItemParameterMap = new ShardingItemParameters(liteJobConfig.getTypeConfig().getCoreConfig().getShardingItemParameters()).getMap();
-        return new ShardingContexts(buildTaskId(liteJobConfig, shardingItems), liteJobConfig.getJobName(), liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 
-                liteJobConfig.getTypeConfig().getCoreConfig().getJobParameter(), getAssignedShardingItemParameterMap(shardingItems, shardingItemParameterMap));
+        return new ShardingContexts(taskDescriptor.getTaskId(), liteJobConfig.getJobName(), liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount(), 
+                liteJobConfig.getTypeConfig().getCoreConfig().getJobParameter(), getAssignedShardingItemParameterMap(shardingItems, shardingItemParameterMap), 0, taskDescriptor);
     }
     
-    private String buildTaskId(final LiteJobConfiguration liteJobConfig, final List<Integer> shardingItems) {
+    private TaskDescriptor buildTaskDescriptor(final LiteJobConfiguration liteJobConfig, final List<Integer> shardingItems) {
         JobInstance jobInstance = JobRegistry.getInstance().getJobInstance(jobName);
-        return Joiner.on("@-@").join(liteJobConfig.getJobName(), Joiner.on(",").join(shardingItems), "READY", 
-                null == jobInstance.getJobInstanceId() ? "127.0.0.1@-@1" : jobInstance.getJobInstanceId()); 
+        String jobInstanceId = null == jobInstance.getJobInstanceId() ? "127.0.0.1@-@1" : jobInstance.getJobInstanceId();
+        String taskId = Joiner.on(DELIMITER).join(liteJobConfig.getJobName(), Joiner.on(",").join(shardingItems), ExecutionType.READY, jobInstanceId);
+        int slaveIdEndIndex = jobInstanceId.indexOf(DELIMITER);
+        return new TaskDescriptor(taskId, liteJobConfig.getJobName(), ExecutionType.READY, -1 == slaveIdEndIndex ? jobInstanceId : jobInstanceId.substring(0, slaveIdEndIndex), shardingItems);
     }
     
     private void removeRunningIfMonitorExecution(final boolean monitorExecution, final List<Integer> shardingItems) {
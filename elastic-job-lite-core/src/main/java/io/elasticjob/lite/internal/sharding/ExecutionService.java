@@ -58,9 +58,7 @@ public final class ExecutionService {
         if (!configService.load(true).isMonitorExecution()) {
             return;
         }
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            jobNodeStorage.fillEphemeralJobNode(ShardingNode.getRunningNode(each), "");
-        }
+        jobNodeStorage.fillEphemeralJobNodes(getRunningNodes(shardingContexts.getShardingItemParameters().keySet()), "");
     }
     
     /**
@@ -73,9 +71,15 @@ public final class ExecutionService {
         if (!configService.load(true).isMonitorExecution()) {
             return;
         }
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(each));
+        jobNodeStorage.removeJobNodesIfExisted(getRunningNodes(shardingContexts.getShardingItemParameters().keySet()));
+    }
+    
+    private List<String> getRunningNodes(final Collection<Integer> items) {
+        List<String> result = new ArrayList<>(items.size());
+        for (int each : items) {
+            result.add(ShardingNode.getRunningNode(each));
         }
+        return result;
     }
     
     /**
@@ -91,9 +95,7 @@ public final class ExecutionService {
      * @param items 需要清理的分片项列表
      */
     public void clearRunningInfo(final List<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(each));
-        }
+        jobNodeStorage.removeJobNodesIfExisted(getRunningNodes(items));
     }
     
     /**
@@ -103,12 +105,17 @@ public final class ExecutionService {
      * @return 分片项中是否还有执行中的作业
      */
     public boolean hasRunningItems(final Collection<Integer> items) {
+        return hasRunningItems(items, true);
+    }
+    
+    private boolean hasRunningItems(final Collection<Integer> items, final boolean fromCache) {
         LiteJobConfiguration jobConfig = configService.load(true);
         if (null == jobConfig || !jobConfig.isMonitorExecution()) {
             return false;
         }
         for (int each : items) {
-            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getRunningNode(each))) {
+            String runningNode = ShardingNode.getRunningNode(each);
+            if (fromCache ? jobNodeStorage.isJobNodeExistedInCache(runningNode) : jobNodeStorage.isJobNodeExisted(runningNode)) {
                 return true;
             }
         }
@@ -136,11 +143,15 @@ public final class ExecutionService {
     /**
      * 如果当前分片项仍在运行则设置任务被错过执行的标记.
      * 
+     * <p>
+     * 运行标记由本作业实例在上次执行完成时删除, 本地缓存可能尚未更新, 因此直接从注册中心判断.
+     * </p>
+     * 
      * @param items 需要设置错过执行的任务分片项
      * @return 是否错过本次执行
      */
     public boolean misfireIfHasRunningItems(final Collection<Integer> items) {
-        if (!hasRunningItems(items)) {
+        if (!hasRunningItems(items, false)) {
             return false;
         }
         setMisfire(items);
@@ -153,14 +164,16 @@ public final class ExecutionService {
      * @param items 需要设置错过执行的任务分片项
      */
     public void setMisfire(final Collection<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.createJobNodeIfNeeded(ShardingNode.getMisfireNode(each));
-        }
+        jobNodeStorage.createJobNodesIfNeeded(getMisfireNodes(items));
     }
     
     /**
      * 获取标记被错过执行的任务分片项.
      * 
+     * <p>
+     * 错过执行标记由本作业实例在执行前清除, 本地缓存可能尚未更新, 因此直接从注册中心判断.
+     * </p>
+     * 
      * @param items 需要获取标记被错过执行的任务分片项
      * @return 标记被错过执行的任务分片项
      */
@@ -180,9 +193,15 @@ public final class ExecutionService {
      * @param items 需要清除错过执行的任务分片项
      */
     public void clearMisfire(final Collection<Integer> items) {
+        jobNodeStorage.removeJobNodesIfExisted(getMisfireNodes(items));
+    }
+    
+    private List<String> getMisfireNodes(final Collection<Integer> items) {
+        List<String> result = new ArrayList<>(items.size());
         for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getMisfireNode(each));
+            result.add(ShardingNode.getMisfireNode(each));
         }
+        return result;
     }
     
     /**
@@ -194,7 +213,7 @@ public final class ExecutionService {
     public List<Integer> getDisabledItems(final List<Integer> items) {
         List<Integer> result = new ArrayList<>(items.size());
         for (int each : items) {
-            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getDisabledNode(each))) {
+            if (jobNodeStorage.isJobNodeExistedInCache(ShardingNode.getDisabledNode(each))) {
                 result.add(each);
             }
         }
@@ -17,7 +17,10 @@
 
 package io.elasticjob.lite.internal.sharding;
 
+import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
 import io.elasticjob.lite.internal.config.ConfigurationNode;
+import io.elasticjob.lite.internal.config.ConfigurationService;
 import io.elasticjob.lite.internal.config.LiteJobConfigurationGsonFactory;
 import io.elasticjob.lite.internal.instance.InstanceNode;
 import io.elasticjob.lite.internal.listener.AbstractJobListener;
@@ -42,21 +45,44 @@ public final class ShardingListenerManager extends AbstractListenerManager {
     
     private final ServerNode serverNode;
     
+    private final ShardingNode shardingNode;
+    
     private final ShardingService shardingService;
     
+    private final ConfigurationService configService;
+    
     public ShardingListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName) {
         super(regCenter, jobName);
         this.jobName = jobName;
         configNode = new ConfigurationNode(jobName);
         instanceNode = new InstanceNode(jobName);
         serverNode = new ServerNode(jobName);
+        shardingNode = new ShardingNode(jobName);
         shardingService = new ShardingService(regCenter, jobName);
+        configService = new ConfigurationService(regCenter, jobName);
     }
     
     @Override
     public void start() {
         addDataListener(new ShardingTotalCountChangedJobListener());
         addDataListener(new ListenServersChangedJobListener());
+        addDataListener(new ShardingInstanceChangedJobListener());
+        addDataListener(new ShardingStateChangedJobListener());
+        addDataListener(new EligibleForJobRunningChangedJobListener());
+        refreshEligibleForJobRunning();
+    }
+    
+    /*
+     * 仅读取本地缓存, 与监听器互斥执行, 保证最后写入的结果来自最新的缓存数据.
+     */
+    private synchronized void refreshEligibleForJobRunning() {
+        LiteJobConfiguration liteJobConfig = configService.load(true);
+        if (null == liteJobConfig) {
+            JobRegistry.getInstance().removeEligibleForJobRunning(jobName);
+            return;
+        }
+        boolean streamingProcess = !(liteJobConfig.getTypeConfig() instanceof DataflowJobConfiguration) || ((DataflowJobConfiguration) liteJobConfig.getTypeConfig()).isStreamingProcess();
+        JobRegistry.getInstance().setEligibleForJobRunning(jobName, streamingProcess && !shardingService.isNeedShardingInCache());
     }
     
     class ShardingTotalCountChangedJobListener extends AbstractJobListener {
@@ -90,4 +116,40 @@ public final class ShardingListenerManager extends AbstractListenerManager {
             return serverNode.isServerPath(path);
         }
     }
+    
+    class ShardingInstanceChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            Integer item = shardingNode.getItemByInstancePath(path);
+            if (null == item) {
+                return;
+            }
+            if (Type.NODE_REMOVED == eventType) {
+                JobRegistry.getInstance().removeShardingInstanceId(jobName, item);
+            } else if (!JobRegistry.getInstance().isShutdown(jobName)) {
+                JobRegistry.getInstance().setShardingInstanceId(jobName, item, data);
+            }
+        }
+    }
+    
+    class ShardingStateChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            if (!JobRegistry.getInstance().isShutdown(jobName) && Type.NODE_UPDATED != eventType && (shardingNode.isShardingFlagPath(path) || null != shardingNode.getItemByRunningItemPath(path))) {
+                JobRegistry.getInstance().getShardingStateChangeSignal(jobName).signalAll();
+            }
+        }
+    }
+    
+    class EligibleForJobRunningChangedJobListener extends AbstractJobListener {
+        
+        @Override
+        protected void dataChanged(final String path, final Type eventType, final String data) {
+            if (!JobRegistry.getInstance().isShutdown(jobName) && (configNode.isConfigPath(path) || shardingNode.isNecessaryPath(path))) {
+                refreshEligibleForJobRunning();
+            }
+        }
+    }
 }
@@ -94,4 +94,41 @@ public final class ShardingNode {
     private boolean isRunningItemPath(final String path) {
         return path.startsWith(jobNodePath.getFullPath(ROOT)) && path.endsWith(RUNNING_APPENDIX);
     }
+    
+    /**
+     * 判断是否为重分片标记或分片处理中标记路径.
+     *
+     * @param path 节点路径
+     * @return 是否为重分片标记或分片处理中标记路径
+     */
+    public boolean isShardingFlagPath(final String path) {
+        return jobNodePath.getFullPath(NECESSARY).equals(path) || jobNodePath.getFullPath(PROCESSING).equals(path);
+    }
+    
+    /**
+     * 判断是否为重分片标记路径.
+     *
+     * @param path 节点路径
+     * @return 是否为重分片标记路径
+     */
+    public boolean isNecessaryPath(final String path) {
+        return jobNodePath.getFullPath(NECESSARY).equals(path);
+    }
+    
+    /**
+     * 根据分片实例路径获取分片项.
+     *
+     * @param path 分片实例路径
+     * @return 分片项, 不是分片实例路径则返回null
+     */
+    public Integer getItemByInstancePath(final String path) {
+        if (!isInstancePath(path)) {
+            return null;
+        }
+        return Integer.parseInt(path.substring(jobNodePath.getFullPath(ROOT).length() + 1, path.lastIndexOf(INSTANCE_APPENDIX) - 1));
+    }
+    
+    private boolean isInstancePath(final String path) {
+        return path.startsWith(jobNodePath.getFullPath(ROOT) + "/") && path.endsWith("/" + INSTANCE_APPENDIX);
+    }
 }
@@ -17,6 +17,9 @@
 
 package io.elasticjob.lite.internal.sharding;
 
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import io.elasticjob.lite.api.strategy.IncrementalJobShardingStrategy;
 import io.elasticjob.lite.api.strategy.JobInstance;
 import io.elasticjob.lite.api.strategy.JobShardingStrategy;
 import io.elasticjob.lite.api.strategy.JobShardingStrategyFactory;
@@ -31,15 +34,19 @@ import io.elasticjob.lite.internal.storage.JobNodePath;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
 import io.elasticjob.lite.internal.storage.TransactionExecutionCallback;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
-import io.elasticjob.lite.util.concurrent.BlockUtils;
+import io.elasticjob.lite.util.concurrent.ChangeSignal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.framework.recipes.cache.ChildData;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 作业分片服务.
@@ -49,6 +56,8 @@ import java.util.Map;
 @Slf4j
 public final class ShardingService {
     
+    private static final long WAITING_TIMEOUT_MILLISECONDS = 1000L;
+    
     private final String jobName;
     
     private final JobNodeStorage jobNodeStorage;
@@ -92,6 +101,15 @@ public final class ShardingService {
         return jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY);
     }
     
+    /**
+     * 从缓存判断是否需要重分片.
+     * 
+     * @return 是否需要重分片
+     */
+    public boolean isNeedShardingInCache() {
+        return jobNodeStorage.isJobNodeExistedInCache(ShardingNode.NECESSARY);
+    }
+    
     /**
      * 如果需要分片且当前节点为主节点, 则作业分片.
      * 
@@ -113,23 +131,33 @@ public final class ShardingService {
         int shardingTotalCount = liteJobConfig.getTypeConfig().getCoreConfig().getShardingTotalCount();
         log.debug("Job '{}' sharding begin.", jobName);
         jobNodeStorage.fillEphemeralJobNode(ShardingNode.PROCESSING, "");
-        resetShardingInfo(shardingTotalCount);
         JobShardingStrategy jobShardingStrategy = JobShardingStrategyFactory.getStrategy(liteJobConfig.getJobShardingStrategyClass());
-        jobNodeStorage.executeInTransaction(new PersistShardingInfoTransactionExecutionCallback(jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount)));
+        if (jobShardingStrategy instanceof IncrementalJobShardingStrategy) {
+            shardingIncrementally((IncrementalJobShardingStrategy) jobShardingStrategy, availableJobInstances, shardingTotalCount);
+        } else {
+            resetShardingInfo(shardingTotalCount);
+            jobNodeStorage.executeInTransaction(new PersistShardingInfoTransactionExecutionCallback(jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount)));
+        }
         log.debug("Job '{}' sharding complete.", jobName);
     }
     
     private void blockUntilShardingCompleted() {
+        ChangeSignal shardingStateChangeSignal = JobRegistry.getInstance().getShardingStateChangeSignal(jobName);
+        long version = shardingStateChangeSignal.getVersion();
         while (!leaderService.isLeaderUntilBlock() && (jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY) || jobNodeStorage.isJobNodeExisted(ShardingNode.PROCESSING))) {
-            log.debug("Job '{}' sleep short time until sharding completed.", jobName);
-            BlockUtils.waitingShortTime();
+            log.debug("Job '{}' waiting until sharding completed.", jobName);
+            shardingStateChangeSignal.awaitChange(version, WAITING_TIMEOUT_MILLISECONDS);
+            version = shardingStateChangeSignal.getVersion();
         }
     }
     
     private void waitingOtherShardingItemCompleted() {
+        ChangeSignal shardingStateChangeSignal = JobRegistry.getInstance().getShardingStateChangeSignal(jobName);
+        long version = shardingStateChangeSignal.getVersion();
         while (executionService.hasRunningItems()) {
-            log.debug("Job '{}' sleep short time until other job completed.", jobName);
-            BlockUtils.waitingShortTime();
+            log.debug("Job '{}' waiting until other job completed.", jobName);
+            shardingStateChangeSignal.awaitChange(version, WAITING_TIMEOUT_MILLISECONDS);
+            version = shardingStateChangeSignal.getVersion();
         }
     }
     
@@ -138,6 +166,51 @@ public final class ShardingService {
             jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getInstanceNode(i));
             jobNodeStorage.createJobNodeIfNeeded(ShardingNode.ROOT + "/" + i);
         }
+        removeRedundantShardingItems(shardingTotalCount);
+    }
+    
+    private void shardingIncrementally(final IncrementalJobShardingStrategy jobShardingStrategy, final List<JobInstance> availableJobInstances, final int shardingTotalCount) {
+        removeRedundantShardingItems(shardingTotalCount);
+        Map<Integer, JobInstance> currentShardingResults = new HashMap<>(shardingTotalCount, 1);
+        Map<Integer, Integer> currentVersions = new HashMap<>(shardingTotalCount, 1);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            ChildData childData = jobNodeStorage.getJobNodeCachedData(ShardingNode.getInstanceNode(i));
+            if (null != childData && null != childData.getData() && null != childData.getStat() && 0 != childData.getData().length) {
+                currentShardingResults.put(i, new JobInstance(new String(childData.getData(), Charsets.UTF_8)));
+                currentVersions.put(i, childData.getStat().getVersion());
+            }
+        }
+        if (jobNodeStorage.executeInTransactionIfVersionMatched(
+                createPersistChangedShardingInfoCallback(jobShardingStrategy, availableJobInstances, shardingTotalCount, currentShardingResults, currentVersions))) {
+            return;
+        }
+        log.debug("Job '{}' cached sharding info is stale, reload from registry center.", jobName);
+        currentShardingResults.clear();
+        for (int i = 0; i < shardingTotalCount; i++) {
+            String jobInstanceId = jobNodeStorage.getJobNodeDataDirectly(ShardingNode.getInstanceNode(i));
+            if (!Strings.isNullOrEmpty(jobInstanceId)) {
+                currentShardingResults.put(i, new JobInstance(jobInstanceId));
+            }
+        }
+        jobNodeStorage.executeInTransaction(
+                createPersistChangedShardingInfoCallback(jobShardingStrategy, availableJobInstances, shardingTotalCount, currentShardingResults, Collections.<Integer, Integer>emptyMap()));
+    }
+    
+    private PersistChangedShardingInfoTransactionExecutionCallback createPersistChangedShardingInfoCallback(
+            final IncrementalJobShardingStrategy jobShardingStrategy, final List<JobInstance> availableJobInstances, final int shardingTotalCount, 
+            final Map<Integer, JobInstance> currentShardingResults, final Map<Integer, Integer> currentVersions) {
+        Map<JobInstance, List<Integer>> shardingResults = jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount, Collections.unmodifiableMap(currentShardingResults));
+        for (List<Integer> each : shardingResults.values()) {
+            for (int shardingItem : each) {
+                if (!currentShardingResults.containsKey(shardingItem)) {
+                    jobNodeStorage.createJobNodeIfNeeded(ShardingNode.ROOT + "/" + shardingItem);
+                }
+            }
+        }
+        return new PersistChangedShardingInfoTransactionExecutionCallback(shardingResults, currentShardingResults, currentVersions);
+    }
+    
+    private void removeRedundantShardingItems(final int shardingTotalCount) {
         int actualShardingTotalCount = jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT).size();
         if (actualShardingTotalCount > shardingTotalCount) {
             for (int i = shardingTotalCount; i < actualShardingTotalCount; i++) {
@@ -148,6 +221,10 @@ public final class ShardingService {
     
     /**
      * 获取作业运行实例的分片项集合.
+     * 
+     * <p>
+     * 优先使用由分片实例节点变化事件维护的本地分配记录, 本地未记录的分片项再从注册中心读取.
+     * </p>
      *
      * @param jobInstanceId 作业运行实例主键
      * @return 作业运行实例的分片项集合
@@ -160,7 +237,7 @@ public final class ShardingService {
         List<Integer> result = new LinkedList<>();
         int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (jobInstance.getJobInstanceId().equals(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
+            if (jobInstance.getJobInstanceId().equals(getShardingInstanceId(i))) {
                 result.add(i);
             }
         }
@@ -185,16 +262,66 @@ public final class ShardingService {
      * @return 是包含有分片节点的不在线服务器
      */
     public boolean hasShardingInfoInOfflineServers() {
-        List<String> onlineInstances = jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT);
+        Set<String> onlineInstances = new HashSet<>(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT));
         int shardingTotalCount = configService.load(true).getTypeConfig().getCoreConfig().getShardingTotalCount();
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (!onlineInstances.contains(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
+            if (!onlineInstances.contains(getShardingInstanceId(i))) {
                 return true;
             }
         }
         return false;
     }
     
+    private String getShardingInstanceId(final int item) {
+        String result = JobRegistry.getInstance().getShardingInstanceId(jobName, item);
+        return null == result ? jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(item)) : result;
+    }
+    
+    @RequiredArgsConstructor
+    class PersistChangedShardingInfoTransactionExecutionCallback implements TransactionExecutionCallback {
+        
+        private final Map<JobInstance, List<Integer>> shardingResults;
+        
+        private final Map<Integer, JobInstance> currentShardingResults;
+        
+        private final Map<Integer, Integer> currentVersions;
+        
+        @Override
+        public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+            Set<Integer> unassignedShardingItems = new HashSet<>(currentShardingResults.keySet());
+            for (Map.Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+                for (int shardingItem : entry.getValue()) {
+                    unassignedShardingItems.remove(shardingItem);
+                    JobInstance currentJobInstance = currentShardingResults.get(shardingItem);
+                    Integer version = currentVersions.get(shardingItem);
+                    String path = jobNodePath.getFullPath(ShardingNode.getInstanceNode(shardingItem));
+                    if (null == currentJobInstance) {
+                        curatorTransactionFinal.create().forPath(path, entry.getKey().getJobInstanceId().getBytes()).and();
+                    } else if (!currentJobInstance.equals(entry.getKey())) {
+                        if (null == version) {
+                            curatorTransactionFinal.setData().forPath(path, entry.getKey().getJobInstanceId().getBytes()).and();
+                        } else {
+                            curatorTransactionFinal.setData().withVersion(version).forPath(path, entry.getKey().getJobInstanceId().getBytes()).and();
+                        }
+                    } else if (null != version) {
+                        curatorTransactionFinal.check().withVersion(version).forPath(path).and();
+                    }
+                }
+            }
+            for (int each : unassignedShardingItems) {
+                Integer version = currentVersions.get(each);
+                String path = jobNodePath.getFullPath(ShardingNode.getInstanceNode(each));
+                if (null == version) {
+                    curatorTransactionFinal.delete().forPath(path).and();
+                } else {
+                    curatorTransactionFinal.delete().withVersion(version).forPath(path).and();
+                }
+            }
+            curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(ShardingNode.NECESSARY)).and();
+            curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(ShardingNode.PROCESSING)).and();
+        }
+    }
+    
     @RequiredArgsConstructor
     class PersistShardingInfoTransactionExecutionCallback implements TransactionExecutionCallback {
         
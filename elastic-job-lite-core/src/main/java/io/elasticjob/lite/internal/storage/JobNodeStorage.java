@@ -17,16 +17,24 @@
 
 package io.elasticjob.lite.internal.storage;
 
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
 import io.elasticjob.lite.exception.JobSystemException;
+import io.elasticjob.lite.metrics.JobMetrics;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import io.elasticjob.lite.reg.exception.RegExceptionHandler;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
+import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.TreeCache;
 import org.apache.curator.framework.recipes.cache.TreeCacheListener;
 import org.apache.curator.framework.recipes.leader.LeaderLatch;
 import org.apache.curator.framework.state.ConnectionStateListener;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -59,9 +67,22 @@ public final class JobNodeStorage {
      * @return 作业节点是否存在
      */
     public boolean isJobNodeExisted(final String node) {
+        recordRegistryCenterRequest();
         return regCenter.isExisted(jobNodePath.getFullPath(node));
     }
     
+    /**
+     * 从本地缓存判断作业节点是否存在.
+     * 
+     * <p>结果可能落后于注册中心, 适用于可容忍短暂延迟的状态扫描.</p>
+     * 
+     * @param node 作业节点名称
+     * @return 作业节点是否存在
+     */
+    public boolean isJobNodeExistedInCache(final String node) {
+        return regCenter.isExistedInCache(jobNodePath.getFullPath(node));
+    }
+    
     /**
      * 获取作业节点数据.
      * 
@@ -72,6 +93,17 @@ public final class JobNodeStorage {
         return regCenter.get(jobNodePath.getFullPath(node));
     }
     
+    /**
+     * 获取本地缓存中的作业节点数据及版本信息.
+     * 
+     * @param node 作业节点名称
+     * @return 本地缓存中的作业节点数据, 作业未开启本地缓存或缓存中无此节点时返回null
+     */
+    public ChildData getJobNodeCachedData(final String node) {
+        TreeCache cache = (TreeCache) regCenter.getRawCache("/" + jobName);
+        return null == cache ? null : cache.getCurrentData(jobNodePath.getFullPath(node));
+    }
+    
     /**
      * 直接从注册中心而非本地缓存获取作业节点数据.
      * 
@@ -79,6 +111,7 @@ public final class JobNodeStorage {
      * @return 作业节点数据值
      */
     public String getJobNodeDataDirectly(final String node) {
+        recordRegistryCenterRequest();
         return regCenter.getDirectly(jobNodePath.getFullPath(node));
     }
     
@@ -89,6 +122,7 @@ public final class JobNodeStorage {
      * @return 作业节点子节点名称列表
      */
     public List<String> getJobNodeChildrenKeys(final String node) {
+        recordRegistryCenterRequest();
         return regCenter.getChildrenKeys(jobNodePath.getFullPath(node));
     }
     
@@ -101,11 +135,13 @@ public final class JobNodeStorage {
      */
     public void createJobNodeIfNeeded(final String node) {
         if (isJobRootNodeExisted() && !isJobNodeExisted(node)) {
+            recordRegistryCenterRequest();
             regCenter.persist(jobNodePath.getFullPath(node), "");
         }
     }
     
     private boolean isJobRootNodeExisted() {
+        recordRegistryCenterRequest();
         return regCenter.isExisted("/" + jobName);
     }
     
@@ -116,6 +152,7 @@ public final class JobNodeStorage {
      */
     public void removeJobNodeIfExisted(final String node) {
         if (isJobNodeExisted(node)) {
+            recordRegistryCenterRequest();
             regCenter.remove(jobNodePath.getFullPath(node));
         }
     }
@@ -127,6 +164,7 @@ public final class JobNodeStorage {
      * @param value 作业节点数据值
      */
     public void fillJobNode(final String node, final Object value) {
+        recordRegistryCenterRequest();
         regCenter.persist(jobNodePath.getFullPath(node), value.toString());
     }
     
@@ -137,6 +175,7 @@ public final class JobNodeStorage {
      * @param value 作业节点数据值
      */
     public void fillEphemeralJobNode(final String node, final Object value) {
+        recordRegistryCenterRequest();
         regCenter.persistEphemeral(jobNodePath.getFullPath(node), value.toString());
     }
     
@@ -147,9 +186,33 @@ public final class JobNodeStorage {
      * @param value 作业节点数据值
      */
     public void updateJobNode(final String node, final Object value) {
+        recordRegistryCenterRequest();
         regCenter.update(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * 当作业节点版本与读取时一致时更新节点数据.
+     * 
+     * @param node 作业节点名称
+     * @param value 作业节点数据值
+     * @param version 读取节点数据时的版本
+     * @return 是否更新成功, 节点已被修改或删除时返回false
+     */
+    public boolean updateJobNodeIfVersionMatched(final String node, final Object value, final int version) {
+        recordRegistryCenterRequest();
+        try {
+            getClient().setData().withVersion(version).forPath(jobNodePath.getFullPath(node), value.toString().getBytes(Charsets.UTF_8));
+            return true;
+        } catch (final KeeperException.BadVersionException | KeeperException.NoNodeException ex) {
+            return false;
+        //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+        //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return false;
+        }
+    }
+    
     /**
      * 替换作业节点数据.
      * 
@@ -157,6 +220,7 @@ public final class JobNodeStorage {
      * @param value 待替换的数据
      */
     public void replaceJobNode(final String node, final Object value) {
+        recordRegistryCenterRequest();
         regCenter.persist(jobNodePath.getFullPath(node), value.toString());
     }
 
@@ -166,6 +230,7 @@ public final class JobNodeStorage {
      * @param callback 执行操作的回调
      */
     public void executeInTransaction(final TransactionExecutionCallback callback) {
+        recordRegistryCenterRequest();
         try {
             CuratorTransactionFinal curatorTransactionFinal = getClient().inTransaction().check().forPath("/").and();
             callback.execute(curatorTransactionFinal);
@@ -177,6 +242,118 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * 在事务中执行带版本校验的操作.
+     * 
+     * <p>事务中的节点版本与读取时不一致, 或节点已被其他操作创建或删除时, 事务不会提交并返回false, 由调用方重新读取后重试.</p>
+     * 
+     * @param callback 执行操作的回调
+     * @return 事务是否提交成功
+     */
+    public boolean executeInTransactionIfVersionMatched(final TransactionExecutionCallback callback) {
+        return executeInBatch(callback);
+    }
+    
+    /**
+     * 批量创建作业节点.
+     * 
+     * <p>在一次事务中创建全部节点, 如有节点已存在或父节点不存在则退化为逐个调用{@link #createJobNodeIfNeeded(String)}.</p>
+     * 
+     * @param nodes 作业节点名称集合
+     */
+    public void createJobNodesIfNeeded(final Collection<String> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        boolean isCommitted = executeInBatch(new TransactionExecutionCallback() {
+            
+            @Override
+            public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+                for (String each : nodes) {
+                    curatorTransactionFinal.create().withMode(CreateMode.PERSISTENT).forPath(jobNodePath.getFullPath(each), new byte[0]).and();
+                }
+            }
+        });
+        if (!isCommitted) {
+            for (String each : nodes) {
+                createJobNodeIfNeeded(each);
+            }
+        }
+    }
+    
+    /**
+     * 批量删除作业节点.
+     * 
+     * <p>在一次事务中删除全部节点, 如有节点不存在则退化为逐个调用{@link #removeJobNodeIfExisted(String)}. 仅适用于无子节点的作业节点.</p>
+     * 
+     * @param nodes 作业节点名称集合
+     */
+    public void removeJobNodesIfExisted(final Collection<String> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        boolean isCommitted = executeInBatch(new TransactionExecutionCallback() {
+            
+            @Override
+            public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+                for (String each : nodes) {
+                    curatorTransactionFinal.delete().forPath(jobNodePath.getFullPath(each)).and();
+                }
+            }
+        });
+        if (!isCommitted) {
+            for (String each : nodes) {
+                removeJobNodeIfExisted(each);
+            }
+        }
+    }
+    
+    /**
+     * 批量填充临时节点数据.
+     * 
+     * <p>在一次事务中创建全部临时节点, 如有节点已存在或父节点不存在则退化为逐个调用{@link #fillEphemeralJobNode(String, Object)}.</p>
+     * 
+     * @param nodes 作业节点名称集合
+     * @param value 作业节点数据值
+     */
+    public void fillEphemeralJobNodes(final Collection<String> nodes, final Object value) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        final byte[] data = value.toString().getBytes(Charsets.UTF_8);
+        boolean isCommitted = executeInBatch(new TransactionExecutionCallback() {
+            
+            @Override
+            public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+                for (String each : nodes) {
+                    curatorTransactionFinal.create().withMode(CreateMode.EPHEMERAL).forPath(jobNodePath.getFullPath(each), data).and();
+                }
+            }
+        });
+        if (!isCommitted) {
+            for (String each : nodes) {
+                fillEphemeralJobNode(each, value);
+            }
+        }
+    }
+    
+    private boolean executeInBatch(final TransactionExecutionCallback callback) {
+        recordRegistryCenterRequest();
+        try {
+            CuratorTransactionFinal curatorTransactionFinal = getClient().inTransaction().check().forPath("/").and();
+            callback.execute(curatorTransactionFinal);
+            curatorTransactionFinal.commit();
+            return true;
+        } catch (final KeeperException.NodeExistsException | KeeperException.NoNodeException | KeeperException.BadVersionException ex) {
+            return false;
+        //CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+        //CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return true;
+        }
+    }
+    
     /**
      * 在主节点执行操作.
      * 
@@ -184,6 +361,7 @@ public final class JobNodeStorage {
      * @param callback 执行操作的回调
      */
     public void executeInLeader(final String latchNode, final LeaderExecutionCallback callback) {
+        recordRegistryCenterRequest();
         try (LeaderLatch latch = new LeaderLatch(getClient(), jobNodePath.getFullPath(latchNode))) {
             latch.start();
             latch.await();
@@ -212,6 +390,13 @@ public final class JobNodeStorage {
         getClient().getConnectionStateListenable().addListener(listener);
     }
     
+    private void recordRegistryCenterRequest() {
+        Optional<JobMetrics> jobMetrics = JobMetricsRegistry.getInstance().findJobMetrics(jobName);
+        if (jobMetrics.isPresent()) {
+            jobMetrics.get().recordRegistryCenterRequest();
+        }
+    }
+    
     private CuratorFramework getClient() {
         return (CuratorFramework) regCenter.getRawClient();
     }
@@ -222,8 +407,7 @@ public final class JobNodeStorage {
      * @param listener 数据监听器
      */
     public void addDataListener(final TreeCacheListener listener) {
-        TreeCache cache = (TreeCache) regCenter.getRawCache("/" + jobName);
-        cache.getListenable().addListener(listener);
+        regCenter.addRawCacheListener("/" + jobName, listener);
     }
     
     /**
@@ -232,6 +416,7 @@ public final class JobNodeStorage {
      * @return 注册中心当前时间
      */
     public long getRegistryCenterTime() {
+        recordRegistryCenterRequest();
         return regCenter.getRegistryCenterTime(jobNodePath.getFullPath("systemTime/current"));
     }
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import io.elasticjob.lite.event.JobEventSink;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 作业运行指标.
+ * 
+ * <p>
+ * 耗时均以微秒记录.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class JobMetrics {
+    
+    private static final int ROLLING_WEIGHT_SHIFT = 3;
+    
+    @Getter
+    private final String jobName;
+    
+    private final AtomicLong fireCount = new AtomicLong();
+    
+    private final AtomicLong misfireCount = new AtomicLong();
+    
+    private final AtomicLong failoverCount = new AtomicLong();
+    
+    private final AtomicLong itemFailureCount = new AtomicLong();
+    
+    private final AtomicLong registryCenterRequestCount = new AtomicLong();
+    
+    /**
+     * 获取分片上下文的耗时, 包含分片及失效转移时访问注册中心的耗时.
+     */
+    @Getter
+    private final LatencyHistogram coordinationLatency = new LatencyHistogram();
+    
+    /**
+     * 全部分片项执行完成的耗时.
+     */
+    @Getter
+    private final LatencyHistogram executionLatency = new LatencyHistogram();
+    
+    private final ConcurrentMap<Integer, LatencyHistogram> itemExecutionLatencies = new ConcurrentHashMap<>();
+    
+    private final AtomicLong rollingItemExecutionLatency = new AtomicLong();
+    
+    @Setter
+    private volatile JobEventSink jobEventSink;
+    
+    /**
+     * 记录作业触发.
+     */
+    public void recordFire() {
+        fireCount.incrementAndGet();
+    }
+    
+    /**
+     * 记录因上次作业仍在运行而错过的执行.
+     */
+    public void recordMisfire() {
+        misfireCount.incrementAndGet();
+    }
+    
+    /**
+     * 记录本作业实例抓取的失效转移分片项.
+     */
+    public void recordFailover() {
+        failoverCount.incrementAndGet();
+    }
+    
+    /**
+     * 记录访问注册中心的请求.
+     */
+    public void recordRegistryCenterRequest() {
+        registryCenterRequestCount.incrementAndGet();
+    }
+    
+    /**
+     * 记录获取分片上下文的耗时.
+     * 
+     * @param elapsedNanos 耗时纳秒数
+     */
+    public void recordCoordinationTime(final long elapsedNanos) {
+        coordinationLatency.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+    
+    /**
+     * 记录全部分片项执行完成的耗时.
+     * 
+     * @param elapsedNanos 耗时纳秒数
+     */
+    public void recordExecutionTime(final long elapsedNanos) {
+        executionLatency.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+    
+    /**
+     * 记录分片项执行耗时.
+     * 
+     * @param item 分片项
+     * @param elapsedNanos 耗时纳秒数
+     */
+    public void recordItemExecutionTime(final int item, final long elapsedNanos) {
+        LatencyHistogram histogram = itemExecutionLatencies.get(item);
+        if (null == histogram) {
+            LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = itemExecutionLatencies.putIfAbsent(item, newHistogram);
+            if (null == histogram) {
+                histogram = newHistogram;
+            }
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        histogram.record(elapsedMicros);
+        updateRollingItemExecutionLatency(Math.max(1L, elapsedMicros));
+    }
+    
+    private void updateRollingItemExecutionLatency(final long elapsedMicros) {
+        long current;
+        long next;
+        do {
+            current = rollingItemExecutionLatency.get();
+            next = 0L == current ? elapsedMicros : current + ((elapsedMicros - current) >> ROLLING_WEIGHT_SHIFT);
+        } while (!rollingItemExecutionLatency.compareAndSet(current, next));
+    }
+    
+    /**
+     * 记录分片项执行失败.
+     */
+    public void recordItemFailure() {
+        itemFailureCount.incrementAndGet();
+    }
+    
+    /**
+     * 获取作业触发次数.
+     * 
+     * @return 作业触发次数
+     */
+    public long getFireCount() {
+        return fireCount.get();
+    }
+    
+    /**
+     * 获取错过执行的次数.
+     * 
+     * @return 错过执行的次数
+     */
+    public long getMisfireCount() {
+        return misfireCount.get();
+    }
+    
+    /**
+     * 获取失效转移的分片项数量.
+     * 
+     * @return 失效转移的分片项数量
+     */
+    public long getFailoverCount() {
+        return failoverCount.get();
+    }
+    
+    /**
+     * 获取分片项执行失败次数.
+     * 
+     * @return 分片项执行失败次数
+     */
+    public long getItemFailureCount() {
+        return itemFailureCount.get();
+    }
+    
+    /**
+     * 获取访问注册中心的请求数量.
+     * 
+     * <p>
+     * 仅统计不经过本地缓存的请求.
+     * </p>
+     * 
+     * @return 访问注册中心的请求数量
+     */
+    public long getRegistryCenterRequestCount() {
+        return registryCenterRequestCount.get();
+    }
+    
+    /**
+     * 获取各分片项执行耗时.
+     * 
+     * @return 按分片项排序的执行耗时
+     */
+    public Map<Integer, LatencyHistogram> getItemExecutionLatencies() {
+        return Collections.unmodifiableMap(new TreeMap<>(itemExecutionLatencies));
+    }
+    
+    /**
+     * 获取分片项执行耗时的指数加权移动平均值.
+     * 
+     * <p>
+     * 每次记录分片项执行耗时时, 新耗时占1/8权重.
+     * </p>
+     * 
+     * @return 分片项执行耗时的移动平均值, 尚无记录时返回0
+     */
+    public long getRollingItemExecutionLatency() {
+        return rollingItemExecutionLatency.get();
+    }
+    
+    /**
+     * 获取待分发的作业事件数量.
+     * 
+     * @return 待分发的作业事件数量
+     */
+    public int getEventQueueDepth() {
+        JobEventSink jobEventSink = this.jobEventSink;
+        return null == jobEventSink ? 0 : jobEventSink.getQueueDepth();
+    }
+    
+    /**
+     * 获取因分发队列已满或已关闭而丢弃的作业事件数量.
+     * 
+     * @return 丢弃的作业事件数量
+     */
+    public long getEventDroppedCount() {
+        JobEventSink jobEventSink = this.jobEventSink;
+        return null == jobEventSink ? 0L : jobEventSink.getDroppedCount();
+    }
+    
+    /**
+     * 获取已分发的作业事件数量.
+     * 
+     * @return 已分发的作业事件数量
+     */
+    public long getEventDispatchedCount() {
+        JobEventSink jobEventSink = this.jobEventSink;
+        return null == jobEventSink ? 0L : jobEventSink.getDispatchedCount();
+    }
+    
+    /**
+     * 获取作业事件分发耗时的平均值.
+     * 
+     * @return 作业事件分发耗时的平均值, 尚无记录时返回0
+     */
+    public long getMeanEventDispatchLatency() {
+        JobEventSink jobEventSink = this.jobEventSink;
+        if (null == jobEventSink) {
+            return 0L;
+        }
+        long dispatchedCount = jobEventSink.getDispatchedCount();
+        return 0L == dispatchedCount ? 0L : TimeUnit.NANOSECONDS.toMicros(jobEventSink.getTotalDispatchLatencyNanos() / dispatchedCount);
+    }
+    
+    /**
+     * 获取作业事件分发耗时的最大值.
+     * 
+     * @return 作业事件分发耗时的最大值
+     */
+    public long getMaxEventDispatchLatency() {
+        JobEventSink jobEventSink = this.jobEventSink;
+        return null == jobEventSink ? 0L : TimeUnit.NANOSECONDS.toMicros(jobEventSink.getMaxDispatchLatencyNanos());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import java.util.Collection;
+
+/**
+ * 作业运行指标导出器.
+ * 
+ * <p>
+ * 通过META-INF/services/io.elasticjob.lite.metrics.JobMetricsExporter声明的实现类将在启动时自动加载,
+ * 也可通过{@link JobMetricsRegistry#addExporter(JobMetricsExporter)}注册.
+ * </p>
+ */
+public interface JobMetricsExporter {
+    
+    /**
+     * 获取导出间隔毫秒数.
+     * 
+     * @return 导出间隔毫秒数
+     */
+    long getExportIntervalMilliseconds();
+    
+    /**
+     * 导出作业运行指标.
+     * 
+     * @param jobMetrics 当前进程中所有作业的运行指标
+     */
+    void export(Collection<JobMetrics> jobMetrics);
+}
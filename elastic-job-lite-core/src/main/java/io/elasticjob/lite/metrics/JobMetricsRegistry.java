@@ -0,0 +1,162 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作业运行指标注册表.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class JobMetricsRegistry {
+    
+    private static volatile JobMetricsRegistry instance;
+    
+    private final ConcurrentMap<String, JobMetrics> jobMetricsMap = new ConcurrentHashMap<>();
+    
+    private final List<JobMetricsExporter> exporters = new ArrayList<>();
+    
+    private ScheduledExecutorService exportExecutorService;
+    
+    /**
+     * 获取作业运行指标注册表实例.
+     * 
+     * @return 作业运行指标注册表实例
+     */
+    public static JobMetricsRegistry getInstance() {
+        if (null == instance) {
+            synchronized (JobMetricsRegistry.class) {
+                if (null == instance) {
+                    JobMetricsRegistry jobMetricsRegistry = new JobMetricsRegistry();
+                    for (JobMetricsExporter each : ServiceLoader.load(JobMetricsExporter.class)) {
+                        jobMetricsRegistry.addExporter(each);
+                    }
+                    instance = jobMetricsRegistry;
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * 获取作业运行指标, 不存在时创建.
+     * 
+     * @param jobName 作业名称
+     * @return 作业运行指标
+     */
+    public JobMetrics getJobMetrics(final String jobName) {
+        JobMetrics result = jobMetricsMap.get(jobName);
+        if (null == result) {
+            JobMetrics jobMetrics = new JobMetrics(jobName);
+            result = jobMetricsMap.putIfAbsent(jobName, jobMetrics);
+            if (null == result) {
+                result = jobMetrics;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 查找作业运行指标, 不存在时不创建.
+     * 
+     * <p>
+     * 作业关闭时作业运行指标已被删除, 关闭后仍在执行的回调应使用本方法, 避免重新创建作业运行指标.
+     * </p>
+     * 
+     * @param jobName 作业名称
+     * @return 作业运行指标
+     */
+    public Optional<JobMetrics> findJobMetrics(final String jobName) {
+        return Optional.fromNullable(jobMetricsMap.get(jobName));
+    }
+    
+    /**
+     * 获取所有作业运行指标.
+     * 
+     * @return 所有作业运行指标
+     */
+    public Collection<JobMetrics> getAllJobMetrics() {
+        return new ArrayList<>(jobMetricsMap.values());
+    }
+    
+    /**
+     * 删除作业运行指标.
+     * 
+     * @param jobName 作业名称
+     */
+    public void remove(final String jobName) {
+        jobMetricsMap.remove(jobName);
+    }
+    
+    /**
+     * 注册作业运行指标导出器.
+     * 
+     * <p>
+     * 导出器按各自的导出间隔在独立的守护线程中定期执行, 导出间隔小于等于0的导出器不会被执行.
+     * </p>
+     * 
+     * @param exporter 作业运行指标导出器
+     */
+    public synchronized void addExporter(final JobMetricsExporter exporter) {
+        exporters.add(exporter);
+        long intervalMilliseconds = exporter.getExportIntervalMilliseconds();
+        if (intervalMilliseconds <= 0L) {
+            return;
+        }
+        if (null == exportExecutorService) {
+            exportExecutorService = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder().namingPattern("job-metrics-exporter-%s").daemon(true).build());
+        }
+        exportExecutorService.scheduleWithFixedDelay(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    exporter.export(getAllJobMetrics());
+                    // CHECKSTYLE:OFF
+                } catch (final Throwable ex) {
+                    // CHECKSTYLE:ON
+                    log.error("Elastic job: export job metrics failure, error is: ", ex);
+                }
+            }
+        }, intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * 获取已注册的作业运行指标导出器.
+     * 
+     * @return 作业运行指标导出器
+     */
+    public synchronized List<JobMetricsExporter> getExporters() {
+        return new ArrayList<>(exporters);
+    }
+}
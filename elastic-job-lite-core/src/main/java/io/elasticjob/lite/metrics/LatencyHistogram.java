@@ -0,0 +1,139 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 耗时直方图.
+ * 
+ * <p>
+ * 按对数分段, 每段再线性划分为32个桶, 记录值的相对误差不超过1/32. 记录时仅使用原子操作, 不加锁.
+ * 小于0的值按0记录, 超过{@link #MAX_TRACKABLE_VALUE}的值按最大值记录.
+ * </p>
+ */
+public final class LatencyHistogram {
+    
+    /**
+     * 可准确记录的最大值.
+     */
+    public static final long MAX_TRACKABLE_VALUE = (1L << 37) - 1;
+    
+    private static final int SUB_BUCKET_BITS = 6;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(getBucketIndex(MAX_TRACKABLE_VALUE) + 1);
+    
+    private final AtomicLong totalCount = new AtomicLong();
+    
+    private final AtomicLong totalValue = new AtomicLong();
+    
+    private final AtomicLong maxValue = new AtomicLong();
+    
+    static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+    }
+    
+    static long getBucketUpperBound(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int offset = bucketIndex - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+    
+    /**
+     * 记录值.
+     * 
+     * @param value 待记录的值
+     */
+    public void record(final long value) {
+        long normalizedValue = Math.min(Math.max(value, 0L), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(getBucketIndex(normalizedValue));
+        totalValue.addAndGet(normalizedValue);
+        totalCount.incrementAndGet();
+        long currentMaxValue = maxValue.get();
+        while (normalizedValue > currentMaxValue && !maxValue.compareAndSet(currentMaxValue, normalizedValue)) {
+            currentMaxValue = maxValue.get();
+        }
+    }
+    
+    /**
+     * 获取记录次数.
+     * 
+     * @return 记录次数
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+    
+    /**
+     * 获取最大值.
+     * 
+     * @return 最大值
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+    
+    /**
+     * 获取平均值.
+     * 
+     * @return 平均值, 无记录时返回0
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return 0L == count ? 0D : (double) totalValue.get() / count;
+    }
+    
+    /**
+     * 获取百分位数对应的值.
+     * 
+     * <p>
+     * 返回所在桶的上界, 不超过已记录的最大值.
+     * </p>
+     * 
+     * @param percentile 百分位数, 取值范围为0至100
+     * @return 百分位数对应的值, 无记录时返回0
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long count = totalCount.get();
+        if (0L == count) {
+            return 0L;
+        }
+        long targetCount = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100D) / 100D * count));
+        long accumulatedCount = 0L;
+        for (int i = 0; i < counts.length(); i++) {
+            accumulatedCount += counts.get(i);
+            if (accumulatedCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+}
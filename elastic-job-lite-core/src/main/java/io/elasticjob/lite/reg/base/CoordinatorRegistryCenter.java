@@ -34,6 +34,20 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     String getDirectly(String key);
     
+    /**
+     * 从本地缓存判断数据是否存在.
+     * 
+     * <p>
+     * 键已被初始化完成的本地缓存覆盖时, 以本地缓存为准, 不访问注册中心.
+     * 本地缓存通过注册中心的事件通知异步更新, 因此结果可能落后于注册中心, 但落后时间不超过事件通知的延迟.
+     * 键未被本地缓存覆盖或本地缓存尚未初始化完成时, 直接从注册中心判断.
+     * </p>
+     * 
+     * @param key 键
+     * @return 是否存在
+     */
+    boolean isExistedInCache(String key);
+    
     /**
      * 获取子节点名称集合.
      * 
@@ -81,6 +95,19 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     void addCacheData(String cachePath);
     
+    /**
+     * 添加本地缓存的原生数据监听器.
+     * 
+     * <p>
+     * 监听器只接收该缓存路径下的数据变化, 释放本地缓存时一并移除.
+     * 监听器类型由注册中心实现决定, 如: Zookeeper的TreeCacheListener.
+     * </p>
+     * 
+     * @param cachePath 缓存的节点路径
+     * @param listener 注册中心的原生数据监听器
+     */
+    void addRawCacheListener(String cachePath, Object listener);
+    
     /**
      * 释放本地缓存.
      *
@@ -79,4 +79,11 @@ public final class ZookeeperConfiguration {
      * 缺省为不需要权限验证.
      */
     private String digest;
+    
+    /**
+     * 是否使用命名空间级别的共享缓存.
+     * 开启后所有作业共用一个缓存, 缓存事件按作业路径分发给各作业的监听器.
+     * 缺省为每个作业使用独立的缓存.
+     */
+    private boolean sharedCacheEnabled;
 }
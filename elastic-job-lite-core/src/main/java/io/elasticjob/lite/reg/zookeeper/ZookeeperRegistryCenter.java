@@ -30,6 +30,8 @@ import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.apache.curator.framework.recipes.cache.TreeCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.zookeeper.CreateMode;
@@ -40,10 +42,12 @@ import org.apache.zookeeper.data.Stat;
 
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,7 +61,15 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     @Getter(AccessLevel.PROTECTED)
     private ZookeeperConfiguration zkConfig;
     
-    private final Map<String, TreeCache> caches = new HashMap<>();
+    private static final String SHARED_CACHE_PATH = "/";
+    
+    private final Map<String, TreeCache> caches = new ConcurrentHashMap<>();
+    
+    private final Map<String, List<TreeCacheListener>> sharedCacheListeners = new ConcurrentHashMap<>();
+    
+    private TreeCache sharedCache;
+    
+    private final Set<TreeCache> initializedCaches = Collections.newSetFromMap(new ConcurrentHashMap<TreeCache, Boolean>());
     
     @Getter
     private CuratorFramework client;
@@ -110,8 +122,8 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     @Override
     public void close() {
-        for (Entry<String, TreeCache> each : caches.entrySet()) {
-            each.getValue().close();
+        for (TreeCache each : new HashSet<>(caches.values())) {
+            each.close();
         }
         waitForCacheClose();
         CloseableUtils.closeQuietly(client);
@@ -144,10 +156,20 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     }
     
     private TreeCache findTreeCache(final String key) {
-        for (Entry<String, TreeCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
+        return findByPathPrefix(caches, key);
+    }
+    
+    /*
+     * 按路径分段逐级查找, 查找次数只与路径深度相关, 与缓存数量无关.
+     */
+    private static <T> T findByPathPrefix(final Map<String, T> pathPrefixMap, final String key) {
+        int index = key.indexOf('/', 1);
+        while (-1 != index) {
+            T result = pathPrefixMap.get(key.substring(0, index + 1));
+            if (null != result) {
+                return result;
             }
+            index = key.indexOf('/', index + 1);
         }
         return null;
     }
@@ -211,14 +233,21 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         }
     }
     
+    @Override
+    public boolean isExistedInCache(final String key) {
+        TreeCache cache = findTreeCache(key);
+        if (null == cache || !initializedCaches.contains(cache)) {
+            return isExisted(key);
+        }
+        return null != cache.getCurrentData(key);
+    }
+    
     @Override
     public void persist(final String key, final String value) {
         try {
-            if (!isExisted(key)) {
-                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(Charsets.UTF_8));
-            } else {
-                update(key, value);
-            }
+            client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(Charsets.UTF_8));
+        } catch (final KeeperException.NodeExistsException ex) {
+            update(key, value);
         //CHECKSTYLE:OFF
         } catch (final Exception ex) {
         //CHECKSTYLE:ON
@@ -239,16 +268,23 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     @Override
     public void persistEphemeral(final String key, final String value) {
+        if (!createEphemeral(key, value)) {
+            remove(key);
+            createEphemeral(key, value);
+        }
+    }
+    
+    private boolean createEphemeral(final String key, final String value) {
         try {
-            if (isExisted(key)) {
-                client.delete().deletingChildrenIfNeeded().forPath(key);
-            }
             client.create().creatingParentsIfNeeded().withMode(CreateMode.EPHEMERAL).forPath(key, value.getBytes(Charsets.UTF_8));
+        } catch (final KeeperException.NodeExistsException ex) {
+            return false;
         //CHECKSTYLE:OFF
         } catch (final Exception ex) {
         //CHECKSTYLE:ON
             RegExceptionHandler.handleException(ex);
         }
+        return true;
     }
     
     @Override
@@ -307,25 +343,111 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     @Override
     public void addCacheData(final String cachePath) {
-        TreeCache cache = new TreeCache(client, cachePath);
+        if (zkConfig.isSharedCacheEnabled()) {
+            addSharedCacheData(cachePath);
+            return;
+        }
+        caches.put(cachePath + "/", startTreeCache(cachePath, null));
+    }
+    
+    private synchronized void addSharedCacheData(final String cachePath) {
+        if (null == sharedCache) {
+            sharedCache = startTreeCache(SHARED_CACHE_PATH, new TreeCacheListener() {
+                
+                @Override
+                public void childEvent(final CuratorFramework curatorFramework, final TreeCacheEvent event) throws Exception {
+                    dispatchSharedCacheEvent(curatorFramework, event);
+                }
+            });
+        }
+        sharedCacheListeners.put(cachePath + "/", new CopyOnWriteArrayList<TreeCacheListener>());
+        caches.put(cachePath + "/", sharedCache);
+    }
+    
+    private TreeCache startTreeCache(final String cachePath, final TreeCacheListener dispatchListener) {
+        final TreeCache result = new TreeCache(client, cachePath);
+        result.getListenable().addListener(new TreeCacheListener() {
+            
+            @Override
+            public void childEvent(final CuratorFramework curatorFramework, final TreeCacheEvent event) throws Exception {
+                if (TreeCacheEvent.Type.INITIALIZED == event.getType()) {
+                    initializedCaches.add(result);
+                }
+            }
+        });
+        if (null != dispatchListener) {
+            result.getListenable().addListener(dispatchListener);
+        }
         try {
-            cache.start();
+            result.start();
         //CHECKSTYLE:OFF
         } catch (final Exception ex) {
         //CHECKSTYLE:ON
             RegExceptionHandler.handleException(ex);
         }
-        caches.put(cachePath + "/", cache);
+        return result;
+    }
+    
+    private void dispatchSharedCacheEvent(final CuratorFramework curatorFramework, final TreeCacheEvent event) throws Exception {
+        if (null == event.getData()) {
+            for (List<TreeCacheListener> each : sharedCacheListeners.values()) {
+                notifyListeners(each, curatorFramework, event);
+            }
+            return;
+        }
+        String path = event.getData().getPath();
+        List<TreeCacheListener> listeners = sharedCacheListeners.get(path + "/");
+        if (null == listeners) {
+            listeners = findByPathPrefix(sharedCacheListeners, path);
+        }
+        if (null != listeners) {
+            notifyListeners(listeners, curatorFramework, event);
+        }
+    }
+    
+    private void notifyListeners(final List<TreeCacheListener> listeners, final CuratorFramework curatorFramework, final TreeCacheEvent event) throws Exception {
+        for (TreeCacheListener each : listeners) {
+            each.childEvent(curatorFramework, event);
+        }
+    }
+    
+    @Override
+    public void addRawCacheListener(final String cachePath, final Object listener) {
+        Preconditions.checkArgument(listener instanceof TreeCacheListener, "Listener of '%s' must be TreeCacheListener.", cachePath);
+        TreeCacheListener treeCacheListener = (TreeCacheListener) listener;
+        List<TreeCacheListener> listeners = sharedCacheListeners.get(cachePath + "/");
+        if (null != listeners) {
+            listeners.add(treeCacheListener);
+            return;
+        }
+        TreeCache cache = caches.get(cachePath + "/");
+        Preconditions.checkState(null != cache, "Cannot add listener to '%s', local cache is not found.", cachePath);
+        cache.getListenable().addListener(treeCacheListener);
     }
     
     @Override
     public void evictCacheData(final String cachePath) {
+        if (zkConfig.isSharedCacheEnabled()) {
+            evictSharedCacheData(cachePath);
+            return;
+        }
         TreeCache cache = caches.remove(cachePath + "/");
         if (null != cache) {
+            initializedCaches.remove(cache);
             cache.close();
         }
     }
     
+    private synchronized void evictSharedCacheData(final String cachePath) {
+        sharedCacheListeners.remove(cachePath + "/");
+        caches.remove(cachePath + "/");
+        if (null != sharedCache && caches.isEmpty()) {
+            initializedCaches.remove(sharedCache);
+            sharedCache.close();
+            sharedCache = null;
+        }
+    }
+    
     @Override
     public Object getRawCache(final String cachePath) {
         return caches.get(cachePath + "/");
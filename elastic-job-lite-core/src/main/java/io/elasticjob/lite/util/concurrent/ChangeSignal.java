@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.util.concurrent;
+
+/**
+ * 状态变化信号.
+ * 
+ * <p>
+ * 等待方在检查条件前获取当前版本, 条件不满足时等待版本变化或超时.
+ * 检查与等待之间发生的变化会使版本递增, 因此不会丢失通知.
+ * </p>
+ */
+public final class ChangeSignal {
+    
+    private long version;
+    
+    /**
+     * 获取当前版本.
+     * 
+     * @return 当前版本
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+    
+    /**
+     * 发出变化信号并唤醒全部等待方.
+     */
+    public synchronized void signalAll() {
+        version++;
+        notifyAll();
+    }
+    
+    /**
+     * 等待版本变化.
+     * 
+     * @param expectedVersion 检查条件前获取的版本
+     * @param timeoutMilliseconds 最长等待毫秒数
+     */
+    public synchronized void awaitChange(final long expectedVersion, final long timeoutMilliseconds) {
+        long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+        long remaining = timeoutMilliseconds;
+        try {
+            while (expectedVersion == version && remaining > 0L) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
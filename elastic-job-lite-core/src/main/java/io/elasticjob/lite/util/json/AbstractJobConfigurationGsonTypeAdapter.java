@@ -56,9 +56,15 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
         boolean misfire = failover;
         String description = "";
         JobProperties jobProperties = new JobProperties();
+        long shardingItemTimeoutMilliseconds = 0L;
         JobType jobType = null;
         String jobClass = "";
         boolean streamingProcess = false;
+        int streamingPrefetchDepth = 0;
+        int processConcurrency = 0;
+        int batchSize = 0;
+        int processTargetMilliseconds = 0;
+        int maxRecordsPerSecond = 0;
         String scriptCommandLine = "";
         Map<String, Object> customizedValueMap = new HashMap<>(32, 1);
         in.beginObject();
@@ -92,6 +98,9 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
                 case "jobProperties":
                     jobProperties = getJobProperties(in);
                     break;
+                case "shardingItemTimeoutMilliseconds":
+                    shardingItemTimeoutMilliseconds = in.nextLong();
+                    break;
                 case "jobType":
                     jobType = JobType.valueOf(in.nextString());
                     break;
@@ -101,6 +110,21 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
                 case "streamingProcess":
                     streamingProcess = in.nextBoolean();
                     break;
+                case "streamingPrefetchDepth":
+                    streamingPrefetchDepth = in.nextInt();
+                    break;
+                case "processConcurrency":
+                    processConcurrency = in.nextInt();
+                    break;
+                case "batchSize":
+                    batchSize = in.nextInt();
+                    break;
+                case "processTargetMilliseconds":
+                    processTargetMilliseconds = in.nextInt();
+                    break;
+                case "maxRecordsPerSecond":
+                    maxRecordsPerSecond = in.nextInt();
+                    break;
                 case "scriptCommandLine":
                     scriptCommandLine = in.nextString();
                     break;
@@ -111,8 +135,9 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
         }
         in.endObject();
         JobCoreConfiguration coreConfig = getJobCoreConfiguration(jobName, cron, shardingTotalCount, shardingItemParameters,
-                jobParameter, failover, misfire, description, jobProperties);
-        JobTypeConfiguration typeConfig = getJobTypeConfiguration(coreConfig, jobType, jobClass, streamingProcess, scriptCommandLine);
+                jobParameter, failover, misfire, description, jobProperties, shardingItemTimeoutMilliseconds);
+        JobTypeConfiguration typeConfig = getJobTypeConfiguration(coreConfig, jobType, jobClass, 
+                streamingProcess, streamingPrefetchDepth, processConcurrency, batchSize, processTargetMilliseconds, maxRecordsPerSecond, scriptCommandLine);
         return getJobRootConfiguration(typeConfig, customizedValueMap);
     }
     
@@ -140,16 +165,17 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
     private JobCoreConfiguration getJobCoreConfiguration(final String jobName, final String cron, final int shardingTotalCount,
                                                          final String shardingItemParameters, final String jobParameter, final boolean failover,
                                                          final boolean misfire, final String description,
-                                                         final JobProperties jobProperties) {
+                                                         final JobProperties jobProperties, final long shardingItemTimeoutMilliseconds) {
         return JobCoreConfiguration.newBuilder(jobName, cron, shardingTotalCount)
                 .shardingItemParameters(shardingItemParameters).jobParameter(jobParameter).failover(failover).misfire(misfire).description(description)
                 .jobProperties(JobProperties.JobPropertiesEnum.JOB_EXCEPTION_HANDLER.getKey(), jobProperties.get(JobProperties.JobPropertiesEnum.JOB_EXCEPTION_HANDLER))
                 .jobProperties(JobProperties.JobPropertiesEnum.EXECUTOR_SERVICE_HANDLER.getKey(), jobProperties.get(JobProperties.JobPropertiesEnum.EXECUTOR_SERVICE_HANDLER))
-                .build();
+                .shardingItemTimeoutMilliseconds(shardingItemTimeoutMilliseconds).build();
     }
     
     private JobTypeConfiguration getJobTypeConfiguration(
-            final JobCoreConfiguration coreConfig, final JobType jobType, final String jobClass, final boolean streamingProcess, final String scriptCommandLine) {
+            final JobCoreConfiguration coreConfig, final JobType jobType, final String jobClass, final boolean streamingProcess, final int streamingPrefetchDepth, final int processConcurrency,
+            final int batchSize, final int processTargetMilliseconds, final int maxRecordsPerSecond, final String scriptCommandLine) {
         Preconditions.checkNotNull(jobType, "jobType cannot be null.");
         switch (jobType) {
             case SIMPLE:
@@ -157,7 +183,8 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
                 return new SimpleJobConfiguration(coreConfig, jobClass);
             case DATAFLOW:
                 Preconditions.checkArgument(!Strings.isNullOrEmpty(jobClass), "jobClass cannot be empty.");
-                return new DataflowJobConfiguration(coreConfig, jobClass, streamingProcess);
+                return DataflowJobConfiguration.newBuilder(coreConfig, jobClass, streamingProcess).streamingPrefetchDepth(streamingPrefetchDepth).processConcurrency(processConcurrency)
+                        .batchSize(batchSize).processTargetMilliseconds(processTargetMilliseconds).maxRecordsPerSecond(maxRecordsPerSecond).build();
             case SCRIPT:
                 return new ScriptJobConfiguration(coreConfig, scriptCommandLine);
             default:
@@ -181,9 +208,15 @@ public abstract class AbstractJobConfigurationGsonTypeAdapter<T extends JobRootC
         out.name("misfire").value(value.getTypeConfig().getCoreConfig().isMisfire());
         out.name("description").value(value.getTypeConfig().getCoreConfig().getDescription());
         out.name("jobProperties").jsonValue(value.getTypeConfig().getCoreConfig().getJobProperties().json());
+        out.name("shardingItemTimeoutMilliseconds").value(value.getTypeConfig().getCoreConfig().getShardingItemTimeoutMilliseconds());
         if (value.getTypeConfig().getJobType() == JobType.DATAFLOW) {
             DataflowJobConfiguration dataflowJobConfig = (DataflowJobConfiguration) value.getTypeConfig();
             out.name("streamingProcess").value(dataflowJobConfig.isStreamingProcess());
+            out.name("streamingPrefetchDepth").value(dataflowJobConfig.getStreamingPrefetchDepth());
+            out.name("processConcurrency").value(dataflowJobConfig.getProcessConcurrency());
+            out.name("batchSize").value(dataflowJobConfig.getBatchSize());
+            out.name("processTargetMilliseconds").value(dataflowJobConfig.getProcessTargetMilliseconds());
+            out.name("maxRecordsPerSecond").value(dataflowJobConfig.getMaxRecordsPerSecond());
         } else if (value.getTypeConfig().getJobType() == JobType.SCRIPT) {
             ScriptJobConfiguration scriptJobConfig = (ScriptJobConfiguration) value.getTypeConfig();
             out.name("scriptCommandLine").value(scriptJobConfig.getScriptCommandLine());
@@ -25,6 +25,7 @@ import io.elasticjob.lite.exception.AllExceptionTests;
 import io.elasticjob.lite.executor.AllExecutorTests;
 import io.elasticjob.lite.integrate.AllIntegrateTests;
 import io.elasticjob.lite.internal.AllInternalTests;
+import io.elasticjob.lite.metrics.AllMetricsTests;
 import io.elasticjob.lite.reg.AllRegTests;
 import io.elasticjob.lite.statistics.AllStatisticsTests;
 import io.elasticjob.lite.util.AllUtilTests;
@@ -42,6 +43,7 @@ import org.junit.runners.Suite.SuiteClasses;
         AllEventTests.class,
         AllExceptionTests.class,
         AllStatisticsTests.class,
+        AllMetricsTests.class,
         AllUtilTests.class, 
         AllApiTests.class, 
         AllConfigTests.class,
@@ -24,14 +24,15 @@ import io.elasticjob.lite.config.LiteJobConfiguration;
 import io.elasticjob.lite.config.simple.SimpleJobConfiguration;
 import io.elasticjob.lite.fixture.TestSimpleJob;
 import io.elasticjob.lite.internal.schedule.JobRegistry;
-import io.elasticjob.lite.internal.schedule.JobScheduleController;
 import io.elasticjob.lite.internal.schedule.JobTriggerListener;
+import io.elasticjob.lite.internal.schedule.QuartzJobScheduleController;
 import io.elasticjob.lite.internal.schedule.SchedulerFacade;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.quartz.JobKey;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.unitils.util.ReflectionUtils;
@@ -71,11 +72,12 @@ public final class JobSchedulerTest {
     @Test
     public void assertInit() throws NoSuchFieldException, SchedulerException {
         when(schedulerFacade.updateJobConfiguration(liteJobConfig)).thenReturn(liteJobConfig);
-        when(schedulerFacade.newJobTriggerListener()).thenReturn(new JobTriggerListener(null, null));
+        when(schedulerFacade.newJobTriggerListener()).thenReturn(new JobTriggerListener("test_job", null, null));
         jobScheduler.init();
         verify(schedulerFacade).registerStartUpInfo(true);
-        Scheduler scheduler = ReflectionUtils.getFieldValue(JobRegistry.getInstance().getJobScheduleController("test_job"), JobScheduleController.class.getDeclaredField("scheduler"));
-        assertThat(scheduler.getListenerManager().getTriggerListeners().get(0), instanceOf(JobTriggerListener.class));
+        Scheduler scheduler = ReflectionUtils.getFieldValue(JobRegistry.getInstance().getJobScheduleController("test_job"), QuartzJobScheduleController.class.getDeclaredField("scheduler"));
+        assertThat(scheduler.getListenerManager().getTriggerListener("JobTriggerListener-test_job"), instanceOf(JobTriggerListener.class));
         assertTrue(scheduler.isStarted());
+        assertThat(scheduler.getJobDetail(JobKey.jobKey("test_job")).getJobDataMap().get(JobScheduler.ELASTIC_JOB_DATA_MAP_KEY), instanceOf(TestSimpleJob.class));
     }
 }
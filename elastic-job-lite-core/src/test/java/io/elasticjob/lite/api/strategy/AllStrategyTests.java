@@ -20,6 +20,8 @@ package io.elasticjob.lite.api.strategy;
 import io.elasticjob.lite.api.strategy.impl.AverageAllocationJobShardingStrategyTest;
 import io.elasticjob.lite.api.strategy.impl.OdevitySortByNameJobShardingStrategyTest;
 import io.elasticjob.lite.api.strategy.impl.RotateServerByNameJobShardingStrategyTest;
+import io.elasticjob.lite.api.strategy.impl.StickyJobShardingStrategyTest;
+import io.elasticjob.lite.api.strategy.impl.WeightedJobShardingStrategyTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -30,7 +32,9 @@ import org.junit.runners.Suite.SuiteClasses;
         JobShardingStrategyFactoryTest.class, 
         AverageAllocationJobShardingStrategyTest.class, 
         OdevitySortByNameJobShardingStrategyTest.class, 
-        RotateServerByNameJobShardingStrategyTest.class
+        RotateServerByNameJobShardingStrategyTest.class, 
+        StickyJobShardingStrategyTest.class, 
+        WeightedJobShardingStrategyTest.class
     })
 public final class AllStrategyTests {
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.api.strategy.impl;
+
+import io.elasticjob.lite.api.strategy.IncrementalJobShardingStrategy;
+import io.elasticjob.lite.api.strategy.JobInstance;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StickyJobShardingStrategyTest {
+    
+    private final IncrementalJobShardingStrategy jobShardingStrategy = new StickyJobShardingStrategy();
+    
+    @Test
+    public void shardingForZeroServer() {
+        assertThat(jobShardingStrategy.sharding(Collections.<JobInstance>emptyList(), "test_job", 3), is(Collections.<JobInstance, List<Integer>>emptyMap()));
+    }
+    
+    @Test
+    public void shardingWithoutCurrentShardingResults() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(3, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4, 5));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(6, 7));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 8), is(expected));
+    }
+    
+    @Test
+    public void shardingWhenServerAdded() {
+        Map<Integer, JobInstance> currentShardingResults = new HashMap<>(6, 1);
+        for (int i = 0; i < 6; i++) {
+            currentShardingResults.put(i, new JobInstance(i < 3 ? "host0@-@0" : "host1@-@0"));
+        }
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(3, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(2, 5));
+        assertThat(jobShardingStrategy.sharding(
+                Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 6, currentShardingResults), is(expected));
+    }
+    
+    @Test
+    public void shardingWhenServerRemoved() {
+        Map<Integer, JobInstance> currentShardingResults = new HashMap<>(6, 1);
+        for (int i = 0; i < 6; i++) {
+            currentShardingResults.put(i, new JobInstance("host" + i / 2 + "@-@0"));
+        }
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 4));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(2, 3, 5));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 6, currentShardingResults), is(expected));
+    }
+    
+    @Test
+    public void shardingWhenAliquantAssignedToServerWithMoreCurrentItems() {
+        Map<Integer, JobInstance> currentShardingResults = new HashMap<>(5, 1);
+        currentShardingResults.put(0, new JobInstance("host1@-@0"));
+        currentShardingResults.put(1, new JobInstance("host1@-@0"));
+        currentShardingResults.put(2, new JobInstance("host1@-@0"));
+        currentShardingResults.put(3, new JobInstance("host0@-@0"));
+        currentShardingResults.put(4, new JobInstance("host0@-@0"));
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(3, 4));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(0, 1, 2));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 5, currentShardingResults), is(expected));
+    }
+}
@@ -24,7 +24,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         LiteJobConfigurationTest.class, 
-        JobCoreConfigurationTest.class
+        JobCoreConfigurationTest.class, 
+        DataflowJobConfigurationTest.class
     })
 public final class AllConfigTests {
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.config;
+
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import io.elasticjob.lite.fixture.TestSimpleJob;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataflowJobConfigurationTest {
+    
+    @Test
+    public void assertBuildAllProperties() {
+        DataflowJobConfiguration actual = DataflowJobConfiguration.newBuilder(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName(), true)
+                .streamingPrefetchDepth(2).processConcurrency(4).batchSize(100).processTargetMilliseconds(500).maxRecordsPerSecond(1000).build();
+        assertTrue(actual.isStreamingProcess());
+        assertThat(actual.getStreamingPrefetchDepth(), is(2));
+        assertThat(actual.getProcessConcurrency(), is(4));
+        assertThat(actual.getBatchSize(), is(100));
+        assertThat(actual.getProcessTargetMilliseconds(), is(500));
+        assertThat(actual.getMaxRecordsPerSecond(), is(1000));
+    }
+    
+    @Test
+    public void assertBuildRequiredProperties() {
+        DataflowJobConfiguration actual = DataflowJobConfiguration.newBuilder(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName(), true).build();
+        assertTrue(actual.isStreamingProcess());
+        assertThat(actual.getStreamingPrefetchDepth(), is(0));
+        assertThat(actual.getProcessConcurrency(), is(0));
+        assertThat(actual.getBatchSize(), is(0));
+        assertThat(actual.getProcessTargetMilliseconds(), is(0));
+        assertThat(actual.getMaxRecordsPerSecond(), is(0));
+    }
+}
@@ -33,7 +33,7 @@ public final class JobCoreConfigurationTest {
     public void assertBuildAllProperties() {
         JobCoreConfiguration actual = JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3)
                 .shardingItemParameters("0=a,1=b,2=c").jobParameter("param").failover(true).misfire(false).description("desc")
-                .jobProperties("job_exception_handler", IgnoreJobExceptionHandler.class.getName()).build();
+                .jobProperties("job_exception_handler", IgnoreJobExceptionHandler.class.getName()).shardingItemTimeoutMilliseconds(1000L).build();
         assertRequiredProperties(actual);
         assertThat(actual.getShardingItemParameters(), is("0=a,1=b,2=c"));
         assertThat(actual.getJobParameter(), is("param"));
@@ -41,6 +41,7 @@ public final class JobCoreConfigurationTest {
         assertFalse(actual.isMisfire());
         assertThat(actual.getDescription(), is("desc"));
         assertThat(actual.getJobProperties().get(JobProperties.JobPropertiesEnum.JOB_EXCEPTION_HANDLER), is(IgnoreJobExceptionHandler.class.getName()));
+        assertThat(actual.getShardingItemTimeoutMilliseconds(), is(1000L));
     }
     
     @Test
@@ -71,6 +72,7 @@ public final class JobCoreConfigurationTest {
         assertTrue(actual.isMisfire());
         assertThat(actual.getDescription(), is(""));
         assertThat(actual.getJobProperties().get(JobProperties.JobPropertiesEnum.JOB_EXCEPTION_HANDLER), is(DefaultJobExceptionHandler.class.getName()));
+        assertThat(actual.getShardingItemTimeoutMilliseconds(), is(0L));
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -21,6 +21,6 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses(TaskContextTest.class)
+@Suite.SuiteClasses({TaskContextTest.class, TaskDescriptorTest.class})
 public final class AllContextTests {
 }
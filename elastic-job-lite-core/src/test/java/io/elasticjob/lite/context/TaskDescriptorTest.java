@@ -0,0 +1,49 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.context;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public final class TaskDescriptorTest {
+    
+    @Test
+    public void assertNew() {
+        TaskDescriptor actual = new TaskDescriptor("test_job@-@0,1@-@READY@-@127.0.0.1@-@1", "test_job", ExecutionType.READY, "127.0.0.1", Arrays.asList(0, 1));
+        assertThat(actual.getShardingItems(), is("[0, 1]"));
+    }
+    
+    @Test
+    public void assertFrom() {
+        TaskDescriptor actual = TaskDescriptor.from("test_job@-@0,1@-@READY@-@127.0.0.1@-@1");
+        assertThat(actual.getTaskId(), is("test_job@-@0,1@-@READY@-@127.0.0.1@-@1"));
+        assertThat(actual.getJobName(), is("test_job"));
+        assertThat(actual.getType(), is(ExecutionType.READY));
+        assertThat(actual.getSlaveId(), is("127.0.0.1"));
+        assertThat(actual.getShardingItems(), is("[0, 1]"));
+    }
+    
+    @Test
+    public void assertFromWithoutShardingItems() {
+        assertThat(TaskDescriptor.from("test_job@-@@-@READY@-@127.0.0.1@-@1").getShardingItems(), is("[]"));
+    }
+}
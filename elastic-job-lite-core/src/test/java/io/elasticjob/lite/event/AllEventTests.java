@@ -17,6 +17,8 @@
 
 package io.elasticjob.lite.event;
 
+import io.elasticjob.lite.event.rdb.JobEventRdbBatchWriterRegistryTest;
+import io.elasticjob.lite.event.rdb.JobEventRdbBatchWriterTest;
 import io.elasticjob.lite.event.rdb.JobEventRdbConfigurationTest;
 import io.elasticjob.lite.event.rdb.JobEventRdbIdentityTest;
 import io.elasticjob.lite.event.rdb.JobEventRdbListenerTest;
@@ -29,10 +31,13 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         JobExecutionEventTest.class, 
         JobEventBusTest.class, 
+        BoundedJobEventDispatcherTest.class, 
         JobEventRdbIdentityTest.class,
         JobEventRdbConfigurationTest.class, 
         JobEventRdbListenerTest.class, 
         JobEventRdbStorageTest.class,
+        JobEventRdbBatchWriterTest.class, 
+        JobEventRdbBatchWriterRegistryTest.class, 
         JobEventRdbSearchTest.class
     })
 public final class AllEventTests {
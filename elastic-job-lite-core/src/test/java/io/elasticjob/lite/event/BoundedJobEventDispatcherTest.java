@@ -0,0 +1,157 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event;
+
+import com.google.common.eventbus.EventBus;
+import io.elasticjob.lite.event.type.JobExecutionEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BoundedJobEventDispatcherTest {
+    
+    @Mock
+    private EventBus eventBus;
+    
+    @Test
+    public void assertDispatch() throws InterruptedException {
+        final AtomicReference<String> dispatchThreadName = new AtomicReference<>();
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                dispatchThreadName.set(Thread.currentThread().getName());
+                return null;
+            }
+        }).when(eventBus).post(ArgumentMatchers.any());
+        BoundedJobEventDispatcher dispatcher = new BoundedJobEventDispatcher(eventBus, new JobEventDispatchConfiguration(4, JobEventOverflowPolicy.BLOCK), "test_job", 1);
+        JobEvent event = createJobEvent();
+        dispatcher.dispatch(event);
+        verify(eventBus, timeout(5000L)).post(event);
+        while (0L == dispatcher.getDispatchedCount()) {
+            Thread.sleep(10L);
+        }
+        assertThat(dispatcher.getDispatchedCount(), is(1L));
+        assertThat(dispatcher.getTotalDispatchLatencyNanos(), is(dispatcher.getMaxDispatchLatencyNanos()));
+        assertThat(dispatchThreadName.get(), is("job-event-dispatcher-test_job-1"));
+        dispatcher.close();
+    }
+    
+    @Test
+    public void assertDispatchWhenBlockAndInterrupted() {
+        BoundedJobEventDispatcher dispatcher = new BoundedJobEventDispatcher(eventBus, new JobEventDispatchConfiguration(1, JobEventOverflowPolicy.BLOCK), "test_job", 1);
+        CountDownLatch released = blockDispatchThread(dispatcher);
+        dispatcher.dispatch(createJobEvent());
+        Thread.currentThread().interrupt();
+        dispatcher.dispatch(createJobEvent());
+        assertTrue(Thread.interrupted());
+        assertThat(dispatcher.getQueueDepth(), is(1));
+        assertThat(dispatcher.getDroppedCount(), is(1L));
+        released.countDown();
+        dispatcher.close();
+    }
+    
+    @Test
+    public void assertDispatchWhenDrop() {
+        BoundedJobEventDispatcher dispatcher = new BoundedJobEventDispatcher(eventBus, new JobEventDispatchConfiguration(1, JobEventOverflowPolicy.DROP), "test_job", 1);
+        CountDownLatch released = blockDispatchThread(dispatcher);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(createJobEvent());
+        }
+        assertThat(dispatcher.getQueueDepth(), is(1));
+        assertThat(dispatcher.getDroppedCount(), is(2L));
+        released.countDown();
+        dispatcher.close();
+    }
+    
+    @Test
+    public void assertDispatchWhenDropOldest() {
+        BoundedJobEventDispatcher dispatcher = new BoundedJobEventDispatcher(eventBus, new JobEventDispatchConfiguration(2, JobEventOverflowPolicy.DROP_OLDEST), "test_job", 1);
+        CountDownLatch released = blockDispatchThread(dispatcher);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(createJobEvent());
+        }
+        assertThat(dispatcher.getQueueDepth(), is(2));
+        assertThat(dispatcher.getDroppedCount(), is(1L));
+        released.countDown();
+        dispatcher.close();
+    }
+    
+    @Test
+    public void assertDispatchWhenSample() {
+        BoundedJobEventDispatcher dispatcher = new BoundedJobEventDispatcher(eventBus, new JobEventDispatchConfiguration(4, JobEventOverflowPolicy.SAMPLE, 2), "test_job", 1);
+        CountDownLatch released = blockDispatchThread(dispatcher);
+        for (int i = 0; i < 6; i++) {
+            dispatcher.dispatch(createJobEvent());
+        }
+        assertThat(dispatcher.getQueueDepth(), is(4));
+        assertThat(dispatcher.getDroppedCount(), is(2L));
+        released.countDown();
+        dispatcher.close();
+    }
+    
+    @Test
+    public void assertClose() {
+        BoundedJobEventDispatcher dispatcher = new BoundedJobEventDispatcher(eventBus, new JobEventDispatchConfiguration(4, JobEventOverflowPolicy.BLOCK), "test_job", 1);
+        blockDispatchThread(dispatcher);
+        dispatcher.dispatch(createJobEvent());
+        dispatcher.close();
+        dispatcher.dispatch(createJobEvent());
+        assertThat(dispatcher.getQueueDepth(), is(0));
+        assertThat(dispatcher.getDroppedCount(), is(2L));
+    }
+    
+    private CountDownLatch blockDispatchThread(final BoundedJobEventDispatcher dispatcher) {
+        final CountDownLatch result = new CountDownLatch(1);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                try {
+                    result.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+        }).when(eventBus).post(ArgumentMatchers.any());
+        JobEvent event = createJobEvent();
+        dispatcher.dispatch(event);
+        verify(eventBus, timeout(5000L)).post(event);
+        return result;
+    }
+    
+    private JobEvent createJobEvent() {
+        return new JobExecutionEvent("fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+    }
+}
@@ -23,6 +23,8 @@ import io.elasticjob.lite.event.fixture.TestJobEventConfiguration;
 import io.elasticjob.lite.event.fixture.TestJobEventFailureConfiguration;
 import io.elasticjob.lite.event.fixture.TestJobEventListener;
 import io.elasticjob.lite.event.type.JobExecutionEvent;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
@@ -46,6 +48,19 @@ public final class JobEventBusTest {
     
     private JobEventBus jobEventBus;
     
+    @Before
+    public void setUp() {
+        TestJobEventListener.reset();
+    }
+    
+    @After
+    public void tearDown() {
+        if (null != jobEventBus) {
+            jobEventBus.close();
+        }
+        TestJobEventListener.reset();
+    }
+    
     @Test
     public void assertRegisterFailure() throws NoSuchFieldException {
         jobEventBus = new JobEventBus(new TestJobEventFailureConfiguration());
@@ -63,6 +78,28 @@ public final class JobEventBusTest {
         verify(jobEventCaller).call();
     }
     
+    @Test
+    public void assertPostWithBoundedDispatch() throws InterruptedException, NoSuchFieldException {
+        jobEventBus = new JobEventBus("test_event_bus_job", new TestJobEventConfiguration(jobEventCaller), new JobEventDispatchConfiguration(16, JobEventOverflowPolicy.BLOCK));
+        assertIsRegistered(true);
+        jobEventBus.post(new JobExecutionEvent("fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
+        while (0L == jobEventBus.getDispatchedCount()) {
+            Thread.sleep(100L);
+        }
+        verify(jobEventCaller).call();
+        assertThat(jobEventBus.getQueueDepth(), is(0));
+        assertThat(jobEventBus.getDroppedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertPostAfterClosedWithBoundedDispatch() throws NoSuchFieldException {
+        jobEventBus = new JobEventBus("test_event_bus_job", new TestJobEventConfiguration(jobEventCaller), new JobEventDispatchConfiguration(16, JobEventOverflowPolicy.BLOCK));
+        jobEventBus.close();
+        jobEventBus.post(new JobExecutionEvent("fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
+        assertThat(jobEventBus.getDroppedCount(), is(1L));
+        assertThat(jobEventBus.getQueueDepth(), is(0));
+    }
+    
     @Test
     public void assertPostWithoutListener() throws NoSuchFieldException {
         jobEventBus = new JobEventBus();
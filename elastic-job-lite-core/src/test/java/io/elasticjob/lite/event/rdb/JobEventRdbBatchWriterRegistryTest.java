@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event.rdb;
+
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
+import io.elasticjob.lite.event.type.JobExecutionEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JobEventRdbBatchWriterRegistryTest {
+    
+    @Mock
+    private DataSource dataSource;
+    
+    @Mock
+    private JobEventRdbStorage repository;
+    
+    @Test
+    public void assertAcquireWithSameDataSource() {
+        JobEventRdbBatchWriter batchWriter = JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, 100, 60000, 100, JobEventOverflowPolicy.DROP);
+        assertThat(JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, 10, 1000, 10, JobEventOverflowPolicy.BLOCK), sameInstance(batchWriter));
+        JobEventRdbBatchWriterRegistry.release(dataSource);
+        JobEventRdbBatchWriterRegistry.release(dataSource);
+    }
+    
+    @Test
+    public void assertReleaseWhenStillAcquired() {
+        JobEventRdbBatchWriter batchWriter = JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, 100, 60000, 100, JobEventOverflowPolicy.DROP);
+        JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, 100, 60000, 100, JobEventOverflowPolicy.DROP);
+        JobEventRdbBatchWriterRegistry.release(dataSource);
+        batchWriter.write(createJobExecutionEvent());
+        assertThat(batchWriter.getDroppedCount(), is(0L));
+        JobEventRdbBatchWriterRegistry.release(dataSource);
+    }
+    
+    @Test
+    public void assertReleaseWhenLastAcquired() {
+        JobEventRdbBatchWriter batchWriter = JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, 100, 60000, 100, JobEventOverflowPolicy.DROP);
+        JobEventRdbBatchWriterRegistry.release(dataSource);
+        batchWriter.write(createJobExecutionEvent());
+        assertThat(batchWriter.getDroppedCount(), is(1L));
+        assertThat(JobEventRdbBatchWriterRegistry.acquire(dataSource, repository, 100, 60000, 100, JobEventOverflowPolicy.DROP), not(sameInstance(batchWriter)));
+        JobEventRdbBatchWriterRegistry.release(dataSource);
+    }
+    
+    private JobExecutionEvent createJobExecutionEvent() {
+        return new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.event.rdb;
+
+import io.elasticjob.lite.context.ExecutionType;
+import io.elasticjob.lite.event.JobEventOverflowPolicy;
+import io.elasticjob.lite.event.type.JobExecutionEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent.Source;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent.State;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JobEventRdbBatchWriterTest {
+    
+    @Mock
+    private JobEventRdbStorage repository;
+    
+    @Test
+    public void assertWriteWhenBatchSizeReached() {
+        JobEventRdbBatchWriter batchWriter = new JobEventRdbBatchWriter(repository, 2, 60000, 10, JobEventOverflowPolicy.DROP);
+        JobExecutionEvent jobExecutionEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobStatusTraceEvent jobStatusTraceEvent = createJobStatusTraceEvent();
+        batchWriter.write(jobExecutionEvent);
+        batchWriter.write(jobStatusTraceEvent);
+        verify(repository, timeout(5000L)).addJobExecutionEvents(Collections.singletonList(jobExecutionEvent));
+        verify(repository, timeout(5000L)).addJobStatusTraceEvents(Collections.singletonList(jobStatusTraceEvent));
+        batchWriter.close();
+    }
+    
+    @Test
+    public void assertWriteWhenFlushIntervalElapsed() {
+        JobEventRdbBatchWriter batchWriter = new JobEventRdbBatchWriter(repository, 100, 10, 100, JobEventOverflowPolicy.DROP);
+        JobStatusTraceEvent jobStatusTraceEvent = createJobStatusTraceEvent();
+        batchWriter.write(jobStatusTraceEvent);
+        verify(repository, timeout(5000L)).addJobStatusTraceEvents(Collections.singletonList(jobStatusTraceEvent));
+        batchWriter.close();
+    }
+    
+    @Test
+    public void assertCloseWritesPendingEvents() {
+        JobEventRdbBatchWriter batchWriter = new JobEventRdbBatchWriter(repository, 100, 60000, 100, JobEventOverflowPolicy.DROP);
+        JobStatusTraceEvent jobStatusTraceEvent = createJobStatusTraceEvent();
+        batchWriter.write(jobStatusTraceEvent);
+        batchWriter.close();
+        verify(repository).addJobStatusTraceEvents(Collections.singletonList(jobStatusTraceEvent));
+        assertThat(batchWriter.getPendingCount(), is(0));
+    }
+    
+    @Test
+    public void assertWriteAfterClosed() {
+        JobEventRdbBatchWriter batchWriter = new JobEventRdbBatchWriter(repository, 100, 60000, 100, JobEventOverflowPolicy.BLOCK);
+        batchWriter.close();
+        batchWriter.write(createJobStatusTraceEvent());
+        assertThat(batchWriter.getDroppedCount(), is(1L));
+        verify(repository, never()).addJobExecutionEvents(ArgumentMatchers.<JobExecutionEvent>anyList());
+    }
+    
+    private JobStatusTraceEvent createJobStatusTraceEvent() {
+        return new JobStatusTraceEvent("test_job", "fake_task_id", "fake_slave_id", Source.LITE_EXECUTOR, ExecutionType.READY, "0", State.TASK_RUNNING, "message is empty.");
+    }
+}
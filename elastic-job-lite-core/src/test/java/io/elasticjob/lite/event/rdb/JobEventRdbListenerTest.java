@@ -34,6 +34,8 @@ import org.unitils.util.ReflectionUtils;
 
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,6 +51,8 @@ public final class JobEventRdbListenerTest {
     @Mock
     private JobEventRdbStorage repository;
     
+    private JobEventRdbListener jobEventRdbListener;
+    
     private JobEventBus jobEventBus;
     
     @Before
@@ -58,7 +62,7 @@ public final class JobEventRdbListenerTest {
         dataSource.setUrl("jdbc:h2:mem:job_event_storage");
         dataSource.setUsername("sa");
         dataSource.setPassword("");
-        JobEventRdbListener jobEventRdbListener = new JobEventRdbListener(dataSource);
+        jobEventRdbListener = new JobEventRdbListener(dataSource);
         ReflectionUtils.setFieldValue(jobEventRdbListener, "repository", repository);
         when(jobEventRdbConfiguration.createJobEventListener()).thenReturn(jobEventRdbListener);
         jobEventBus = new JobEventBus(jobEventRdbConfiguration);
@@ -78,4 +82,9 @@ public final class JobEventRdbListenerTest {
         jobEventBus.post(jobStatusTraceEvent);
         verify(repository, atMost(1)).addJobStatusTraceEvent(jobStatusTraceEvent);
     }
+    
+    @Test
+    public void assertGetDroppedCountWithoutBatchWriter() {
+        assertThat(jobEventRdbListener.getDroppedCount(), is(0L));
+    }
 }
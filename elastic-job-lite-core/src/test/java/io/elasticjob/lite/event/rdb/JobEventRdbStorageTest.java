@@ -27,6 +27,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.TestCase.assertTrue;
@@ -134,6 +135,56 @@ public class JobEventRdbStorageTest {
         assertThat(failEvent.getFailureCause(), startsWith("java.lang.RuntimeException: failure"));
     }
     
+    @Test
+    public void assertAddJobExecutionEvents() throws SQLException {
+        JobExecutionEvent startEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobExecutionEvent otherStartEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 1);
+        assertTrue(storage.addJobExecutionEvents(Arrays.asList(startEvent, otherStartEvent, startEvent.executionSuccess(), 
+                otherStartEvent.executionFailure(new RuntimeException("failure")))));
+    }
+    
+    @Test
+    public void assertAddJobExecutionEventsWhenStartEventMissing() throws SQLException {
+        JobExecutionEvent startEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobExecutionEvent otherStartEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 1);
+        assertTrue(storage.addJobExecutionEvents(Arrays.asList(startEvent.executionSuccess(), otherStartEvent.executionFailure(new RuntimeException("failure")))));
+    }
+    
+    @Test
+    public void assertAddJobExecutionEventsWhenConflict() throws SQLException {
+        JobExecutionEvent startEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobExecutionEvent otherStartEvent = new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 1);
+        assertTrue(storage.addJobExecutionEvent(startEvent));
+        assertFalse(storage.addJobExecutionEvents(Arrays.asList(startEvent, otherStartEvent)));
+    }
+    
+    @Test
+    public void assertAddJobStatusTraceEvents() throws SQLException {
+        JobStatusTraceEvent stagingJobStatusTraceEvent = new JobStatusTraceEvent("test_job", "fake_batch_task_id", "fake_slave_id", Source.LITE_EXECUTOR, ExecutionType.FAILOVER, "0",
+                State.TASK_STAGING, "message is empty.");
+        stagingJobStatusTraceEvent.setOriginalTaskId("original_fake_batch_task_id");
+        JobStatusTraceEvent runningJobStatusTraceEvent = new JobStatusTraceEvent("test_job", "fake_batch_task_id", "fake_slave_id", Source.LITE_EXECUTOR, ExecutionType.FAILOVER, "0",
+                State.TASK_RUNNING, "message is empty.");
+        assertTrue(storage.addJobStatusTraceEvents(Arrays.asList(stagingJobStatusTraceEvent, runningJobStatusTraceEvent)));
+        List<JobStatusTraceEvent> jobStatusTraceEvents = storage.getJobStatusTraceEvents("fake_batch_task_id");
+        assertThat(jobStatusTraceEvents.size(), is(2));
+        for (JobStatusTraceEvent each : jobStatusTraceEvents) {
+            assertThat(each.getOriginalTaskId(), is("original_fake_batch_task_id"));
+        }
+    }
+    
+    @Test
+    public void assertAddJobStatusTraceEventsWhenBatchFailure() throws SQLException {
+        JobStatusTraceEvent invalidJobStatusTraceEvent = new JobStatusTraceEvent(null, "fake_failure_batch_task_id", "fake_slave_id", Source.LITE_EXECUTOR, ExecutionType.READY, "0",
+                State.TASK_RUNNING, "message is empty.");
+        JobStatusTraceEvent validJobStatusTraceEvent = new JobStatusTraceEvent("test_job", "fake_failure_batch_task_id", "fake_slave_id", Source.LITE_EXECUTOR, ExecutionType.READY, "0",
+                State.TASK_FINISHED, "message is empty.");
+        assertFalse(storage.addJobStatusTraceEvents(Arrays.asList(invalidJobStatusTraceEvent, validJobStatusTraceEvent)));
+        List<JobStatusTraceEvent> jobStatusTraceEvents = storage.getJobStatusTraceEvents("fake_failure_batch_task_id");
+        assertThat(jobStatusTraceEvents.size(), is(1));
+        assertThat(jobStatusTraceEvents.get(0).getState(), is(State.TASK_FINISHED));
+    }
+    
     @Test
     public void assertFindJobExecutionEvent() throws SQLException {
         storage.addJobExecutionEvent(new JobExecutionEvent("fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
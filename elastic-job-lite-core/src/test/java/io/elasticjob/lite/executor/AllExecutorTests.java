@@ -20,6 +20,10 @@ package io.elasticjob.lite.executor;
 import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistryTest;
 import io.elasticjob.lite.executor.handler.JobPropertiesTest;
 import io.elasticjob.lite.executor.handler.impl.DefaultJobExceptionHandlerTest;
+import io.elasticjob.lite.executor.handler.impl.ForkJoinExecutorServiceHandlerTest;
+import io.elasticjob.lite.executor.handler.impl.VirtualThreadExecutorServiceHandlerTest;
+import io.elasticjob.lite.executor.type.AdaptiveBatchControllerRegistryTest;
+import io.elasticjob.lite.executor.type.AdaptiveBatchControllerTest;
 import io.elasticjob.lite.executor.type.DataflowJobExecutorTest;
 import io.elasticjob.lite.executor.type.ScriptJobExecutorTest;
 import io.elasticjob.lite.executor.type.SimpleJobExecutorTest;
@@ -31,12 +35,17 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         JobExecutorFactoryTest.class,
+        JobExecutorCacheTest.class,
         ExecutorServiceHandlerRegistryTest.class, 
         JobPropertiesTest.class,
         DefaultJobExceptionHandlerTest.class, 
+        ForkJoinExecutorServiceHandlerTest.class, 
+        VirtualThreadExecutorServiceHandlerTest.class, 
         SimpleJobExecutorTest.class,
         WrongJobExecutorTest.class,
         DataflowJobExecutorTest.class, 
+        AdaptiveBatchControllerTest.class, 
+        AdaptiveBatchControllerRegistryTest.class, 
         ScriptJobExecutorTest.class
     })
 public final class AllExecutorTests {
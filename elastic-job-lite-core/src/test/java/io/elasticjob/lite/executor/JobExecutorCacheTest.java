@@ -0,0 +1,62 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor;
+
+import io.elasticjob.lite.fixture.config.TestSimpleJobConfiguration;
+import io.elasticjob.lite.fixture.job.JobCaller;
+import io.elasticjob.lite.fixture.job.TestSimpleJob;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JobExecutorCacheTest {
+    
+    @Mock
+    private JobCaller jobCaller;
+    
+    @Mock
+    private JobFacade jobFacade;
+    
+    private JobExecutorCache jobExecutorCache;
+    
+    @Before
+    public void setUp() {
+        jobExecutorCache = new JobExecutorCache(new TestSimpleJob(jobCaller), jobFacade);
+    }
+    
+    @Test
+    public void assertGetJobExecutorWhenConfigurationUnchanged() {
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestSimpleJobConfiguration());
+        assertSame(jobExecutorCache.getJobExecutor(), jobExecutorCache.getJobExecutor());
+    }
+    
+    @Test
+    public void assertGetJobExecutorWhenConfigurationChanged() {
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestSimpleJobConfiguration());
+        AbstractElasticJobExecutor actual = jobExecutorCache.getJobExecutor();
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestSimpleJobConfiguration());
+        assertNotSame(actual, jobExecutorCache.getJobExecutor());
+    }
+}
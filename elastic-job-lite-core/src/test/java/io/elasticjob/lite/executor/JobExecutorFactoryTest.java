@@ -17,7 +17,11 @@
 
 package io.elasticjob.lite.executor;
 
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
 import io.elasticjob.lite.exception.JobConfigurationException;
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistry;
+import io.elasticjob.lite.executor.type.AdaptiveBatchController;
+import io.elasticjob.lite.executor.type.AdaptiveBatchControllerRegistry;
 import io.elasticjob.lite.executor.type.DataflowJobExecutor;
 import io.elasticjob.lite.executor.type.ScriptJobExecutor;
 import io.elasticjob.lite.executor.type.SimpleJobExecutor;
@@ -33,8 +37,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.concurrent.ExecutorService;
+
 import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -74,4 +82,15 @@ public final class JobExecutorFactoryTest {
         AbstractElasticJobExecutor anotherExecutor = JobExecutorFactory.getJobExecutor(new TestSimpleJob(null), jobFacade);
         assertTrue(executor.hashCode() != anotherExecutor.hashCode());
     }
+    
+    @Test
+    public void assertRelease() {
+        ExecutorService processExecutorService = ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2);
+        AdaptiveBatchController adaptiveBatchController = AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", (DataflowJobConfiguration) new TestDataflowJobConfiguration(false).getTypeConfig());
+        JobExecutorFactory.release("test_job");
+        assertTrue(processExecutorService.isShutdown());
+        assertThat(AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", (DataflowJobConfiguration) new TestDataflowJobConfiguration(false).getTypeConfig()), 
+                not(sameInstance(adaptiveBatchController)));
+        JobExecutorFactory.release("test_job");
+    }
 }
@@ -33,6 +33,7 @@ import java.util.concurrent.Executors;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ExecutorServiceHandlerRegistryTest {
     
@@ -54,6 +55,52 @@ public final class ExecutorServiceHandlerRegistryTest {
                 is(ExecutorServiceHandlerRegistry.getExecutorServiceHandler("test_job", new DefaultExecutorServiceHandler())));
     }
     
+    @Test
+    public void assertGetProcessExecutorServiceForSameItem() {
+        try {
+            assertThat(ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2), is(ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2)));
+            assertThat(ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2), not(ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 1, 2)));
+        } finally {
+            ExecutorServiceHandlerRegistry.removeInnerExecutorServices("test_job");
+        }
+    }
+    
+    @Test
+    public void assertGetProcessExecutorServiceWhenConcurrencyChanged() {
+        try {
+            ExecutorService actual = ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2);
+            assertThat(ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 4), not(actual));
+            assertTrue(actual.isShutdown());
+        } finally {
+            ExecutorServiceHandlerRegistry.removeInnerExecutorServices("test_job");
+        }
+    }
+    
+    @Test
+    public void assertGetPrefetchExecutorService() {
+        try {
+            ExecutorService actual = ExecutorServiceHandlerRegistry.getPrefetchExecutorService("test_job");
+            assertThat(ExecutorServiceHandlerRegistry.getPrefetchExecutorService("test_job"), is(actual));
+            assertThat(ExecutorServiceHandlerRegistry.getPrefetchExecutorService("other_job"), not(actual));
+        } finally {
+            ExecutorServiceHandlerRegistry.removeInnerExecutorServices("test_job");
+            ExecutorServiceHandlerRegistry.removeInnerExecutorServices("other_job");
+        }
+    }
+    
+    @Test
+    public void assertRemoveInnerExecutorServices() {
+        ExecutorService executorService = ExecutorServiceHandlerRegistry.getExecutorServiceHandler("test_job", new DefaultExecutorServiceHandler());
+        ExecutorService processExecutorService = ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2);
+        ExecutorService prefetchExecutorService = ExecutorServiceHandlerRegistry.getPrefetchExecutorService("test_job");
+        ExecutorServiceHandlerRegistry.removeInnerExecutorServices("test_job");
+        assertTrue(processExecutorService.isShutdown());
+        assertTrue(prefetchExecutorService.isShutdown());
+        assertThat(ExecutorServiceHandlerRegistry.getProcessExecutorService("test_job", 0, 2), not(processExecutorService));
+        assertThat(ExecutorServiceHandlerRegistry.getExecutorServiceHandler("test_job", new DefaultExecutorServiceHandler()), is(executorService));
+        ExecutorServiceHandlerRegistry.removeInnerExecutorServices("test_job");
+    }
+    
     @Test
     public void assertGetExecutorServiceHandlerForConcurrent() throws InterruptedException {
         int threadCount = 100;
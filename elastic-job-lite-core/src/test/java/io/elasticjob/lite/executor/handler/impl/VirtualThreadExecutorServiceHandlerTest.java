@@ -0,0 +1,44 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.handler.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public final class VirtualThreadExecutorServiceHandlerTest {
+    
+    @Test
+    public void assertCreateExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = new VirtualThreadExecutorServiceHandler().createExecutorService("test_job");
+        String actual = executorService.submit(new Callable<String>() {
+            
+            @Override
+            public String call() {
+                return Thread.currentThread().getName();
+            }
+        }).get();
+        assertThat(actual, startsWith("inner-job-test_job-"));
+        executorService.shutdown();
+    }
+}
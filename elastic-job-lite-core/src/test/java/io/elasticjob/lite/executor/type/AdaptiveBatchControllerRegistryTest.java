@@ -0,0 +1,62 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.type;
+
+import io.elasticjob.lite.config.JobCoreConfiguration;
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
+import io.elasticjob.lite.fixture.job.TestDataflowJob;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveBatchControllerRegistryTest {
+    
+    @After
+    public void clear() {
+        AdaptiveBatchControllerRegistry.remove("test_job");
+    }
+    
+    @Test
+    public void assertGetAdaptiveBatchControllerForSameConfiguration() {
+        assertThat(AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(100)), 
+                sameInstance(AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(100))));
+    }
+    
+    @Test
+    public void assertGetAdaptiveBatchControllerWhenConfigurationChanged() {
+        AdaptiveBatchController actual = AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(100));
+        assertThat(AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(200)), not(sameInstance(actual)));
+        assertThat(AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(200)).getBatchSize(), is(200));
+    }
+    
+    @Test
+    public void assertRemove() {
+        AdaptiveBatchController actual = AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(100));
+        AdaptiveBatchControllerRegistry.remove("test_job");
+        assertThat(AdaptiveBatchControllerRegistry.getAdaptiveBatchController("test_job", createDataflowJobConfiguration(100)), not(sameInstance(actual)));
+    }
+    
+    private DataflowJobConfiguration createDataflowJobConfiguration(final int batchSize) {
+        return DataflowJobConfiguration.newBuilder(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestDataflowJob.class.getCanonicalName(), true)
+                .batchSize(batchSize).processTargetMilliseconds(100).build();
+    }
+}
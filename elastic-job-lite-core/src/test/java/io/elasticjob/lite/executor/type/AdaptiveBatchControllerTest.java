@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.executor.type;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveBatchControllerTest {
+    
+    @Test
+    public void assertGetSuggestedBatchSizeWhenBatchSizeIsNotConfigured() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(0, 100, 0);
+        actual.adjust(0, 10, TimeUnit.MILLISECONDS.toNanos(10L));
+        assertThat(actual.getSuggestedBatchSize(0), is(0));
+    }
+    
+    @Test
+    public void assertGetSuggestedBatchSizeWithoutAdjustment() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(100, 0, 0);
+        actual.adjust(0, 100, TimeUnit.MILLISECONDS.toNanos(10L));
+        assertThat(actual.getSuggestedBatchSize(0), is(100));
+    }
+    
+    @Test
+    public void assertAdjustWhenFasterThanTarget() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(100, 100, 0);
+        actual.adjust(0, 100, TimeUnit.MILLISECONDS.toNanos(80L));
+        assertThat(actual.getSuggestedBatchSize(0), is(125));
+        actual.adjust(0, 125, TimeUnit.MILLISECONDS.toNanos(10L));
+        assertThat(actual.getSuggestedBatchSize(0), is(250));
+        assertThat(actual.getSuggestedBatchSize(1), is(100));
+    }
+    
+    @Test
+    public void assertAdjustWhenSlowerThanTarget() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(100, 100, 0);
+        actual.adjust(0, 100, TimeUnit.MILLISECONDS.toNanos(125L));
+        assertThat(actual.getSuggestedBatchSize(0), is(80));
+        actual.adjust(0, 80, TimeUnit.MILLISECONDS.toNanos(1000L));
+        assertThat(actual.getSuggestedBatchSize(0), is(40));
+    }
+    
+    @Test
+    public void assertAdjustWithinBounds() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(10, 100, 0);
+        for (int i = 0; i < 10; i++) {
+            actual.adjust(0, 10, 0L);
+        }
+        assertThat(actual.getSuggestedBatchSize(0), is(100));
+        for (int i = 0; i < 10; i++) {
+            actual.adjust(0, 1, TimeUnit.SECONDS.toNanos(1L));
+        }
+        assertThat(actual.getSuggestedBatchSize(0), is(1));
+    }
+    
+    @Test
+    public void assertGetSuggestedBatchSizeWithRateLimit() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(100, 100, 500);
+        assertThat(actual.getSuggestedBatchSize(0), is(50));
+        actual.adjust(0, 50, TimeUnit.MILLISECONDS.toNanos(1L));
+        assertThat(actual.getSuggestedBatchSize(0), is(50));
+    }
+    
+    @Test
+    public void assertAcquireWithRateLimit() {
+        AdaptiveBatchController actual = new AdaptiveBatchController(0, 0, 10);
+        actual.acquire(10);
+        long startNanoTime = System.nanoTime();
+        actual.acquire(1);
+        assertThat(System.nanoTime() - startNanoTime > TimeUnit.MILLISECONDS.toNanos(500L), is(true));
+    }
+}
@@ -17,23 +17,40 @@
 
 package io.elasticjob.lite.executor.type;
 
+import io.elasticjob.lite.api.ShardingContext;
+import io.elasticjob.lite.api.dataflow.DataflowJob;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent.State;
 import io.elasticjob.lite.executor.JobFacade;
 import io.elasticjob.lite.executor.ShardingContexts;
 import io.elasticjob.lite.fixture.ShardingContextsBuilder;
 import io.elasticjob.lite.fixture.config.TestDataflowJobConfiguration;
 import io.elasticjob.lite.fixture.job.JobCaller;
 import io.elasticjob.lite.fixture.job.TestDataflowJob;
+import io.elasticjob.lite.fixture.job.TestPartitionedDataflowJob;
 import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -166,11 +183,154 @@ public final class DataflowJobExecutorTest {
         verify(jobCaller).processData(4);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWhenFetchDataIsNotEmptyForPipelinedStreamingProcess() {
+        setUp(true, 1, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2), Collections.emptyList());
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(true);
+        dataflowJobExecutor.execute();
+        verify(jobCaller, times(3)).fetchData(0);
+        verify(jobCaller).processData(1);
+        verify(jobCaller).processData(2);
+    }
+    
+    @Test
+    public void assertExecuteWhenIsNotEligibleForJobRunningForPipelinedStreamingProcess() {
+        setUp(true, 1, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Collections.<Object>singletonList(1));
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(false);
+        dataflowJobExecutor.execute();
+        verify(jobCaller, atLeastOnce()).fetchData(0);
+        verify(jobCaller).processData(1);
+    }
+    
+    @Test
+    public void assertExecuteWhenIsNotEligibleForJobRunningForPipelinedStreamingProcessAndPrefetchStopped() throws InterruptedException {
+        setUp(true, 1, ShardingContextsBuilder.getSingleShardingContexts());
+        final AtomicInteger fetchingCount = new AtomicInteger();
+        final AtomicInteger fetchedCount = new AtomicInteger();
+        when(jobCaller.fetchData(0)).thenAnswer(new Answer<List<Object>>() {
+            
+            @Override
+            public List<Object> answer(final InvocationOnMock invocation) throws InterruptedException {
+                fetchingCount.incrementAndGet();
+                try {
+                    Thread.sleep(10L);
+                    return Collections.<Object>singletonList(fetchedCount.incrementAndGet());
+                } finally {
+                    fetchingCount.decrementAndGet();
+                }
+            }
+        });
+        when(jobFacade.isEligibleForJobRunning()).thenReturn(false);
+        dataflowJobExecutor.execute();
+        int expectedFetchedCount = fetchedCount.get();
+        assertThat(fetchingCount.get(), is(0));
+        Thread.sleep(50L);
+        assertThat(fetchedCount.get(), is(expectedFetchedCount));
+        verify(jobCaller).processData(1);
+    }
+    
+    @Test
+    public void assertExecuteWhenFetchDataFailureForPipelinedStreamingProcess() {
+        setUp(true, 2, ShardingContextsBuilder.getSingleShardingContexts());
+        doThrow(new IllegalStateException()).when(jobCaller).fetchData(0);
+        dataflowJobExecutor.execute();
+        verify(jobCaller).fetchData(0);
+        verify(jobCaller, times(0)).processData(any());
+    }
+    
+    @Test
+    public void assertExecuteWhenProcessDataInParallel() {
+        setUp(false, 0, 2, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.<Object>asList(1, 2, 3, 4, 5));
+        dataflowJobExecutor.execute();
+        verify(jobCaller).fetchData(0);
+        verify(jobCaller).processData(1);
+        verify(jobCaller).processData(2);
+        verify(jobCaller).processData(3);
+        verify(jobCaller).processData(4);
+        verify(jobCaller).processData(5);
+    }
+    
+    @Test
+    public void assertExecuteWhenProcessDataInParallelByPartitionKey() {
+        setUp(false, 0, 2, ShardingContextsBuilder.getSingleShardingContexts(), new TestPartitionedDataflowJob(jobCaller));
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.<Object>asList(1, 2, 3, 4, 5, 6));
+        dataflowJobExecutor.execute();
+        verify(jobCaller).fetchData(0);
+        InOrder oddInOrder = inOrder(jobCaller);
+        oddInOrder.verify(jobCaller).processData(1);
+        oddInOrder.verify(jobCaller).processData(3);
+        oddInOrder.verify(jobCaller).processData(5);
+        InOrder evenInOrder = inOrder(jobCaller);
+        evenInOrder.verify(jobCaller).processData(2);
+        evenInOrder.verify(jobCaller).processData(4);
+        evenInOrder.verify(jobCaller).processData(6);
+    }
+    
+    @Test
+    public void assertExecuteWhenProcessDataInParallelFailure() {
+        setUp(false, 0, 2, ShardingContextsBuilder.getSingleShardingContexts());
+        when(jobCaller.fetchData(0)).thenReturn(Arrays.<Object>asList(1, 2, 3, 4));
+        doThrow(new IllegalStateException("first failure")).when(jobCaller).processData(1);
+        doThrow(new IllegalStateException("second failure")).when(jobCaller).processData(3);
+        dataflowJobExecutor.execute();
+        verify(jobCaller).processData(1);
+        verify(jobCaller, times(0)).processData(2);
+        verify(jobCaller).processData(3);
+        verify(jobCaller, times(0)).processData(4);
+        ArgumentCaptor<String> errorMessage = ArgumentCaptor.forClass(String.class);
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts), eq(State.TASK_ERROR), errorMessage.capture());
+        assertThat(errorMessage.getValue(), containsString("first failure"));
+        assertThat(errorMessage.getValue(), containsString("Suppressed: java.lang.IllegalStateException: second failure"));
+    }
+    
+    @Test
+    public void assertExecuteWhenProcessDataInParallelInterrupted() {
+        setUp(false, 0, 2, ShardingContextsBuilder.getSingleShardingContexts(), new DataflowJob<Object>() {
+            
+            @Override
+            public List<Object> fetchData(final ShardingContext shardingContext) {
+                Thread.currentThread().interrupt();
+                return Arrays.<Object>asList(1, 2, 3, 4);
+            }
+            
+            @Override
+            public void processData(final ShardingContext shardingContext, final List<Object> data) {
+                try {
+                    Thread.sleep(Long.MAX_VALUE);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        dataflowJobExecutor.execute();
+        assertTrue(Thread.interrupted());
+        ArgumentCaptor<String> errorMessage = ArgumentCaptor.forClass(String.class);
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts), eq(State.TASK_ERROR), errorMessage.capture());
+        assertThat(errorMessage.getValue(), containsString("InterruptedException"));
+    }
+    
     private void setUp(final boolean isStreamingProcess, final ShardingContexts shardingContexts) {
+        setUp(isStreamingProcess, 0, shardingContexts);
+    }
+    
+    private void setUp(final boolean isStreamingProcess, final int streamingPrefetchDepth, final ShardingContexts shardingContexts) {
+        setUp(isStreamingProcess, streamingPrefetchDepth, 0, shardingContexts);
+    }
+    
+    private void setUp(final boolean isStreamingProcess, final int streamingPrefetchDepth, final int processConcurrency, final ShardingContexts shardingContexts) {
+        setUp(isStreamingProcess, streamingPrefetchDepth, processConcurrency, shardingContexts, new TestDataflowJob(jobCaller));
+    }
+    
+    private void setUp(final boolean isStreamingProcess, final int streamingPrefetchDepth, final int processConcurrency, 
+                       final ShardingContexts shardingContexts, final DataflowJob<Object> dataflowJob) {
         this.shardingContexts = shardingContexts;
-        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestDataflowJobConfiguration(isStreamingProcess));
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestDataflowJobConfiguration(isStreamingProcess, streamingPrefetchDepth, processConcurrency));
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
-        dataflowJobExecutor = new DataflowJobExecutor(new TestDataflowJob(jobCaller), jobFacade);
+        dataflowJobExecutor = new DataflowJobExecutor(dataflowJob, jobFacade);
         ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
     }
 }
@@ -17,29 +17,45 @@
 
 package io.elasticjob.lite.executor.type;
 
+import io.elasticjob.lite.event.type.JobExecutionEvent;
 import io.elasticjob.lite.event.type.JobStatusTraceEvent.State;
 import io.elasticjob.lite.exception.JobExecutionEnvironmentException;
 import io.elasticjob.lite.exception.JobSystemException;
 import io.elasticjob.lite.executor.AbstractElasticJobExecutor;
 import io.elasticjob.lite.executor.JobFacade;
 import io.elasticjob.lite.executor.ShardingContexts;
+import io.elasticjob.lite.executor.handler.ExecutorServiceHandlerRegistry;
 import io.elasticjob.lite.executor.handler.impl.DefaultExecutorServiceHandler;
 import io.elasticjob.lite.executor.handler.impl.DefaultJobExceptionHandler;
+import io.elasticjob.lite.executor.handler.impl.ForkJoinExecutorServiceHandler;
 import io.elasticjob.lite.fixture.ShardingContextsBuilder;
 import io.elasticjob.lite.fixture.config.TestSimpleJobConfiguration;
+import io.elasticjob.lite.fixture.handler.IgnoreJobExceptionHandler;
+import io.elasticjob.lite.fixture.handler.SingleThreadExecutorServiceHandler;
 import io.elasticjob.lite.fixture.job.JobCaller;
 import io.elasticjob.lite.fixture.job.TestSimpleJob;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.unitils.util.ReflectionUtils;
 
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -87,10 +103,11 @@ public final class SimpleJobExecutorTest {
     public void assertExecuteWhenPreviousJobStillRunning() throws JobExecutionEnvironmentException {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.<Integer, String>emptyMap());
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(true);
         when(jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())).thenReturn(true);
         simpleJobExecutor.execute();
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, 
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, "Job 'test_job' execute begin.");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, 
                 "Previous job 'test_job' - shardingItems '[]' is still running, misfired job will start after previous job completed.");
         verify(jobFacade).checkJobExecutionEnvironment();
         verify(jobFacade).getShardingContexts();
@@ -103,8 +120,8 @@ public final class SimpleJobExecutorTest {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.<Integer, String>emptyMap());
         ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
         simpleJobExecutor.execute();
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, "Sharding item for job 'test_job' is empty.");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, "Job 'test_job' execute begin.");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, "Sharding item for job 'test_job' is empty.");
         verify(jobFacade).checkJobExecutionEnvironment();
         verify(jobFacade).getShardingContexts();
         verify(jobFacade).misfireIfRunning(shardingContexts.getShardingItemParameters().keySet());
@@ -127,8 +144,8 @@ public final class SimpleJobExecutorTest {
         try {
             simpleJobExecutor.execute();
         } finally {
-            verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
-            verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_RUNNING, "");
+            verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, "Job 'test_job' execute begin.");
+            verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_RUNNING, "");
             String errorMessage;
             String lineSeparator = System.getProperty("line.separator");
             if (1 == shardingContexts.getShardingItemParameters().size()) {
@@ -136,7 +153,7 @@ public final class SimpleJobExecutorTest {
             } else {
                 errorMessage = "{0=java.lang.RuntimeException" + lineSeparator + ", 1=java.lang.RuntimeException" + lineSeparator + "}";
             }
-            verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_ERROR, errorMessage);
+            verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_ERROR, errorMessage);
             verify(jobFacade).checkJobExecutionEnvironment();
             verify(jobFacade).getShardingContexts();
             verify(jobFacade).misfireIfRunning(shardingContexts.getShardingItemParameters().keySet());
@@ -159,16 +176,180 @@ public final class SimpleJobExecutorTest {
     private void assertExecuteWhenRunOnceSuccess(final ShardingContexts shardingContexts) {
         ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
         simpleJobExecutor.execute();
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, "");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, "Job 'test_job' execute begin.");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, "");
         ElasticJobVerify.verifyForIsNotMisfire(jobFacade, shardingContexts);
         verify(jobCaller, times(shardingContexts.getShardingTotalCount())).execute();
     }
     
+    @Test
+    public void assertExecuteWhenShardingItemTimeout() {
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestSimpleJobConfiguration(IgnoreJobExceptionHandler.class.getCanonicalName(), null, 100L));
+        SimpleJobExecutor simpleJobExecutor = new SimpleJobExecutor(new TestSimpleJob(jobCaller), jobFacade);
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) throws InterruptedException {
+                Thread.sleep(10000L);
+                return null;
+            }
+        }).when(jobCaller).execute();
+        long startTime = System.currentTimeMillis();
+        simpleJobExecutor.execute();
+        assertTrue(System.currentTimeMillis() - startTime < 10000L);
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts), eq(State.TASK_ERROR), anyString());
+        verify(jobFacade, atLeast(2)).postJobExecutionEvent(ArgumentMatchers.<JobExecutionEvent>any());
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+    }
+    
+    @Test
+    public void assertExecuteWhenShardingItemTimeoutWithForkJoin() throws InterruptedException {
+        ExecutorServiceHandlerRegistry.remove(ShardingContextsBuilder.JOB_NAME);
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(
+                new TestSimpleJobConfiguration(IgnoreJobExceptionHandler.class.getCanonicalName(), ForkJoinExecutorServiceHandler.class.getCanonicalName(), 100L));
+        SimpleJobExecutor simpleJobExecutor = new SimpleJobExecutor(new TestSimpleJob(jobCaller), jobFacade);
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        final CountDownLatch interruptedLatch = new CountDownLatch(2);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) throws InterruptedException {
+                try {
+                    Thread.sleep(10000L);
+                } catch (final InterruptedException ex) {
+                    interruptedLatch.countDown();
+                    throw ex;
+                }
+                return null;
+            }
+        }).when(jobCaller).execute();
+        try {
+            simpleJobExecutor.execute();
+            assertTrue(interruptedLatch.await(5000L, TimeUnit.MILLISECONDS));
+            verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts), eq(State.TASK_ERROR), anyString());
+        } finally {
+            ExecutorServiceHandlerRegistry.remove(ShardingContextsBuilder.JOB_NAME);
+        }
+    }
+    
+    @Test
+    public void assertExecuteWhenQueuedShardingItemTimeout() {
+        ExecutorServiceHandlerRegistry.remove(ShardingContextsBuilder.JOB_NAME);
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(
+                new TestSimpleJobConfiguration(IgnoreJobExceptionHandler.class.getCanonicalName(), SingleThreadExecutorServiceHandler.class.getCanonicalName(), 300L));
+        SimpleJobExecutor simpleJobExecutor = new SimpleJobExecutor(new TestSimpleJob(jobCaller), jobFacade);
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                sleepIgnoreInterrupt(1000L);
+                return null;
+            }
+        }).when(jobCaller).execute();
+        try {
+            long startTime = System.currentTimeMillis();
+            simpleJobExecutor.execute();
+            assertTrue(System.currentTimeMillis() - startTime < 1000L);
+            sleepIgnoreInterrupt(1500L);
+            verify(jobCaller).execute();
+            verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts), eq(State.TASK_ERROR), anyString());
+        } finally {
+            ExecutorServiceHandlerRegistry.remove(ShardingContextsBuilder.JOB_NAME);
+        }
+    }
+    
+    @Test
+    public void assertExecuteWhenShardingItemTimeoutAndJobEventDisabled() {
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestSimpleJobConfiguration(IgnoreJobExceptionHandler.class.getCanonicalName(), null, 100L));
+        SimpleJobExecutor simpleJobExecutor = new SimpleJobExecutor(new TestSimpleJob(jobCaller), jobFacade);
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(false);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) throws InterruptedException {
+                Thread.sleep(10000L);
+                return null;
+            }
+        }).when(jobCaller).execute();
+        simpleJobExecutor.execute();
+        verify(jobFacade, times(0)).postJobExecutionEvent(ArgumentMatchers.<JobExecutionEvent>any());
+        verify(jobFacade, times(0)).postJobStatusTraceEvent(ArgumentMatchers.<ShardingContexts>any(), ArgumentMatchers.<State>any(), anyString());
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+    }
+    
+    @Test
+    public void assertExecuteWhenTimeoutItemFailsDuringNextExecution() {
+        when(jobFacade.loadJobRootConfiguration(true)).thenReturn(new TestSimpleJobConfiguration(IgnoreJobExceptionHandler.class.getCanonicalName(), null, 1000L));
+        SimpleJobExecutor simpleJobExecutor = new SimpleJobExecutor(new TestSimpleJob(jobCaller), jobFacade);
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getSingleShardingContexts();
+        ElasticJobVerify.prepareForIsNotMisfire(jobFacade, shardingContexts);
+        final AtomicInteger executeCount = new AtomicInteger();
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                if (1 == executeCount.incrementAndGet()) {
+                    sleepIgnoreInterrupt(1500L);
+                    throw new JobSystemException("stale failure");
+                }
+                sleepIgnoreInterrupt(800L);
+                return null;
+            }
+        }).when(jobCaller).execute();
+        simpleJobExecutor.execute();
+        simpleJobExecutor.execute();
+        verify(jobFacade).postJobStatusTraceEvent(eq(shardingContexts), eq(State.TASK_ERROR), anyString());
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, "");
+    }
+    
+    private void sleepIgnoreInterrupt(final long milliseconds) {
+        long deadline = System.currentTimeMillis() + milliseconds;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(Math.max(1L, deadline - System.currentTimeMillis()));
+            } catch (final InterruptedException ex) {
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteWhenJobEventDisabled() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(false);
+        simpleJobExecutor.execute();
+        verify(jobFacade, times(0)).postJobStatusTraceEvent(ArgumentMatchers.<ShardingContexts>any(), ArgumentMatchers.<State>any(), anyString());
+        verify(jobFacade, times(0)).postJobExecutionEvent(ArgumentMatchers.<JobExecutionEvent>any());
+        verify(jobFacade).registerJobBegin(shardingContexts);
+        verify(jobCaller, times(2)).execute();
+        verify(jobFacade).registerJobCompleted(shardingContexts);
+    }
+    
+    @Test
+    public void assertExecuteWhenJobEventDisabledAndJobStatusTraceLogEnabled() {
+        ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
+        when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(false);
+        when(jobFacade.isJobStatusTraceLogEnabled()).thenReturn(true);
+        simpleJobExecutor.execute();
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, "Job 'test_job' execute begin.");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_RUNNING, "");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_FINISHED, "");
+        verify(jobFacade, times(0)).postJobExecutionEvent(ArgumentMatchers.<JobExecutionEvent>any());
+    }
+    
     @Test
     public void assertExecuteWhenRunOnceWithMisfireIsEmpty() {
         ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(true);
         when(jobFacade.isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet())).thenReturn(false);
         simpleJobExecutor.execute();
         ElasticJobVerify.verifyForIsNotMisfire(jobFacade, shardingContexts);
@@ -179,6 +360,7 @@ public final class SimpleJobExecutorTest {
     public void assertExecuteWhenRunOnceWithMisfireIsNotEmptyButIsNotEligibleForJobRunning() {
         ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(true);
         when(jobFacade.isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet())).thenReturn(false);
         simpleJobExecutor.execute();
         ElasticJobVerify.verifyForIsNotMisfire(jobFacade, shardingContexts);
@@ -190,11 +372,12 @@ public final class SimpleJobExecutorTest {
     public void assertExecuteWhenRunOnceWithMisfire() throws JobExecutionEnvironmentException {
         ShardingContexts shardingContexts = ShardingContextsBuilder.getMultipleShardingContexts();
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(true);
         when(jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())).thenReturn(false);
         when(jobFacade.isExecuteMisfired(shardingContexts.getShardingItemParameters().keySet())).thenReturn(true, false);
         simpleJobExecutor.execute();
-        verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
-        verify(jobFacade, times(2)).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_RUNNING, "");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_STAGING, "Job 'test_job' execute begin.");
+        verify(jobFacade, times(2)).postJobStatusTraceEvent(shardingContexts, State.TASK_RUNNING, "");
         verify(jobFacade).checkJobExecutionEnvironment();
         verify(jobFacade).getShardingContexts();
         verify(jobFacade).misfireIfRunning(shardingContexts.getShardingItemParameters().keySet());
@@ -64,8 +64,9 @@ public final class WrongJobExecutorTest {
         map.put(1, "B");
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", map);
         when(jobFacade.getShardingContexts()).thenReturn(shardingContexts);
+        when(jobFacade.isJobEventEnabled()).thenReturn(true);
         wrongSimpleJobExecutor.execute();
         verify(jobFacade).getShardingContexts();
-        verify(jobFacade).postJobStatusTraceEvent("fake_task_id", State.TASK_RUNNING, "");
+        verify(jobFacade).postJobStatusTraceEvent(shardingContexts, State.TASK_RUNNING, "");
     }
 }
@@ -29,16 +29,16 @@ public final class APIJsonConstants {
     // CHECKSTYLE:OFF
     private static final String SIMPLE_JOB_JSON =  "{\"jobName\":\"test_job\",\"jobClass\":\"io.elasticjob.lite.fixture.job.TestSimpleJob\",\"jobType\":\"SIMPLE\","
             + "\"cron\":\"0/1 * * * * ?\",\"shardingTotalCount\":3,\"shardingItemParameters\":\"0\\u003dA,1\\u003dB,2\\u003dC\",\"jobParameter\":\"param\",\"failover\":true,\"misfire\":false,"
-            + "\"description\":\"desc\",\"jobProperties\":%s}";
+            + "\"description\":\"desc\",\"jobProperties\":%s,\"shardingItemTimeoutMilliseconds\":0}";
     // CHECKSTYLE:ON
     
     private static final String DATAFLOW_JOB_JSON = "{\"jobName\":\"test_job\",\"jobClass\":\"io.elasticjob.lite.fixture.job.TestDataflowJob\",\"jobType\":\"DATAFLOW\","
             + "\"cron\":\"0/1 * * * * ?\",\"shardingTotalCount\":3,\"shardingItemParameters\":\"\",\"jobParameter\":\"\",\"failover\":false,\"misfire\":true,\"description\":\"\","
-            + "\"jobProperties\":%s,\"streamingProcess\":true}";
+            + "\"jobProperties\":%s,\"shardingItemTimeoutMilliseconds\":0,\"streamingProcess\":true,\"streamingPrefetchDepth\":0,\"processConcurrency\":0,\"batchSize\":0,\"processTargetMilliseconds\":0,\"maxRecordsPerSecond\":0}";
     
     private static final String SCRIPT_JOB_JSON = "{\"jobName\":\"test_job\",\"jobClass\":\"io.elasticjob.lite.api.script.ScriptJob\",\"jobType\":\"SCRIPT\",\"cron\":\"0/1 * * * * ?\","
             + "\"shardingTotalCount\":3,\"shardingItemParameters\":\"\",\"jobParameter\":\"\",\"failover\":false,\"misfire\":true,\"description\":\"\","
-            + "\"jobProperties\":%s,\"scriptCommandLine\":\"test.sh\"}";
+            + "\"jobProperties\":%s,\"shardingItemTimeoutMilliseconds\":0,\"scriptCommandLine\":\"test.sh\"}";
     
     public static String getJobPropertiesJson(final String jobExceptionHandler) {
         return String.format(JOB_PROPS_JSON, jobExceptionHandler);
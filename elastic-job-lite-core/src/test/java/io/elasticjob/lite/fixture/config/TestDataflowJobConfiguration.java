@@ -25,17 +25,29 @@ import io.elasticjob.lite.executor.handler.JobProperties;
 import io.elasticjob.lite.fixture.ShardingContextsBuilder;
 import io.elasticjob.lite.fixture.handler.IgnoreJobExceptionHandler;
 import io.elasticjob.lite.fixture.job.TestDataflowJob;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public final class TestDataflowJobConfiguration implements JobRootConfiguration {
     
     private final boolean streamingProcess;
     
+    private final int streamingPrefetchDepth;
+    
+    private final int processConcurrency;
+    
+    public TestDataflowJobConfiguration(final boolean streamingProcess) {
+        this(streamingProcess, 0, 0);
+    }
+    
+    public TestDataflowJobConfiguration(final boolean streamingProcess, final int streamingPrefetchDepth, final int processConcurrency) {
+        this.streamingProcess = streamingProcess;
+        this.streamingPrefetchDepth = streamingPrefetchDepth;
+        this.processConcurrency = processConcurrency;
+    }
+    
     @Override
     public JobTypeConfiguration getTypeConfig() {
-        return new DataflowJobConfiguration(JobCoreConfiguration.newBuilder(ShardingContextsBuilder.JOB_NAME, "0/1 * * * * ?", 3)
+        return DataflowJobConfiguration.newBuilder(JobCoreConfiguration.newBuilder(ShardingContextsBuilder.JOB_NAME, "0/1 * * * * ?", 3)
                 .jobProperties(JobProperties.JobPropertiesEnum.JOB_EXCEPTION_HANDLER.getKey(), IgnoreJobExceptionHandler.class.getCanonicalName()).build(), 
-                TestDataflowJob.class.getCanonicalName(), streamingProcess);
+                TestDataflowJob.class.getCanonicalName(), streamingProcess).streamingPrefetchDepth(streamingPrefetchDepth).processConcurrency(processConcurrency).build();
     }
 }
@@ -34,11 +34,18 @@ public final class TestSimpleJobConfiguration implements JobRootConfiguration {
     
     private String executorServiceHandlerClassName;
     
+    private long shardingItemTimeoutMilliseconds;
+    
     public TestSimpleJobConfiguration(final String jobExceptionHandlerClassName, final String executorServiceHandlerClassName) {
         this.jobExceptionHandlerClassName = jobExceptionHandlerClassName;
         this.executorServiceHandlerClassName = executorServiceHandlerClassName;
     }
     
+    public TestSimpleJobConfiguration(final String jobExceptionHandlerClassName, final String executorServiceHandlerClassName, final long shardingItemTimeoutMilliseconds) {
+        this(jobExceptionHandlerClassName, executorServiceHandlerClassName);
+        this.shardingItemTimeoutMilliseconds = shardingItemTimeoutMilliseconds;
+    }
+    
     @Override
     public JobTypeConfiguration getTypeConfig() {
         JobCoreConfiguration.Builder builder = JobCoreConfiguration.newBuilder(ShardingContextsBuilder.JOB_NAME, "0/1 * * * * ?", 3)
@@ -51,6 +58,7 @@ public final class TestSimpleJobConfiguration implements JobRootConfiguration {
         if (null != executorServiceHandlerClassName) {
             builder.jobProperties(JobProperties.JobPropertiesEnum.EXECUTOR_SERVICE_HANDLER.getKey(), executorServiceHandlerClassName);
         }
+        builder.shardingItemTimeoutMilliseconds(shardingItemTimeoutMilliseconds);
         return new SimpleJobConfiguration(builder.build(), TestSimpleJob.class.getCanonicalName());
     }
 }
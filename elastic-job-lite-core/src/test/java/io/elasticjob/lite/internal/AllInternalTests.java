@@ -29,6 +29,7 @@ import io.elasticjob.lite.internal.failover.FailoverNodeTest;
 import io.elasticjob.lite.internal.failover.FailoverServiceTest;
 import io.elasticjob.lite.internal.guarantee.GuaranteeNodeTest;
 import io.elasticjob.lite.internal.guarantee.GuaranteeServiceTest;
+import io.elasticjob.lite.internal.instance.InstanceLoadTest;
 import io.elasticjob.lite.internal.instance.InstanceNodeTest;
 import io.elasticjob.lite.internal.instance.InstanceServiceTest;
 import io.elasticjob.lite.internal.instance.ShutdownListenerManagerTest;
@@ -39,11 +40,16 @@ import io.elasticjob.lite.internal.listener.RegistryCenterConnectionStateListene
 import io.elasticjob.lite.internal.monitor.MonitorServiceDisableTest;
 import io.elasticjob.lite.internal.monitor.MonitorServiceEnableTest;
 import io.elasticjob.lite.internal.reconcile.ReconcileServiceTest;
+import io.elasticjob.lite.internal.schedule.HashedWheelTimerTest;
+import io.elasticjob.lite.internal.schedule.JobExecutionDispatcherTest;
 import io.elasticjob.lite.internal.schedule.JobRegistryTest;
-import io.elasticjob.lite.internal.schedule.JobScheduleControllerTest;
+import io.elasticjob.lite.internal.schedule.JobScheduleTest;
 import io.elasticjob.lite.internal.schedule.JobTriggerListenerTest;
 import io.elasticjob.lite.internal.schedule.LiteJobFacadeTest;
+import io.elasticjob.lite.internal.schedule.QuartzJobScheduleControllerTest;
 import io.elasticjob.lite.internal.schedule.SchedulerFacadeTest;
+import io.elasticjob.lite.internal.schedule.SharedSchedulerTest;
+import io.elasticjob.lite.internal.schedule.TimingWheelJobScheduleControllerTest;
 import io.elasticjob.lite.internal.server.ServerNodeTest;
 import io.elasticjob.lite.internal.server.ServerServiceTest;
 import io.elasticjob.lite.internal.sharding.ExecutionContextServiceTest;
@@ -74,6 +80,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ServerServiceTest.class, 
         InstanceNodeTest.class,
         InstanceServiceTest.class,
+        InstanceLoadTest.class,
         ShutdownListenerManagerTest.class,
         TriggerListenerManagerTest.class,
         ShardingServiceTest.class, 
@@ -87,8 +94,12 @@ import org.junit.runners.Suite.SuiteClasses;
         FailoverNodeTest.class,
         FailoverListenerManagerTest.class, 
         JobRegistryTest.class,
-        JobScheduleControllerTest.class,
+        QuartzJobScheduleControllerTest.class,
+        JobScheduleTest.class,
+        HashedWheelTimerTest.class,
+        TimingWheelJobScheduleControllerTest.class,
         JobTriggerListenerTest.class, 
+        JobExecutionDispatcherTest.class,
         ListenerManagerTest.class, 
         JobListenerTest.class,
         MonitorServiceEnableTest.class,
@@ -96,6 +107,7 @@ import org.junit.runners.Suite.SuiteClasses;
         GuaranteeNodeTest.class,
         GuaranteeServiceTest.class, 
         SchedulerFacadeTest.class,
+        SharedSchedulerTest.class,
         LiteJobFacadeTest.class, 
         ReconcileServiceTest.class,
         RegistryCenterConnectionStateListenerTest.class
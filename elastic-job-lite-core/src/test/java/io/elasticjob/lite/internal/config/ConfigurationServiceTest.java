@@ -23,6 +23,8 @@ import io.elasticjob.lite.exception.JobExecutionEnvironmentException;
 import io.elasticjob.lite.fixture.LiteJsonConstants;
 import io.elasticjob.lite.fixture.util.JobConfigurationUtil;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -30,6 +32,8 @@ import org.mockito.MockitoAnnotations;
 import org.unitils.util.ReflectionUtils;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -65,6 +69,26 @@ public final class ConfigurationServiceTest {
         assertThat(actual.getTypeConfig().getCoreConfig().getShardingTotalCount(), is(3));
     }
     
+    @Test
+    public void assertLoadFromCachedSnapshotWithSameVersion() {
+        when(jobNodeStorage.getJobNodeCachedData(ConfigurationNode.ROOT)).thenReturn(createChildData(LiteJsonConstants.getJobJson(), 1L));
+        LiteJobConfiguration actual = configService.load(true);
+        assertThat(actual.getJobName(), is("test_job"));
+        assertThat(actual.getTypeConfig().getCoreConfig().getShardingTotalCount(), is(3));
+        assertThat(configService.load(true), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertLoadFromCachedSnapshotWithChangedVersion() {
+        when(jobNodeStorage.getJobNodeCachedData(ConfigurationNode.ROOT)).thenReturn(createChildData(LiteJsonConstants.getJobJson(), 1L));
+        LiteJobConfiguration expected = configService.load(true);
+        when(jobNodeStorage.getJobNodeCachedData(ConfigurationNode.ROOT)).thenReturn(createChildData(LiteJsonConstants.getJobJson(-1), 2L));
+        LiteJobConfiguration actual = configService.load(true);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getMaxTimeDiffSeconds(), is(-1));
+        assertThat(configService.load(true), sameInstance(actual));
+    }
+    
     @Test
     public void assertLoadFromCacheButNull() {
         when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(null);
@@ -127,4 +151,10 @@ public final class ConfigurationServiceTest {
             verify(jobNodeStorage).getRegistryCenterTime();
         }
     }
+    
+    private ChildData createChildData(final String json, final long version) {
+        Stat stat = new Stat();
+        stat.setMzxid(version);
+        return new ChildData("/test_job/config", stat, json.getBytes());
+    }
 }
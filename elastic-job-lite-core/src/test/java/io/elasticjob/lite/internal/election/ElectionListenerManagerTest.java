@@ -32,6 +32,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.unitils.util.ReflectionUtils;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -67,7 +69,7 @@ public final class ElectionListenerManagerTest {
     @Test
     public void assertStart() {
         electionListenerManager.start();
-        verify(jobNodeStorage, times(2)).addDataListener(ArgumentMatchers.<ElectionListenerManager.LeaderElectionJobListener>any());
+        verify(jobNodeStorage, times(3)).addDataListener(ArgumentMatchers.<ElectionListenerManager.LeaderElectionJobListener>any());
     }
     
     @Test
@@ -137,4 +139,22 @@ public final class ElectionListenerManagerTest {
         electionListenerManager.new LeaderAbdicationJobListener().dataChanged("/test_job/servers/127.0.0.1", Type.NODE_UPDATED, ServerStatus.DISABLED.name());
         verify(leaderService).removeLeader();
     }
+    
+    @Test
+    public void assertLeaderChangedJobListenerWhenIsLeaderInstancePath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        long version = JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion();
+        electionListenerManager.new LeaderChangedJobListener().dataChanged("/test_job/leader/election/instance", Type.NODE_ADDED, "host0@-@0");
+        assertThat(JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion(), is(version + 1));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertLeaderChangedJobListenerWhenIsNotLeaderInstancePath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        long version = JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion();
+        electionListenerManager.new LeaderChangedJobListener().dataChanged("/test_job/leader/election/latch", Type.NODE_ADDED, "");
+        assertThat(JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion(), is(version));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
 }
@@ -152,8 +152,7 @@ public final class FailoverServiceTest {
     @Test
     public void assertUpdateFailoverComplete() {
         failoverService.updateFailoverComplete(Arrays.asList(0, 1));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/failover");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/failover");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/failover", "sharding/1/failover"));
     }
     
     @Test
@@ -201,14 +200,14 @@ public final class FailoverServiceTest {
     @Test
     public void assertGetLocalTakeOffItems() {
         when(shardingService.getLocalShardingItems()).thenReturn(Arrays.asList(0, 1, 2));
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/failover")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/failover")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/failover")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/0/failover")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/1/failover")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/2/failover")).thenReturn(false);
         assertThat(failoverService.getLocalTakeOffItems(), is(Arrays.asList(0, 1)));
         verify(shardingService).getLocalShardingItems();
-        verify(jobNodeStorage).isJobNodeExisted("sharding/0/failover");
-        verify(jobNodeStorage).isJobNodeExisted("sharding/1/failover");
-        verify(jobNodeStorage).isJobNodeExisted("sharding/2/failover");
+        verify(jobNodeStorage).isJobNodeExistedInCache("sharding/0/failover");
+        verify(jobNodeStorage).isJobNodeExistedInCache("sharding/1/failover");
+        verify(jobNodeStorage).isJobNodeExistedInCache("sharding/2/failover");
     }
     
     @Test
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.instance;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InstanceLoadTest {
+    
+    @Test
+    public void assertFromJsonWithEmptyData() {
+        assertUnpublished(InstanceLoad.fromJson(""));
+    }
+    
+    @Test
+    public void assertFromJsonWithTriggerFlag() {
+        assertUnpublished(InstanceLoad.fromJson(InstanceOperation.TRIGGER.name()));
+    }
+    
+    @Test
+    public void assertFromJsonWithMalformedData() {
+        assertUnpublished(InstanceLoad.fromJson("{\"weight\":"));
+    }
+    
+    @Test
+    public void assertFromJson() {
+        InstanceLoad actual = InstanceLoad.fromJson("{\"weight\":8,\"itemExecutionLatency\":100}");
+        assertThat(actual.getWeight(), is(8));
+        assertThat(actual.getItemExecutionLatency(), is(100L));
+    }
+    
+    @Test
+    public void assertToJson() {
+        assertThat(new InstanceLoad(8, 100L).toJson(), is("{\"weight\":8,\"itemExecutionLatency\":100}"));
+    }
+    
+    @Test
+    public void assertGetLocalWeightWithoutProperty() {
+        assertThat(InstanceLoad.getLocalWeight(), is(Runtime.getRuntime().availableProcessors()));
+    }
+    
+    @Test
+    public void assertGetLocalWeightWithProperty() {
+        System.setProperty(InstanceLoad.WEIGHT_PROPERTY_KEY, "16");
+        try {
+            assertThat(InstanceLoad.getLocalWeight(), is(16));
+        } finally {
+            System.clearProperty(InstanceLoad.WEIGHT_PROPERTY_KEY);
+        }
+    }
+    
+    @Test
+    public void assertGetLocalWeightWithInvalidProperty() {
+        System.setProperty(InstanceLoad.WEIGHT_PROPERTY_KEY, "invalid");
+        try {
+            assertThat(InstanceLoad.getLocalWeight(), is(Runtime.getRuntime().availableProcessors()));
+        } finally {
+            System.clearProperty(InstanceLoad.WEIGHT_PROPERTY_KEY);
+        }
+    }
+    
+    @Test
+    public void assertGetLocalWeightWithNonPositiveProperty() {
+        System.setProperty(InstanceLoad.WEIGHT_PROPERTY_KEY, "0");
+        try {
+            assertThat(InstanceLoad.getLocalWeight(), is(Runtime.getRuntime().availableProcessors()));
+        } finally {
+            System.clearProperty(InstanceLoad.WEIGHT_PROPERTY_KEY);
+        }
+    }
+    
+    private void assertUnpublished(final InstanceLoad actual) {
+        assertThat(actual.getWeight(), is(0));
+        assertThat(actual.getItemExecutionLatency(), is(0L));
+    }
+}
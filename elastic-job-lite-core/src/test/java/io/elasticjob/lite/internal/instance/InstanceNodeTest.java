@@ -66,4 +66,9 @@ public final class InstanceNodeTest {
     public void assertGetLocalInstancePath() {
         assertThat(instanceNode.getLocalInstanceNode(), is("instances/127.0.0.1@-@0"));
     }
+    
+    @Test
+    public void assertGetInstanceNode() {
+        assertThat(instanceNode.getInstanceNode("127.0.0.2@-@0"), is("instances/127.0.0.2@-@0"));
+    }
 }
@@ -4,6 +4,10 @@ import io.elasticjob.lite.api.strategy.JobInstance;
 import io.elasticjob.lite.internal.schedule.JobRegistry;
 import io.elasticjob.lite.internal.server.ServerService;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.zookeeper.data.Stat;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -12,10 +16,15 @@ import org.unitils.util.ReflectionUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +40,8 @@ public final class InstanceServiceTest {
     
     @Before
     public void setUp() throws NoSuchFieldException {
+        System.setProperty(InstanceLoad.WEIGHT_PROPERTY_KEY, "4");
+        JobMetricsRegistry.getInstance().remove("test_job");
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
         instanceService = new InstanceService(null, "test_job");
         MockitoAnnotations.initMocks(this);
@@ -40,10 +51,53 @@ public final class InstanceServiceTest {
         ReflectionUtils.setFieldValue(instanceService, "serverService", serverService);
     }
     
+    @After
+    public void tearDown() {
+        System.clearProperty(InstanceLoad.WEIGHT_PROPERTY_KEY);
+        JobMetricsRegistry.getInstance().remove("test_job");
+    }
+    
     @Test
     public void assertPersistOnline() {
         instanceService.persistOnline();
-        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "");
+        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "{\"weight\":4,\"itemExecutionLatency\":0}");
+    }
+    
+    @Test
+    public void assertPersistLoadIfNecessaryWhenInstanceNotExisted() {
+        instanceService.persistLoadIfNecessary();
+        verify(jobNodeStorage, times(0)).updateJobNodeIfVersionMatched(anyString(), anyString(), anyInt());
+    }
+    
+    @Test
+    public void assertPersistLoadIfNecessaryWhenTriggerFlagExisted() {
+        JobMetricsRegistry.getInstance().getJobMetrics("test_job").recordItemExecutionTime(0, TimeUnit.MICROSECONDS.toNanos(1000L));
+        when(jobNodeStorage.getJobNodeCachedData("instances/127.0.0.1@-@0")).thenReturn(createChildData(InstanceOperation.TRIGGER.name()));
+        instanceService.persistLoadIfNecessary();
+        verify(jobNodeStorage, times(0)).updateJobNodeIfVersionMatched(anyString(), anyString(), anyInt());
+    }
+    
+    @Test
+    public void assertPersistLoadIfNecessaryWhenLatencySlightlyChanged() {
+        JobMetricsRegistry.getInstance().getJobMetrics("test_job").recordItemExecutionTime(0, TimeUnit.MICROSECONDS.toNanos(1000L));
+        when(jobNodeStorage.getJobNodeCachedData("instances/127.0.0.1@-@0")).thenReturn(createChildData("{\"weight\":4,\"itemExecutionLatency\":900}"));
+        instanceService.persistLoadIfNecessary();
+        verify(jobNodeStorage, times(0)).updateJobNodeIfVersionMatched(anyString(), anyString(), anyInt());
+    }
+    
+    @Test
+    public void assertPersistLoadIfNecessaryWhenLatencyChanged() {
+        JobMetricsRegistry.getInstance().getJobMetrics("test_job").recordItemExecutionTime(0, TimeUnit.MICROSECONDS.toNanos(1000L));
+        when(jobNodeStorage.getJobNodeCachedData("instances/127.0.0.1@-@0")).thenReturn(createChildData("{\"weight\":4,\"itemExecutionLatency\":500}"));
+        instanceService.persistLoadIfNecessary();
+        verify(jobNodeStorage).updateJobNodeIfVersionMatched("instances/127.0.0.1@-@0", "{\"weight\":4,\"itemExecutionLatency\":1000}", 3);
+    }
+    
+    @Test
+    public void assertPersistLoadIfNecessaryWhenWeightChanged() {
+        when(jobNodeStorage.getJobNodeCachedData("instances/127.0.0.1@-@0")).thenReturn(createChildData(""));
+        instanceService.persistLoadIfNecessary();
+        verify(jobNodeStorage).updateJobNodeIfVersionMatched("instances/127.0.0.1@-@0", "{\"weight\":4,\"itemExecutionLatency\":0}", 3);
     }
         
     @Test
@@ -55,14 +109,18 @@ public final class InstanceServiceTest {
     @Test
     public void assertClearTriggerFlag() {
         instanceService.clearTriggerFlag();
-        jobNodeStorage.updateJobNode("instances/127.0.0.1@-@0", "");
+        verify(jobNodeStorage).updateJobNode("instances/127.0.0.1@-@0", "{\"weight\":4,\"itemExecutionLatency\":0}");
     }
     
     @Test
     public void assertGetAvailableJobInstances() {
         when(jobNodeStorage.getJobNodeChildrenKeys("instances")).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.2@-@0"));
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("{\"weight\":8,\"itemExecutionLatency\":100}");
         when(serverService.isEnableServer("127.0.0.1")).thenReturn(true);
-        assertThat(instanceService.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
+        List<JobInstance> actual = instanceService.getAvailableJobInstances();
+        assertThat(actual, is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
+        assertThat(actual.get(0).getWeight(), is(8));
+        assertThat(actual.get(0).getItemExecutionLatency(), is(100L));
     }
     
     @Test
@@ -70,4 +128,10 @@ public final class InstanceServiceTest {
         when(jobNodeStorage.isJobNodeExisted("instances/127.0.0.1@-@0")).thenReturn(true);
         assertTrue(instanceService.isLocalJobInstanceExisted());
     }
+    
+    private ChildData createChildData(final String data) {
+        Stat stat = new Stat();
+        stat.setVersion(3);
+        return new ChildData("/test_job/instances/127.0.0.1@-@0", stat, data.getBytes());
+    }
 }
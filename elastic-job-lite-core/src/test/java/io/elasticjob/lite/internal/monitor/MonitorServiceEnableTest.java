@@ -25,6 +25,7 @@ import java.io.IOException;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public final class MonitorServiceEnableTest extends AbstractBaseStdJobTest {
     
@@ -38,6 +39,7 @@ public final class MonitorServiceEnableTest extends AbstractBaseStdJobTest {
     public void assertMonitorWithCommand() throws IOException {
         initJob();
         assertNotNull(SocketUtils.sendCommand(MonitorService.DUMP_COMMAND, MONITOR_PORT));
+        assertTrue(SocketUtils.sendCommand(MonitorService.METRICS_COMMAND, MONITOR_PORT).startsWith("fire_count | "));
         assertNull(SocketUtils.sendCommand("unknown_command", MONITOR_PORT));
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class HashedWheelTimerTest {
+    
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timing-wheel", 10L, TimeUnit.MILLISECONDS, 8);
+    
+    @After
+    public void tearDown() {
+        timer.stop();
+    }
+    
+    @Test
+    public void assertNewTimeout() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicLong expiredTime = new AtomicLong();
+        long startTime = System.nanoTime();
+        timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+                expiredTime.set(System.nanoTime());
+                latch.countDown();
+            }
+        }, 50L, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertTrue(expiredTime.get() - startTime >= TimeUnit.MILLISECONDS.toNanos(50L));
+    }
+    
+    @Test
+    public void assertNewTimeoutBeyondOneRound() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicLong expiredTime = new AtomicLong();
+        long startTime = System.nanoTime();
+        timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+                expiredTime.set(System.nanoTime());
+                latch.countDown();
+            }
+        }, 200L, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertTrue(expiredTime.get() - startTime >= TimeUnit.MILLISECONDS.toNanos(200L));
+    }
+    
+    @Test
+    public void assertCancel() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }, 50L, TimeUnit.MILLISECONDS);
+        timeout.cancel();
+        assertTrue(timeout.isCancelled());
+        assertFalse(latch.await(200L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertTaskFailureNotStopTimer() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+                throw new RuntimeException("test");
+            }
+        }, 10L, TimeUnit.MILLISECONDS);
+        timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }, 30L, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertNewTimeoutAfterStop() {
+        timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+            }
+        }, 10L, TimeUnit.MILLISECONDS);
+        timer.stop();
+        timer.newTimeout(new Runnable() {
+            
+            @Override
+            public void run() {
+            }
+        }, 10L, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.executor.AbstractElasticJobExecutor;
+import io.elasticjob.lite.executor.JobExecutorCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JobExecutionDispatcherTest {
+    
+    @Mock
+    private SharedScheduler sharedScheduler;
+    
+    @Mock
+    private JobExecutorCache jobExecutorCache;
+    
+    @Mock
+    private AbstractElasticJobExecutor jobExecutor;
+    
+    @Mock
+    private JobTriggerListener jobTriggerListener;
+    
+    private JobExecutionDispatcher jobExecutionDispatcher;
+    
+    @Before
+    public void setUp() {
+        jobExecutionDispatcher = new JobExecutionDispatcher(sharedScheduler, "test_job", jobExecutorCache, jobTriggerListener);
+    }
+    
+    @Test
+    public void assertDispatch() {
+        jobExecutionDispatcher.dispatch();
+        verify(sharedScheduler).execute(ArgumentMatchers.<Runnable>any());
+        verify(jobTriggerListener, times(0)).setMisfire();
+    }
+    
+    @Test
+    public void assertDispatchWhenRunning() {
+        jobExecutionDispatcher.dispatch();
+        jobExecutionDispatcher.dispatch();
+        verify(sharedScheduler).execute(ArgumentMatchers.<Runnable>any());
+        verify(jobTriggerListener).setMisfire();
+    }
+    
+    @Test
+    public void assertDispatchAfterCompleted() {
+        when(jobExecutorCache.getJobExecutor()).thenReturn(jobExecutor);
+        jobExecutionDispatcher.dispatch();
+        ArgumentCaptor<Runnable> executionTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(sharedScheduler).execute(executionTaskCaptor.capture());
+        executionTaskCaptor.getValue().run();
+        verify(jobExecutor).execute();
+        jobExecutionDispatcher.dispatch();
+        verify(sharedScheduler, times(2)).execute(ArgumentMatchers.<Runnable>any());
+        verify(jobTriggerListener, times(0)).setMisfire();
+    }
+    
+    @Test
+    public void assertDispatchWhenRejected() {
+        doThrow(RejectedExecutionException.class).when(sharedScheduler).execute(ArgumentMatchers.<Runnable>any());
+        jobExecutionDispatcher.dispatch();
+        jobExecutionDispatcher.dispatch();
+        verify(sharedScheduler, times(2)).execute(ArgumentMatchers.<Runnable>any());
+        verify(jobTriggerListener, times(0)).setMisfire();
+    }
+}
@@ -18,6 +18,7 @@
 package io.elasticjob.lite.internal.schedule;
 
 import io.elasticjob.lite.api.strategy.JobInstance;
+import io.elasticjob.lite.event.JobEventSink;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.junit.Test;
 
@@ -84,6 +85,15 @@ public final class JobRegistryTest {
         verify(regCenter).evictCacheData("/test_job_for_shutdown");
     }
     
+    @Test
+    public void assertShutdownWithJobEventSink() {
+        JobEventSink jobEventSink = mock(JobEventSink.class);
+        JobRegistry.getInstance().registerJob("test_job_for_shutdown_with_event_sink", mock(JobScheduleController.class), mock(CoordinatorRegistryCenter.class));
+        JobRegistry.getInstance().addJobEventSink("test_job_for_shutdown_with_event_sink", jobEventSink);
+        JobRegistry.getInstance().shutdown("test_job_for_shutdown_with_event_sink");
+        verify(jobEventSink).close();
+    }
+    
     @Test
     public void assertIsShutdownForJobSchedulerNull() {
         assertTrue(JobRegistry.getInstance().isShutdown("test_job_for_job_scheduler_null"));
@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.exception.JobConfigurationException;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class JobScheduleTest {
+    
+    @Test
+    public void assertIsFixedSchedule() {
+        assertTrue(JobSchedule.isFixedSchedule("@fixedRate 200ms"));
+        assertTrue(JobSchedule.isFixedSchedule(" @fixedDelay 1s"));
+        assertFalse(JobSchedule.isFixedSchedule("0/1 * * * * ?"));
+    }
+    
+    @Test
+    public void assertParseFixedRate() {
+        JobSchedule actual = JobSchedule.parse("@fixedRate 200ms");
+        assertThat(actual.getType(), is(JobSchedule.Type.FIXED_RATE));
+        assertThat(actual.getIntervalMilliseconds(), is(200L));
+        assertThat(actual.getExpression(), is("@fixedRate 200ms"));
+    }
+    
+    @Test
+    public void assertParseFixedDelay() {
+        assertThat(JobSchedule.parse("@fixedDelay 2s").getType(), is(JobSchedule.Type.FIXED_DELAY));
+        assertThat(JobSchedule.parse("@fixedDelay 2s").getIntervalMilliseconds(), is(2000L));
+        assertThat(JobSchedule.parse("@fixedDelay 1m").getIntervalMilliseconds(), is(60000L));
+        assertThat(JobSchedule.parse("@fixedDelay 500").getIntervalMilliseconds(), is(500L));
+    }
+    
+    @Test
+    public void assertParseCron() {
+        JobSchedule actual = JobSchedule.parse("0/5 * * * * ?");
+        assertThat(actual.getType(), is(JobSchedule.Type.CRON));
+        assertThat(actual.getCronExpression().getCronExpression(), is("0/5 * * * * ?"));
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertParseInvalidCron() {
+        JobSchedule.parse("invalid");
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertParseInvalidInterval() {
+        JobSchedule.parse("@fixedRate 1h");
+    }
+    
+    @Test(expected = JobConfigurationException.class)
+    public void assertParseZeroInterval() {
+        JobSchedule.parse("@fixedRate 0ms");
+    }
+    
+    @Test
+    public void assertGetNextFireTimeForFixedRate() {
+        JobSchedule jobSchedule = JobSchedule.parse("@fixedRate 200ms");
+        assertThat(jobSchedule.getNextFireTime(1000L, 1000L), is(1200L));
+        assertThat(jobSchedule.getNextFireTime(1000L, 1010L), is(1200L));
+        assertThat(jobSchedule.getNextFireTime(1000L, 1450L), is(1600L));
+    }
+    
+    @Test
+    public void assertGetNextFireTimeForFixedDelay() {
+        assertThat(JobSchedule.parse("@fixedDelay 200ms").getNextFireTime(1000L, 1450L), is(1200L));
+    }
+    
+    @Test
+    public void assertGetNextFireTimeForCron() throws ParseException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        JobSchedule jobSchedule = JobSchedule.parse("0/5 * * * * ?");
+        long baseTime = dateFormat.parse("2020-01-01 00:00:00").getTime();
+        assertThat(jobSchedule.getNextFireTime(baseTime, baseTime + 1L), is(dateFormat.parse("2020-01-01 00:00:05").getTime()));
+        assertThat(jobSchedule.getNextFireTime(baseTime, baseTime + 12000L), is(dateFormat.parse("2020-01-01 00:00:15").getTime()));
+    }
+    
+    @Test
+    public void assertGetNextFireTimeForExpiredCron() throws ParseException {
+        long currentTime = new SimpleDateFormat("yyyy-MM-dd").parse("2021-01-01").getTime();
+        assertThat(JobSchedule.parse("0 0 0 1 1 ? 2020").getNextFireTime(currentTime, currentTime), is(-1L));
+    }
+}
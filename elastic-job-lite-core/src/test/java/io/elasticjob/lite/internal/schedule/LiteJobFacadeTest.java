@@ -25,18 +25,27 @@ import io.elasticjob.lite.config.JobCoreConfiguration;
 import io.elasticjob.lite.config.LiteJobConfiguration;
 import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
 import io.elasticjob.lite.config.simple.SimpleJobConfiguration;
+import io.elasticjob.lite.context.ExecutionType;
+import io.elasticjob.lite.context.TaskDescriptor;
+import io.elasticjob.lite.event.DisabledJobEventSink;
+import io.elasticjob.lite.event.JobEvent;
 import io.elasticjob.lite.event.JobEventBus;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent;
+import io.elasticjob.lite.event.type.JobStatusTraceEvent.State;
 import io.elasticjob.lite.exception.JobExecutionEnvironmentException;
 import io.elasticjob.lite.executor.ShardingContexts;
 import io.elasticjob.lite.fixture.TestDataflowJob;
 import io.elasticjob.lite.fixture.TestSimpleJob;
 import io.elasticjob.lite.internal.config.ConfigurationService;
 import io.elasticjob.lite.internal.failover.FailoverService;
+import io.elasticjob.lite.internal.instance.InstanceService;
 import io.elasticjob.lite.internal.sharding.ExecutionContextService;
 import io.elasticjob.lite.internal.sharding.ExecutionService;
 import io.elasticjob.lite.internal.sharding.ShardingService;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.unitils.util.ReflectionUtils;
@@ -45,7 +54,9 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -67,6 +78,9 @@ public class LiteJobFacadeTest {
     @Mock
     private FailoverService failoverService;
     
+    @Mock
+    private InstanceService instanceService;
+    
     @Mock
     private JobEventBus eventBus;
     
@@ -84,6 +98,7 @@ public class LiteJobFacadeTest {
         ReflectionUtils.setFieldValue(liteJobFacade, "executionContextService", executionContextService);
         ReflectionUtils.setFieldValue(liteJobFacade, "executionService", executionService);
         ReflectionUtils.setFieldValue(liteJobFacade, "failoverService", failoverService);
+        ReflectionUtils.setFieldValue(liteJobFacade, "instanceService", instanceService);
     }
     
     @Test
@@ -130,6 +145,7 @@ public class LiteJobFacadeTest {
         liteJobFacade.registerJobCompleted(shardingContexts);
         verify(executionService).registerJobCompleted(shardingContexts);
         verify(failoverService, times(0)).updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
+        verify(instanceService).persistLoadIfNecessary();
     }
     
     @Test
@@ -246,9 +262,60 @@ public class LiteJobFacadeTest {
         verify(configService).load(true);
     }
     
+    @Test
+    public void assertEligibleForJobRunningFromJobRegistry() {
+        JobRegistry.getInstance().setEligibleForJobRunning("test_job", false);
+        assertThat(liteJobFacade.isEligibleForJobRunning(), is(false));
+        JobRegistry.getInstance().setEligibleForJobRunning("test_job", true);
+        assertThat(liteJobFacade.isEligibleForJobRunning(), is(true));
+        verify(shardingService, times(0)).isNeedSharding();
+        verify(configService, times(0)).load(true);
+        JobRegistry.getInstance().removeEligibleForJobRunning("test_job");
+    }
+    
+    @Test
+    public void assertIsJobEventEnabled() {
+        when(eventBus.isEnabled()).thenReturn(true);
+        assertTrue(liteJobFacade.isJobEventEnabled());
+    }
+    
+    @Test
+    public void assertIsJobEventNotEnabledWithDisabledJobEventSink() {
+        assertFalse(new LiteJobFacade(null, "test_job", Collections.<ElasticJobListener>emptyList(), new DisabledJobEventSink()).isJobEventEnabled());
+    }
+    
     @Test
     public void assertPostJobExecutionEvent() {
         liteJobFacade.postJobExecutionEvent(null);
         verify(eventBus).post(null);
     }
+    
+    @Test
+    public void assertPostJobStatusTraceEventWithTaskDescriptor() {
+        when(eventBus.isEnabled()).thenReturn(true);
+        TaskDescriptor taskDescriptor = new TaskDescriptor("fake_task_id", "test_job", ExecutionType.READY, "127.0.0.1", Arrays.asList(0, 1));
+        liteJobFacade.postJobStatusTraceEvent(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.<Integer, String>emptyMap(), 0, taskDescriptor), State.TASK_RUNNING, "");
+        ArgumentCaptor<JobEvent> jobEvent = ArgumentCaptor.forClass(JobEvent.class);
+        verify(eventBus).post(jobEvent.capture());
+        JobStatusTraceEvent actual = (JobStatusTraceEvent) jobEvent.getValue();
+        assertThat(actual.getTaskId(), is("fake_task_id"));
+        assertThat(actual.getSlaveId(), is("127.0.0.1"));
+        assertThat(actual.getShardingItems(), is("[0, 1]"));
+        assertThat(actual.getState(), is(State.TASK_RUNNING));
+    }
+    
+    @Test
+    public void assertPostJobStatusTraceEventWithTaskId() {
+        when(eventBus.isEnabled()).thenReturn(true);
+        liteJobFacade.postJobStatusTraceEvent("test_job@-@0@-@READY@-@127.0.0.1@-@1", State.TASK_RUNNING, "");
+        ArgumentCaptor<JobEvent> jobEvent = ArgumentCaptor.forClass(JobEvent.class);
+        verify(eventBus).post(jobEvent.capture());
+        assertThat(((JobStatusTraceEvent) jobEvent.getValue()).getShardingItems(), is("[0]"));
+    }
+    
+    @Test
+    public void assertPostJobStatusTraceEventWhenEventBusDisabled() {
+        liteJobFacade.postJobStatusTraceEvent(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.<Integer, String>emptyMap()), State.TASK_RUNNING, "");
+        verify(eventBus, times(0)).post(ArgumentMatchers.<JobEvent>any());
+    }
 }
@@ -40,7 +40,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-public final class JobScheduleControllerTest {
+public final class QuartzJobScheduleControllerTest {
     
     @Mock
     private Scheduler scheduler;
@@ -48,12 +48,12 @@ public final class JobScheduleControllerTest {
     @Mock
     private JobDetail jobDetail;
     
-    private JobScheduleController jobScheduleController;
+    private QuartzJobScheduleController jobScheduleController;
     
     @Before
     public void initMocks() throws NoSuchFieldException {
         MockitoAnnotations.initMocks(this);
-        jobScheduleController = new JobScheduleController(scheduler, jobDetail, "test_job_Trigger");
+        jobScheduleController = new QuartzJobScheduleController(scheduler, jobDetail, "test_job_Trigger");
     }
     
     @Test(expected = JobSystemException.class)
@@ -93,25 +93,30 @@ public final class JobScheduleControllerTest {
         when(scheduler.isShutdown()).thenReturn(true);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         jobScheduleController.pauseJob();
-        verify(scheduler, times(0)).pauseAll();
+        verify(scheduler, times(0)).pauseJob(ArgumentMatchers.<JobKey>any());
     }
     
     @Test(expected = JobSystemException.class)
     public void assertPauseJobFailure() throws NoSuchFieldException, SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).pauseAll();
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        doThrow(SchedulerException.class).when(scheduler).pauseJob(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         try {
             jobScheduleController.pauseJob();
         } finally {
-            verify(scheduler).pauseAll();
+            verify(scheduler).pauseJob(jobKey);
         }
     }
     
     @Test
     public void assertPauseJobSuccess() throws NoSuchFieldException, SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         jobScheduleController.pauseJob();
-        verify(scheduler).pauseAll();
+        verify(scheduler).pauseJob(jobKey);
+        verify(scheduler, times(0)).pauseAll();
     }
     
     @Test
@@ -119,25 +124,30 @@ public final class JobScheduleControllerTest {
         when(scheduler.isShutdown()).thenReturn(true);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         jobScheduleController.resumeJob();
-        verify(scheduler, times(0)).resumeAll();
+        verify(scheduler, times(0)).resumeJob(ArgumentMatchers.<JobKey>any());
     }
     
     @Test(expected = JobSystemException.class)
     public void assertResumeJobFailure() throws NoSuchFieldException, SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).resumeAll();
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        doThrow(SchedulerException.class).when(scheduler).resumeJob(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         try {
             jobScheduleController.resumeJob();
         } finally {
-            verify(scheduler).resumeAll();
+            verify(scheduler).resumeJob(jobKey);
         }
     }
     
     @Test
     public void assertResumeJobSuccess() throws NoSuchFieldException, SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         jobScheduleController.resumeJob();
-        verify(scheduler).resumeAll();
+        verify(scheduler).resumeJob(jobKey);
+        verify(scheduler, times(0)).resumeAll();
     }
     
     @Test
@@ -156,25 +166,35 @@ public final class JobScheduleControllerTest {
     public void assertTriggerJobFailure() throws NoSuchFieldException, SchedulerException {
         JobKey jobKey = new JobKey("test_job");
         when(jobDetail.getKey()).thenReturn(jobKey);
+        when(scheduler.checkExists(jobKey)).thenReturn(true);
         doThrow(SchedulerException.class).when(scheduler).triggerJob(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
         try {
             jobScheduleController.triggerJob();
         } finally {
-            verify(jobDetail).getKey();
             verify(scheduler).triggerJob(jobKey);
         }
     }
     
+    @Test
+    public void assertTriggerJobIfJobDeleted() throws NoSuchFieldException, SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+        ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
+        jobScheduleController.triggerJob();
+        verify(scheduler, times(0)).triggerJob(jobKey);
+    }
+    
     @Test
     public void assertTriggerJobSuccess() throws NoSuchFieldException, SchedulerException {
         JobKey jobKey = new JobKey("test_job");
         when(jobDetail.getKey()).thenReturn(jobKey);
+        when(scheduler.checkExists(jobKey)).thenReturn(true);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         ReflectionUtils.setFieldValue(jobScheduleController, "jobDetail", jobDetail);
         jobScheduleController.triggerJob();
-        verify(jobDetail).getKey();
         verify(scheduler).triggerJob(jobKey);
     }
     
@@ -183,25 +203,31 @@ public final class JobScheduleControllerTest {
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         when(scheduler.isShutdown()).thenReturn(true);
         jobScheduleController.shutdown();
+        verify(scheduler, times(0)).deleteJob(ArgumentMatchers.<JobKey>any());
         verify(scheduler, times(0)).shutdown();
     }
     
     @Test(expected = JobSystemException.class)
     public void assertShutdownFailure() throws NoSuchFieldException, SchedulerException {
-        doThrow(SchedulerException.class).when(scheduler).shutdown();
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        doThrow(SchedulerException.class).when(scheduler).deleteJob(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         try {
             jobScheduleController.shutdown();
         } finally {
-            verify(scheduler).shutdown();
+            verify(scheduler).deleteJob(jobKey);
         }
     }
     
     @Test
     public void assertShutdownSuccess() throws NoSuchFieldException, SchedulerException {
+        JobKey jobKey = new JobKey("test_job");
+        when(jobDetail.getKey()).thenReturn(jobKey);
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
         jobScheduleController.shutdown();
-        verify(scheduler).shutdown();
+        verify(scheduler).deleteJob(jobKey);
+        verify(scheduler, times(0)).shutdown();
     }
     
     @Test
@@ -232,6 +258,13 @@ public final class JobScheduleControllerTest {
         verify(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), ArgumentMatchers.<Trigger>any());
     }
     
+    @Test
+    public void assertRescheduleJobWithFixedSchedule() throws NoSuchFieldException, SchedulerException {
+        ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
+        jobScheduleController.rescheduleJob("@fixedRate 200ms");
+        verify(scheduler, times(0)).getTrigger(TriggerKey.triggerKey("test_job_Trigger"));
+    }
+    
     @Test
     public void assertRescheduleJobWhenTriggerIsNull() throws NoSuchFieldException, SchedulerException {
         ReflectionUtils.setFieldValue(jobScheduleController, "scheduler", scheduler);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import org.junit.Test;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerListener;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SharedSchedulerTest {
+    
+    @Test
+    public void assertRegisterAndUnregister() throws SchedulerException {
+        Scheduler actual = SharedScheduler.getInstance().register("test_shared_job_1", createTriggerListener("test_shared_job_1"));
+        assertThat(SharedScheduler.getInstance().register("test_shared_job_2", createTriggerListener("test_shared_job_2")), sameInstance(actual));
+        assertTrue(SharedScheduler.getInstance().getJobNames().contains("test_shared_job_1"));
+        assertTrue(SharedScheduler.getInstance().getJobNames().contains("test_shared_job_2"));
+        SharedScheduler.getInstance().unregister("test_shared_job_1");
+        assertFalse(SharedScheduler.getInstance().getJobNames().contains("test_shared_job_1"));
+        assertNull(actual.getListenerManager().getTriggerListener("JobTriggerListener-test_shared_job_1"));
+        assertFalse(actual.isShutdown());
+        SharedScheduler.getInstance().unregister("test_shared_job_2");
+        assertFalse(SharedScheduler.getInstance().getJobNames().contains("test_shared_job_2"));
+        assertThat(actual.isShutdown(), is(SharedScheduler.getInstance().getJobNames().isEmpty()));
+    }
+    
+    @Test
+    public void assertUnregisterWhenJobNotRegistered() {
+        SharedScheduler.getInstance().unregister("test_not_registered_job");
+        assertFalse(SharedScheduler.getInstance().getJobNames().contains("test_not_registered_job"));
+    }
+    
+    @Test
+    public void assertExecute() throws InterruptedException {
+        SharedScheduler.getInstance().register("test_shared_job_1", createTriggerListener("test_shared_job_1"));
+        try {
+            final CountDownLatch latch = new CountDownLatch(1);
+            SharedScheduler.getInstance().execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    latch.countDown();
+                }
+            });
+            assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        } finally {
+            SharedScheduler.getInstance().unregister("test_shared_job_1");
+        }
+    }
+    
+    @Test
+    public void assertGetThreadCount() {
+        System.setProperty(SharedScheduler.THREAD_COUNT_PROPERTY_KEY, " 3 ");
+        try {
+            assertThat(SharedScheduler.getThreadCount(), is(3));
+        } finally {
+            System.clearProperty(SharedScheduler.THREAD_COUNT_PROPERTY_KEY);
+        }
+    }
+    
+    @Test
+    public void assertGetThreadCountWhenInvalid() {
+        int expected = SharedScheduler.getThreadCount();
+        System.setProperty(SharedScheduler.THREAD_COUNT_PROPERTY_KEY, "invalid");
+        try {
+            assertThat(SharedScheduler.getThreadCount(), is(expected));
+            System.setProperty(SharedScheduler.THREAD_COUNT_PROPERTY_KEY, "0");
+            assertThat(SharedScheduler.getThreadCount(), is(expected));
+        } finally {
+            System.clearProperty(SharedScheduler.THREAD_COUNT_PROPERTY_KEY);
+        }
+    }
+    
+    private TriggerListener createTriggerListener(final String jobName) {
+        TriggerListener result = mock(TriggerListener.class);
+        when(result.getName()).thenReturn("JobTriggerListener-" + jobName);
+        return result;
+    }
+}
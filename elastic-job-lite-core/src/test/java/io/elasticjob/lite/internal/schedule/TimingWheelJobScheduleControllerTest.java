@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.internal.schedule;
+
+import io.elasticjob.lite.executor.JobExecutorCache;
+import io.elasticjob.lite.executor.JobFacade;
+import io.elasticjob.lite.fixture.TestSimpleJob;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TimingWheelJobScheduleControllerTest {
+    
+    @Mock
+    private TimingWheelScheduler timingWheelScheduler;
+    
+    @Mock
+    private JobFacade jobFacade;
+    
+    @Mock
+    private JobTriggerListener jobTriggerListener;
+    
+    @Mock
+    private HashedWheelTimer.Timeout timeout;
+    
+    private TimingWheelJobScheduleController jobScheduleController;
+    
+    @Before
+    public void setUp() {
+        jobScheduleController = new TimingWheelJobScheduleController(timingWheelScheduler, "test_job", new JobExecutorCache(new TestSimpleJob(), jobFacade), jobTriggerListener);
+    }
+    
+    @Test
+    public void assertNew() {
+        verify(timingWheelScheduler).register("test_job");
+    }
+    
+    @Test
+    public void assertScheduleJob() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        verify(timingWheelScheduler).newTimeout(ArgumentMatchers.<Runnable>any(), anyLong());
+    }
+    
+    @Test
+    public void assertRescheduleJobWithSameExpression() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        jobScheduleController.rescheduleJob("@fixedRate 200ms");
+        verify(timeout, times(0)).cancel();
+        verify(timingWheelScheduler).newTimeout(ArgumentMatchers.<Runnable>any(), anyLong());
+    }
+    
+    @Test
+    public void assertRescheduleJob() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        jobScheduleController.rescheduleJob("0/1 * * * * ?");
+        verify(timeout).cancel();
+        verify(timingWheelScheduler, times(2)).newTimeout(ArgumentMatchers.<Runnable>any(), anyLong());
+    }
+    
+    @Test
+    public void assertPauseAndResumeJob() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        jobScheduleController.pauseJob();
+        assertTrue(jobScheduleController.isPaused());
+        verify(timeout).cancel();
+        jobScheduleController.resumeJob();
+        assertFalse(jobScheduleController.isPaused());
+        verify(timingWheelScheduler, times(2)).newTimeout(ArgumentMatchers.<Runnable>any(), anyLong());
+    }
+    
+    @Test
+    public void assertFireFixedRateJob() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        ArgumentCaptor<Runnable> fireTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(timingWheelScheduler).newTimeout(fireTaskCaptor.capture(), anyLong());
+        fireTaskCaptor.getValue().run();
+        verify(timingWheelScheduler, times(2)).newTimeout(ArgumentMatchers.<Runnable>any(), anyLong());
+        verify(timingWheelScheduler).execute(ArgumentMatchers.<Runnable>any());
+    }
+    
+    @Test
+    public void assertFireFixedDelayJob() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedDelay 200ms");
+        ArgumentCaptor<Runnable> fireTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(timingWheelScheduler).newTimeout(fireTaskCaptor.capture(), anyLong());
+        fireTaskCaptor.getValue().run();
+        verify(timingWheelScheduler).newTimeout(ArgumentMatchers.<Runnable>any(), anyLong());
+        verify(timingWheelScheduler).execute(ArgumentMatchers.<Runnable>any());
+    }
+    
+    @Test
+    public void assertFireAfterPaused() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        ArgumentCaptor<Runnable> fireTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(timingWheelScheduler).newTimeout(fireTaskCaptor.capture(), anyLong());
+        jobScheduleController.pauseJob();
+        fireTaskCaptor.getValue().run();
+        verify(timingWheelScheduler, times(0)).execute(ArgumentMatchers.<Runnable>any());
+    }
+    
+    @Test
+    public void assertTriggerJob() {
+        jobScheduleController.triggerJob();
+        verify(timingWheelScheduler).execute(ArgumentMatchers.<Runnable>any());
+    }
+    
+    @Test
+    public void assertTriggerJobWhenRunning() {
+        jobScheduleController.triggerJob();
+        jobScheduleController.triggerJob();
+        verify(timingWheelScheduler).execute(ArgumentMatchers.<Runnable>any());
+    }
+    
+    @Test
+    public void assertTriggerJobWhenRejected() {
+        doThrow(RejectedExecutionException.class).when(timingWheelScheduler).execute(ArgumentMatchers.<Runnable>any());
+        jobScheduleController.triggerJob();
+        jobScheduleController.triggerJob();
+        verify(timingWheelScheduler, times(2)).execute(ArgumentMatchers.<Runnable>any());
+    }
+    
+    @Test
+    public void assertShutdown() {
+        when(timingWheelScheduler.newTimeout(ArgumentMatchers.<Runnable>any(), anyLong())).thenReturn(timeout);
+        jobScheduleController.scheduleJob("@fixedRate 200ms");
+        jobScheduleController.shutdown();
+        jobScheduleController.shutdown();
+        verify(timeout).cancel();
+        verify(timingWheelScheduler).unregister("test_job");
+        assertFalse(jobScheduleController.isPaused());
+        jobScheduleController.triggerJob();
+        verify(timingWheelScheduler, times(0)).execute(ArgumentMatchers.<Runnable>any());
+    }
+}
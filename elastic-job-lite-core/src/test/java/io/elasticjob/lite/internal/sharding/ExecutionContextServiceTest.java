@@ -68,6 +68,9 @@ public final class ExecutionContextServiceTest {
         ShardingContexts shardingContexts = executionContextService.getJobShardingContext(Collections.<Integer>emptyList());
         assertTrue(shardingContexts.getTaskId().startsWith("test_job@-@@-@READY@-@"));
         assertThat(shardingContexts.getShardingTotalCount(), is(3));
+        assertThat(shardingContexts.getTaskDescriptor().getTaskId(), is(shardingContexts.getTaskId()));
+        assertThat(shardingContexts.getTaskDescriptor().getSlaveId(), is("127.0.0.1"));
+        assertThat(shardingContexts.getTaskDescriptor().getShardingItems(), is("[]"));
     }
     
     @Test
@@ -28,6 +28,7 @@ import io.elasticjob.lite.internal.schedule.JobScheduleController;
 import io.elasticjob.lite.internal.storage.JobNodeStorage;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.unitils.util.ReflectionUtils;
@@ -71,7 +72,7 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(false).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage, times(0)).fillEphemeralJobNode((String) any(), any());
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNodes(ArgumentMatchers.<String>anyCollection(), any());
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -80,9 +81,7 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(true).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/0/running", "");
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/1/running", "");
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/2/running", "");
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"), "");
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -92,8 +91,8 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(false).build());
         executionService.registerJobCompleted(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.<Integer, String>emptyMap()));
-        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted((String) any());
-        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded((String) any());
+        verify(jobNodeStorage, times(0)).removeJobNodesIfExisted(ArgumentMatchers.<String>anyCollection());
+        verify(jobNodeStorage, times(0)).createJobNodesIfNeeded(ArgumentMatchers.<String>anyCollection());
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -103,9 +102,7 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(true).build());
         executionService.registerJobCompleted(getShardingContext());
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"));
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -115,16 +112,13 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(false).build());
         executionService.clearAllRunningInfo();
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"));
     }
     
     @Test
     public void assertClearRunningInfo() {
         executionService.clearRunningInfo(Arrays.asList(0, 1));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
     }
     
     @Test
@@ -138,8 +132,8 @@ public final class ExecutionServiceTest {
     public void assertHasRunningItemsWithMonitorExecution() {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(true).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/1/running")).thenReturn(true);
         assertTrue(executionService.hasRunningItems(Arrays.asList(0, 1, 2)));
     }
     
@@ -147,9 +141,9 @@ public final class ExecutionServiceTest {
     public void assertNotHaveRunningItems() {
         when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(
                 new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).monitorExecution(true).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/1/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/2/running")).thenReturn(false);
         assertFalse(executionService.hasRunningItems(Arrays.asList(0, 1, 2)));
     }
     
@@ -158,8 +152,8 @@ public final class ExecutionServiceTest {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).build());
         when(jobNodeStorage.getJobNodeChildrenKeys("sharding")).thenReturn(Arrays.asList("0", "1", "2"));
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/1/running")).thenReturn(true);
         assertTrue(executionService.hasRunningItems());
     }
     
@@ -167,9 +161,9 @@ public final class ExecutionServiceTest {
     public void assertNotHaveRunningItemsForAll() {
         when(configService.load(true)).thenReturn(
                 LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).build());
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/0/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/1/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/2/running")).thenReturn(false);
         assertFalse(executionService.hasRunningItems());
     }
     
@@ -195,9 +189,7 @@ public final class ExecutionServiceTest {
     @Test
     public void assertSetMisfire() {
         executionService.setMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/0/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/1/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/2/misfire");
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
@@ -211,16 +203,14 @@ public final class ExecutionServiceTest {
     @Test
     public void assertClearMisfire() {
         executionService.clearMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/misfire");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
     public void assertGetDisabledItems() {
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/disabled")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/disabled")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/disabled")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/0/disabled")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/1/disabled")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExistedInCache("sharding/2/disabled")).thenReturn(false);
         assertThat(executionService.getDisabledItems(Arrays.asList(0, 1, 2)), is(Arrays.asList(0, 1)));
     }
     
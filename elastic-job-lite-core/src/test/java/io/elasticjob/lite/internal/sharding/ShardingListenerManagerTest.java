@@ -18,7 +18,13 @@
 package io.elasticjob.lite.internal.sharding;
 
 import io.elasticjob.lite.api.strategy.JobInstance;
+import io.elasticjob.lite.config.JobCoreConfiguration;
+import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.config.dataflow.DataflowJobConfiguration;
 import io.elasticjob.lite.fixture.LiteJsonConstants;
+import io.elasticjob.lite.fixture.TestDataflowJob;
+import io.elasticjob.lite.internal.config.ConfigurationService;
+import io.elasticjob.lite.internal.config.LiteJobConfigurationGsonFactory;
 import io.elasticjob.lite.internal.listener.AbstractJobListener;
 import io.elasticjob.lite.internal.schedule.JobRegistry;
 import io.elasticjob.lite.internal.schedule.JobScheduleController;
@@ -32,8 +38,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.unitils.util.ReflectionUtils;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class ShardingListenerManagerTest {
     
@@ -49,6 +61,9 @@ public final class ShardingListenerManagerTest {
     @Mock
     private ShardingService shardingService;
     
+    @Mock
+    private ConfigurationService configService;
+    
     private ShardingListenerManager shardingListenerManager;
     
     @Before
@@ -58,12 +73,16 @@ public final class ShardingListenerManagerTest {
         MockitoAnnotations.initMocks(this);
         ReflectionUtils.setFieldValue(shardingListenerManager, shardingListenerManager.getClass().getSuperclass().getDeclaredField("jobNodeStorage"), jobNodeStorage);
         ReflectionUtils.setFieldValue(shardingListenerManager, "shardingService", shardingService);
+        ReflectionUtils.setFieldValue(shardingListenerManager, "configService", configService);
     }
     
     @Test
     public void assertStart() {
+        when(configService.load(true)).thenReturn(LiteJobConfigurationGsonFactory.fromJson(LiteJsonConstants.getJobJson()));
         shardingListenerManager.start();
-        verify(jobNodeStorage, times(2)).addDataListener(ArgumentMatchers.<AbstractJobListener>any());
+        verify(jobNodeStorage, times(5)).addDataListener(ArgumentMatchers.<AbstractJobListener>any());
+        assertTrue(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+        JobRegistry.getInstance().removeEligibleForJobRunning("test_job");
     }
     
     @Test
@@ -127,4 +146,102 @@ public final class ShardingListenerManagerTest {
         verify(shardingService).setReshardingFlag();
         JobRegistry.getInstance().shutdown("test_job");
     }
+    
+    @Test
+    public void assertShardingInstanceChangedJobListenerWhenIsNotInstancePath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        shardingListenerManager.new ShardingInstanceChangedJobListener().dataChanged("/test_job/sharding/0/running", Type.NODE_ADDED, "");
+        assertNull(JobRegistry.getInstance().getShardingInstanceId("test_job", 0));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertShardingInstanceChangedJobListenerWhenJobInstanceIsShutdown() {
+        shardingListenerManager.new ShardingInstanceChangedJobListener().dataChanged("/test_job/sharding/0/instance", Type.NODE_ADDED, "127.0.0.1@-@0");
+        assertNull(JobRegistry.getInstance().getShardingInstanceId("test_job", 0));
+    }
+    
+    @Test
+    public void assertShardingInstanceChangedJobListenerWhenInstanceAddedAndRemoved() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        shardingListenerManager.new ShardingInstanceChangedJobListener().dataChanged("/test_job/sharding/0/instance", Type.NODE_ADDED, "127.0.0.1@-@0");
+        assertThat(JobRegistry.getInstance().getShardingInstanceId("test_job", 0), is("127.0.0.1@-@0"));
+        shardingListenerManager.new ShardingInstanceChangedJobListener().dataChanged("/test_job/sharding/0/instance", Type.NODE_REMOVED, "127.0.0.1@-@0");
+        assertNull(JobRegistry.getInstance().getShardingInstanceId("test_job", 0));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertShardingStateChangedJobListenerWhenIsShardingFlagPath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        long version = JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion();
+        shardingListenerManager.new ShardingStateChangedJobListener().dataChanged("/test_job/leader/sharding/processing", Type.NODE_REMOVED, "");
+        assertThat(JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion(), is(version + 1));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertShardingStateChangedJobListenerWhenIsRunningItemPath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        long version = JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion();
+        shardingListenerManager.new ShardingStateChangedJobListener().dataChanged("/test_job/sharding/0/running", Type.NODE_REMOVED, "");
+        assertThat(JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion(), is(version + 1));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertShardingStateChangedJobListenerWhenIsOtherPath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        long version = JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion();
+        shardingListenerManager.new ShardingStateChangedJobListener().dataChanged("/test_job/sharding/0/instance", Type.NODE_REMOVED, "");
+        assertThat(JobRegistry.getInstance().getShardingStateChangeSignal("test_job").getVersion(), is(version));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertEligibleForJobRunningChangedJobListenerWhenIsOtherPath() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        shardingListenerManager.new EligibleForJobRunningChangedJobListener().dataChanged("/test_job/leader/sharding/processing", Type.NODE_ADDED, "");
+        assertNull(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertEligibleForJobRunningChangedJobListenerWhenJobIsShutdown() {
+        shardingListenerManager.new EligibleForJobRunningChangedJobListener().dataChanged("/test_job/leader/sharding/necessary", Type.NODE_ADDED, "");
+        assertNull(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+    }
+    
+    @Test
+    public void assertEligibleForJobRunningChangedJobListenerWhenNeedSharding() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        when(configService.load(true)).thenReturn(LiteJobConfigurationGsonFactory.fromJson(LiteJsonConstants.getJobJson()));
+        when(shardingService.isNeedShardingInCache()).thenReturn(true);
+        shardingListenerManager.new EligibleForJobRunningChangedJobListener().dataChanged("/test_job/leader/sharding/necessary", Type.NODE_ADDED, "");
+        assertFalse(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+        when(shardingService.isNeedShardingInCache()).thenReturn(false);
+        shardingListenerManager.new EligibleForJobRunningChangedJobListener().dataChanged("/test_job/leader/sharding/necessary", Type.NODE_REMOVED, "");
+        assertTrue(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+        assertNull(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+    }
+    
+    @Test
+    public void assertEligibleForJobRunningChangedJobListenerWhenIsNotStreamingProcess() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        when(configService.load(true)).thenReturn(LiteJobConfiguration.newBuilder(new DataflowJobConfiguration(
+                JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestDataflowJob.class.getCanonicalName(), false)).build());
+        shardingListenerManager.new EligibleForJobRunningChangedJobListener().dataChanged("/test_job/config", Type.NODE_UPDATED, "");
+        assertFalse(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    public void assertEligibleForJobRunningChangedJobListenerWhenConfigIsRemoved() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        JobRegistry.getInstance().setEligibleForJobRunning("test_job", true);
+        shardingListenerManager.new EligibleForJobRunningChangedJobListener().dataChanged("/test_job/config", Type.NODE_REMOVED, "");
+        assertNull(JobRegistry.getInstance().getEligibleForJobRunning("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
 }
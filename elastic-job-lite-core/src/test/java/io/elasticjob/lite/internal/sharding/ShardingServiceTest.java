@@ -18,6 +18,7 @@
 package io.elasticjob.lite.internal.sharding;
 
 import io.elasticjob.lite.api.strategy.JobInstance;
+import io.elasticjob.lite.api.strategy.impl.StickyJobShardingStrategy;
 import io.elasticjob.lite.config.JobCoreConfiguration;
 import io.elasticjob.lite.config.LiteJobConfiguration;
 import io.elasticjob.lite.config.simple.SimpleJobConfiguration;
@@ -36,6 +37,9 @@ import org.apache.curator.framework.api.transaction.CuratorTransactionBridge;
 import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
 import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
 import org.apache.curator.framework.api.transaction.TransactionDeleteBuilder;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -52,6 +56,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -174,6 +179,57 @@ public final class ShardingServiceTest {
         verify(jobNodeStorage).fillEphemeralJobNode("leader/sharding/processing", "");
         verify(jobNodeStorage).executeInTransaction(any(TransactionExecutionCallback.class));
     }
+    
+    @Test
+    public void assertShardingIncrementally() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName()))
+                .jobShardingStrategyClass(StickyJobShardingStrategy.class.getCanonicalName()).build());
+        when(jobNodeStorage.getJobNodeCachedData("sharding/0/instance")).thenReturn(createChildData("/test_job/sharding/0/instance", "host0@-@0", 1));
+        when(jobNodeStorage.getJobNodeCachedData("sharding/1/instance")).thenReturn(createChildData("/test_job/sharding/1/instance", "host0@-@0", 2));
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1"));
+        when(jobNodeStorage.executeInTransactionIfVersionMatched(any(TransactionExecutionCallback.class))).thenReturn(true);
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("sharding/0/instance");
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("sharding/1/instance");
+        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded("sharding/0");
+        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded("sharding/1");
+        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/2");
+        verify(jobNodeStorage).fillEphemeralJobNode("leader/sharding/processing", "");
+        verify(jobNodeStorage, times(0)).getJobNodeDataDirectly("sharding/0/instance");
+        verify(jobNodeStorage).executeInTransactionIfVersionMatched(any(TransactionExecutionCallback.class));
+        verify(jobNodeStorage, times(0)).executeInTransaction(any(TransactionExecutionCallback.class));
+    }
+    
+    @Test
+    public void assertShardingIncrementallyWithStaleCache() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(LiteJobConfiguration.newBuilder(
+                new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName()))
+                .jobShardingStrategyClass(StickyJobShardingStrategy.class.getCanonicalName()).build());
+        when(jobNodeStorage.getJobNodeCachedData("sharding/0/instance")).thenReturn(createChildData("/test_job/sharding/0/instance", "host0@-@0", 1));
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/0/instance")).thenReturn("host0@-@0");
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/1/instance")).thenReturn("host0@-@0");
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1"));
+        when(jobNodeStorage.executeInTransactionIfVersionMatched(any(TransactionExecutionCallback.class))).thenReturn(false);
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage).getJobNodeDataDirectly("sharding/0/instance");
+        verify(jobNodeStorage).getJobNodeDataDirectly("sharding/1/instance");
+        verify(jobNodeStorage).getJobNodeDataDirectly("sharding/2/instance");
+        verify(jobNodeStorage).executeInTransactionIfVersionMatched(any(TransactionExecutionCallback.class));
+        verify(jobNodeStorage).executeInTransaction(any(TransactionExecutionCallback.class));
+    }
+    
+    private ChildData createChildData(final String path, final String data, final int version) {
+        Stat stat = new Stat();
+        stat.setVersion(version);
+        return new ChildData(path, stat, data.getBytes());
+    }
         
     @Test
     public void assertGetShardingItemsWithNotAvailableServer() {
@@ -193,6 +249,21 @@ public final class ShardingServiceTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    public void assertGetShardingItemsFromLocalShardingInstances() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController, regCenter);
+        JobRegistry.getInstance().setShardingInstanceId("test_job", 0, "127.0.0.1@-@0");
+        JobRegistry.getInstance().setShardingInstanceId("test_job", 1, "127.0.0.1@-@1");
+        when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
+        when(configService.load(true)).thenReturn(
+                LiteJobConfiguration.newBuilder(new SimpleJobConfiguration(JobCoreConfiguration.newBuilder("test_job", "0/1 * * * * ?", 3).build(), TestSimpleJob.class.getCanonicalName())).build());
+        when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
+        verify(jobNodeStorage, times(0)).getJobNodeData("sharding/0/instance");
+        verify(jobNodeStorage, times(0)).getJobNodeData("sharding/1/instance");
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     public void assertGetLocalShardingItemsWithInstanceShutdown() {
         assertThat(shardingService.getLocalShardingItems(), is(Collections.<Integer>emptyList()));
@@ -269,4 +340,66 @@ public final class ShardingServiceTest {
         verify(transactionDeleteBuilder).forPath("/test_job/leader/sharding/processing");
         verify(curatorTransactionBridge, times(5)).and();
     }
+    
+    @Test
+    public void assertPersistChangedShardingInfoTransactionExecutionCallback() throws Exception {
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class);
+        TransactionCreateBuilder transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        TransactionSetDataBuilder transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        TransactionDeleteBuilder transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        CuratorTransactionBridge curatorTransactionBridge = mock(CuratorTransactionBridge.class);
+        when(curatorTransactionFinal.create()).thenReturn(transactionCreateBuilder);
+        when(curatorTransactionFinal.setData()).thenReturn(transactionSetDataBuilder);
+        when(curatorTransactionFinal.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionCreateBuilder.forPath("/test_job/sharding/3/instance", "host1@-@0".getBytes())).thenReturn(curatorTransactionBridge);
+        when(transactionSetDataBuilder.forPath("/test_job/sharding/1/instance", "host0@-@0".getBytes())).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/sharding/4/instance")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/leader/sharding/necessary")).thenReturn(curatorTransactionBridge);
+        when(transactionDeleteBuilder.forPath("/test_job/leader/sharding/processing")).thenReturn(curatorTransactionBridge);
+        when(curatorTransactionBridge.and()).thenReturn(curatorTransactionFinal);
+        Map<JobInstance, List<Integer>> shardingResult = new HashMap<>();
+        shardingResult.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1));
+        shardingResult.put(new JobInstance("host1@-@0"), Arrays.asList(2, 3));
+        Map<Integer, JobInstance> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, new JobInstance("host0@-@0"));
+        currentShardingResult.put(1, new JobInstance("host1@-@0"));
+        currentShardingResult.put(2, new JobInstance("host1@-@0"));
+        currentShardingResult.put(4, new JobInstance("host0@-@0"));
+        ShardingService.PersistChangedShardingInfoTransactionExecutionCallback actual = shardingService.new PersistChangedShardingInfoTransactionExecutionCallback(
+                shardingResult, currentShardingResult, Collections.<Integer, Integer>emptyMap());
+        actual.execute(curatorTransactionFinal);
+        verify(transactionCreateBuilder).forPath("/test_job/sharding/3/instance", "host1@-@0".getBytes());
+        verify(transactionSetDataBuilder).forPath("/test_job/sharding/1/instance", "host0@-@0".getBytes());
+        verify(transactionDeleteBuilder).forPath("/test_job/sharding/4/instance");
+        verify(transactionDeleteBuilder).forPath("/test_job/leader/sharding/necessary");
+        verify(transactionDeleteBuilder).forPath("/test_job/leader/sharding/processing");
+        verify(curatorTransactionFinal, times(0)).check();
+        verify(curatorTransactionBridge, times(5)).and();
+    }
+    
+    @Test
+    public void assertPersistChangedShardingInfoTransactionExecutionCallbackWithVersions() throws Exception {
+        CuratorTransactionFinal curatorTransactionFinal = mock(CuratorTransactionFinal.class, RETURNS_DEEP_STUBS);
+        Map<JobInstance, List<Integer>> shardingResult = new HashMap<>();
+        shardingResult.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1));
+        shardingResult.put(new JobInstance("host1@-@0"), Arrays.asList(2, 3));
+        Map<Integer, JobInstance> currentShardingResult = new HashMap<>();
+        currentShardingResult.put(0, new JobInstance("host0@-@0"));
+        currentShardingResult.put(1, new JobInstance("host1@-@0"));
+        currentShardingResult.put(2, new JobInstance("host1@-@0"));
+        currentShardingResult.put(4, new JobInstance("host0@-@0"));
+        Map<Integer, Integer> currentVersions = new HashMap<>();
+        currentVersions.put(0, 3);
+        currentVersions.put(1, 5);
+        currentVersions.put(2, 7);
+        currentVersions.put(4, 9);
+        ShardingService.PersistChangedShardingInfoTransactionExecutionCallback actual = shardingService.new PersistChangedShardingInfoTransactionExecutionCallback(
+                shardingResult, currentShardingResult, currentVersions);
+        actual.execute(curatorTransactionFinal);
+        verify(curatorTransactionFinal.check().withVersion(3)).forPath("/test_job/sharding/0/instance");
+        verify(curatorTransactionFinal.check().withVersion(7)).forPath("/test_job/sharding/2/instance");
+        verify(curatorTransactionFinal.setData().withVersion(5)).forPath("/test_job/sharding/1/instance", "host0@-@0".getBytes());
+        verify(curatorTransactionFinal.create()).forPath("/test_job/sharding/3/instance", "host1@-@0".getBytes());
+        verify(curatorTransactionFinal.delete().withVersion(9)).forPath("/test_job/sharding/4/instance");
+    }
 }
@@ -17,6 +17,8 @@
 
 package io.elasticjob.lite.internal.storage;
 
+import com.google.common.base.Charsets;
+import io.elasticjob.lite.metrics.JobMetricsRegistry;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.api.transaction.CuratorTransaction;
@@ -25,9 +27,11 @@ import org.apache.curator.framework.api.transaction.CuratorTransactionFinal;
 import org.apache.curator.framework.api.transaction.TransactionCheckBuilder;
 import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
 import org.apache.curator.framework.listen.Listenable;
+import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.TreeCache;
 import org.apache.curator.framework.recipes.cache.TreeCacheListener;
 import org.apache.curator.framework.state.ConnectionStateListener;
+import org.apache.zookeeper.KeeperException;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -37,8 +41,11 @@ import org.unitils.util.ReflectionUtils;
 import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -64,6 +71,13 @@ public final class JobNodeStorageTest {
         verify(regCenter).isExisted("/test_job/config");
     }
     
+    @Test
+    public void assertIsJobNodeExistedWithoutJobMetrics() {
+        JobMetricsRegistry.getInstance().remove("test_job");
+        jobNodeStorage.isJobNodeExisted("config");
+        assertFalse(JobMetricsRegistry.getInstance().findJobMetrics("test_job").isPresent());
+    }
+    
     @Test
     public void assertGetJobNodeData() {
         when(regCenter.get("/test_job/config/cron")).thenReturn("0/1 * * * * ?");
@@ -149,6 +163,22 @@ public final class JobNodeStorageTest {
         verify(regCenter).update("/test_job/config/cron", "0/1 * * * * ?");
     }
     
+    @Test
+    public void assertUpdateJobNodeIfVersionMatched() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        assertTrue(jobNodeStorage.updateJobNodeIfVersionMatched("instances/host0@-@0", "{}", 3));
+        verify(client.setData().withVersion(3)).forPath("/test_job/instances/host0@-@0", "{}".getBytes(Charsets.UTF_8));
+    }
+    
+    @Test
+    public void assertUpdateJobNodeIfVersionNotMatched() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.setData().withVersion(3).forPath("/test_job/instances/host0@-@0", "{}".getBytes(Charsets.UTF_8))).thenThrow(new KeeperException.BadVersionException());
+        assertFalse(jobNodeStorage.updateJobNodeIfVersionMatched("instances/host0@-@0", "{}", 3));
+    }
+    
     @Test
     public void assertReplaceJobNode() {
         jobNodeStorage.replaceJobNode("config/cron", "0/1 * * * * ?");
@@ -221,6 +251,94 @@ public final class JobNodeStorageTest {
         verify(curatorTransactionFinal, times(0)).commit();
     }
     
+    @Test
+    public void assertExecuteInTransactionIfVersionMatched() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        assertTrue(jobNodeStorage.executeInTransactionIfVersionMatched(new TransactionExecutionCallback() {
+            
+            @Override
+            public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+                curatorTransactionFinal.setData().withVersion(1).forPath("/test_job/sharding/0/instance", "host0@-@0".getBytes()).and();
+            }
+        }));
+        verify(client.inTransaction().check().forPath("/").and()).commit();
+    }
+    
+    @Test
+    public void assertExecuteInTransactionIfVersionMatchedWithBadVersion() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction().check().forPath("/").and().commit()).thenThrow(new KeeperException.BadVersionException());
+        assertFalse(jobNodeStorage.executeInTransactionIfVersionMatched(new TransactionExecutionCallback() {
+            
+            @Override
+            public void execute(final CuratorTransactionFinal curatorTransactionFinal) throws Exception {
+                curatorTransactionFinal.setData().withVersion(1).forPath("/test_job/sharding/0/instance", "host0@-@0".getBytes()).and();
+            }
+        }));
+    }
+    
+    @Test
+    public void assertCreateJobNodesIfNeededInBatch() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(client.inTransaction().check().forPath("/").and()).commit();
+        verify(regCenter, times(0)).persist("/test_job/sharding/0/misfire", "");
+    }
+    
+    @Test
+    public void assertCreateJobNodesIfNeededWithFallback() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction().check().forPath("/").and().commit()).thenThrow(new KeeperException.NodeExistsException());
+        when(regCenter.isExisted("/test_job")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/0/misfire")).thenReturn(true);
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(regCenter, times(0)).persist("/test_job/sharding/0/misfire", "");
+        verify(regCenter).persist("/test_job/sharding/1/misfire", "");
+    }
+    
+    @Test
+    public void assertRemoveJobNodesIfExistedInBatch() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(client.inTransaction().check().forPath("/").and()).commit();
+        verify(regCenter, times(0)).remove("/test_job/sharding/0/running");
+    }
+    
+    @Test
+    public void assertRemoveJobNodesIfExistedWithFallback() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction().check().forPath("/").and().commit()).thenThrow(new KeeperException.NoNodeException());
+        when(regCenter.isExisted("/test_job/sharding/1/running")).thenReturn(true);
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(regCenter, times(0)).remove("/test_job/sharding/0/running");
+        verify(regCenter).remove("/test_job/sharding/1/running");
+    }
+    
+    @Test
+    public void assertFillEphemeralJobNodesInBatch() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        jobNodeStorage.fillEphemeralJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running"), "");
+        verify(client.inTransaction().check().forPath("/").and()).commit();
+        verify(regCenter, times(0)).persistEphemeral("/test_job/sharding/0/running", "");
+    }
+    
+    @Test
+    public void assertFillEphemeralJobNodesWithFallback() throws Exception {
+        CuratorFramework client = mock(CuratorFramework.class, RETURNS_DEEP_STUBS);
+        when(regCenter.getRawClient()).thenReturn(client);
+        when(client.inTransaction().check().forPath("/").and().commit()).thenThrow(new KeeperException.NodeExistsException());
+        jobNodeStorage.fillEphemeralJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running"), "");
+        verify(regCenter).persistEphemeral("/test_job/sharding/0/running", "");
+        verify(regCenter).persistEphemeral("/test_job/sharding/1/running", "");
+    }
+    
     @Test
     public void assertAddConnectionStateListener() {
         CuratorFramework client = mock(CuratorFramework.class);
@@ -235,14 +353,23 @@ public final class JobNodeStorageTest {
     
     @Test
     public void assertAddDataListener() {
-        TreeCache treeCache = mock(TreeCache.class);
-        @SuppressWarnings("unchecked")
-        Listenable<TreeCacheListener> listeners = mock(Listenable.class);
         TreeCacheListener listener = mock(TreeCacheListener.class);
-        when(treeCache.getListenable()).thenReturn(listeners);
-        when(regCenter.getRawCache("/test_job")).thenReturn(treeCache);
         jobNodeStorage.addDataListener(listener);
-        verify(listeners).addListener(listener);
+        verify(regCenter).addRawCacheListener("/test_job", listener);
+    }
+    
+    @Test
+    public void assertGetJobNodeCachedData() {
+        TreeCache treeCache = mock(TreeCache.class);
+        ChildData childData = new ChildData("/test_job/config", null, new byte[0]);
+        when(treeCache.getCurrentData("/test_job/config")).thenReturn(childData);
+        when(regCenter.getRawCache("/test_job")).thenReturn(treeCache);
+        assertThat(jobNodeStorage.getJobNodeCachedData("config"), is(childData));
+    }
+    
+    @Test
+    public void assertGetJobNodeCachedDataWithoutCache() {
+        assertNull(jobNodeStorage.getJobNodeCachedData("config"));
     }
     
     @Test
@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JobMetricsRegistryTest {
+    
+    @After
+    public void tearDown() {
+        JobMetricsRegistry.getInstance().remove("test_job");
+    }
+    
+    @Test
+    public void assertGetJobMetrics() {
+        JobMetrics actual = JobMetricsRegistry.getInstance().getJobMetrics("test_job");
+        assertThat(actual.getJobName(), is("test_job"));
+        assertThat(JobMetricsRegistry.getInstance().getJobMetrics("test_job"), sameInstance(actual));
+        assertTrue(JobMetricsRegistry.getInstance().getAllJobMetrics().contains(actual));
+    }
+    
+    @Test
+    public void assertFindJobMetrics() {
+        JobMetrics jobMetrics = JobMetricsRegistry.getInstance().getJobMetrics("test_job");
+        assertThat(JobMetricsRegistry.getInstance().findJobMetrics("test_job").get(), sameInstance(jobMetrics));
+    }
+    
+    @Test
+    public void assertFindJobMetricsWhenAbsent() {
+        assertFalse(JobMetricsRegistry.getInstance().findJobMetrics("test_job").isPresent());
+        assertFalse(JobMetricsRegistry.getInstance().findJobMetrics("test_job").isPresent());
+    }
+    
+    @Test
+    public void assertRemove() {
+        JobMetrics jobMetrics = JobMetricsRegistry.getInstance().getJobMetrics("test_job");
+        JobMetricsRegistry.getInstance().remove("test_job");
+        assertThat(JobMetricsRegistry.getInstance().getJobMetrics("test_job"), not(sameInstance(jobMetrics)));
+    }
+    
+    @Test
+    public void assertAddExporter() {
+        JobMetricsRegistry.getInstance().getJobMetrics("test_job");
+        JobMetricsExporter exporter = mock(JobMetricsExporter.class);
+        when(exporter.getExportIntervalMilliseconds()).thenReturn(10L);
+        JobMetricsRegistry.getInstance().addExporter(exporter);
+        assertTrue(JobMetricsRegistry.getInstance().getExporters().contains(exporter));
+        verify(exporter, timeout(5000L).atLeastOnce()).export(ArgumentMatchers.<JobMetrics>anyCollection());
+    }
+    
+    @Test
+    public void assertAddExporterWithoutExportInterval() throws InterruptedException {
+        JobMetricsExporter exporter = mock(JobMetricsExporter.class);
+        JobMetricsRegistry.getInstance().addExporter(exporter);
+        assertTrue(JobMetricsRegistry.getInstance().getExporters().contains(exporter));
+        Thread.sleep(50L);
+        verify(exporter, never()).export(ArgumentMatchers.<JobMetrics>anyCollection());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import io.elasticjob.lite.event.JobEventSink;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JobMetricsTest {
+    
+    private final JobMetrics jobMetrics = new JobMetrics("test_job");
+    
+    @Test
+    public void assertRecordCounters() {
+        jobMetrics.recordFire();
+        jobMetrics.recordFire();
+        jobMetrics.recordMisfire();
+        jobMetrics.recordFailover();
+        jobMetrics.recordItemFailure();
+        jobMetrics.recordRegistryCenterRequest();
+        jobMetrics.recordRegistryCenterRequest();
+        jobMetrics.recordRegistryCenterRequest();
+        assertThat(jobMetrics.getJobName(), is("test_job"));
+        assertThat(jobMetrics.getFireCount(), is(2L));
+        assertThat(jobMetrics.getMisfireCount(), is(1L));
+        assertThat(jobMetrics.getFailoverCount(), is(1L));
+        assertThat(jobMetrics.getItemFailureCount(), is(1L));
+        assertThat(jobMetrics.getRegistryCenterRequestCount(), is(3L));
+    }
+    
+    @Test
+    public void assertRecordLatencies() {
+        jobMetrics.recordCoordinationTime(TimeUnit.MICROSECONDS.toNanos(10L));
+        jobMetrics.recordExecutionTime(TimeUnit.MICROSECONDS.toNanos(20L));
+        jobMetrics.recordItemExecutionTime(1, TimeUnit.MICROSECONDS.toNanos(30L));
+        jobMetrics.recordItemExecutionTime(0, TimeUnit.MICROSECONDS.toNanos(40L));
+        jobMetrics.recordItemExecutionTime(1, TimeUnit.MICROSECONDS.toNanos(50L));
+        assertThat(jobMetrics.getCoordinationLatency().getMax(), is(10L));
+        assertThat(jobMetrics.getExecutionLatency().getMax(), is(20L));
+        Map<Integer, LatencyHistogram> actual = jobMetrics.getItemExecutionLatencies();
+        assertThat(actual.keySet().toString(), is("[0, 1]"));
+        assertThat(actual.get(0).getCount(), is(1L));
+        assertThat(actual.get(1).getCount(), is(2L));
+        assertThat(actual.get(1).getMax(), is(50L));
+    }
+    
+    @Test
+    public void assertGetRollingItemExecutionLatency() {
+        assertThat(jobMetrics.getRollingItemExecutionLatency(), is(0L));
+        jobMetrics.recordItemExecutionTime(0, TimeUnit.MICROSECONDS.toNanos(800L));
+        assertThat(jobMetrics.getRollingItemExecutionLatency(), is(800L));
+        jobMetrics.recordItemExecutionTime(1, TimeUnit.MICROSECONDS.toNanos(1600L));
+        assertThat(jobMetrics.getRollingItemExecutionLatency(), is(900L));
+    }
+    
+    @Test
+    public void assertGetEventQueueDepthWithoutJobEventSink() {
+        assertThat(jobMetrics.getEventQueueDepth(), is(0));
+    }
+    
+    @Test
+    public void assertGetEventQueueDepth() {
+        JobEventSink jobEventSink = mock(JobEventSink.class);
+        when(jobEventSink.getQueueDepth()).thenReturn(5);
+        jobMetrics.setJobEventSink(jobEventSink);
+        assertThat(jobMetrics.getEventQueueDepth(), is(5));
+    }
+    
+    @Test
+    public void assertGetEventDispatchMetricsWithoutJobEventSink() {
+        assertThat(jobMetrics.getEventDroppedCount(), is(0L));
+        assertThat(jobMetrics.getEventDispatchedCount(), is(0L));
+        assertThat(jobMetrics.getMeanEventDispatchLatency(), is(0L));
+        assertThat(jobMetrics.getMaxEventDispatchLatency(), is(0L));
+    }
+    
+    @Test
+    public void assertGetEventDispatchMetrics() {
+        JobEventSink jobEventSink = mock(JobEventSink.class);
+        when(jobEventSink.getDroppedCount()).thenReturn(3L);
+        when(jobEventSink.getDispatchedCount()).thenReturn(4L);
+        when(jobEventSink.getTotalDispatchLatencyNanos()).thenReturn(TimeUnit.MICROSECONDS.toNanos(200L));
+        when(jobEventSink.getMaxDispatchLatencyNanos()).thenReturn(TimeUnit.MICROSECONDS.toNanos(80L));
+        jobMetrics.setJobEventSink(jobEventSink);
+        assertThat(jobMetrics.getEventDroppedCount(), is(3L));
+        assertThat(jobMetrics.getEventDispatchedCount(), is(4L));
+        assertThat(jobMetrics.getMeanEventDispatchLatency(), is(50L));
+        assertThat(jobMetrics.getMaxEventDispatchLatency(), is(80L));
+    }
+}
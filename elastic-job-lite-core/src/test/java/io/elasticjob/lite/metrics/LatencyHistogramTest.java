@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertGetBucketIndex() {
+        assertThat(LatencyHistogram.getBucketIndex(0L), is(0));
+        assertThat(LatencyHistogram.getBucketIndex(63L), is(63));
+        assertThat(LatencyHistogram.getBucketIndex(64L), is(64));
+        assertThat(LatencyHistogram.getBucketIndex(65L), is(64));
+        assertThat(LatencyHistogram.getBucketIndex(127L), is(95));
+        assertThat(LatencyHistogram.getBucketIndex(128L), is(96));
+    }
+    
+    @Test
+    public void assertGetBucketUpperBound() {
+        assertThat(LatencyHistogram.getBucketUpperBound(63), is(63L));
+        assertThat(LatencyHistogram.getBucketUpperBound(64), is(65L));
+        assertThat(LatencyHistogram.getBucketUpperBound(95), is(127L));
+        assertThat(LatencyHistogram.getBucketUpperBound(96), is(131L));
+        assertThat(LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(LatencyHistogram.MAX_TRACKABLE_VALUE)), is(LatencyHistogram.MAX_TRACKABLE_VALUE));
+    }
+    
+    @Test
+    public void assertGetValuesWithoutRecord() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        assertThat(latencyHistogram.getCount(), is(0L));
+        assertThat(latencyHistogram.getMax(), is(0L));
+        assertThat(latencyHistogram.getMean(), is(0D));
+        assertThat(latencyHistogram.getValueAtPercentile(99D), is(0L));
+    }
+    
+    @Test
+    public void assertGetValues() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            latencyHistogram.record(i);
+        }
+        assertThat(latencyHistogram.getCount(), is(100L));
+        assertThat(latencyHistogram.getMax(), is(100L));
+        assertThat(latencyHistogram.getMean(), is(50.5D));
+        assertThat(latencyHistogram.getValueAtPercentile(0D), is(1L));
+        assertThat(latencyHistogram.getValueAtPercentile(50D), is(50L));
+        assertThat(latencyHistogram.getValueAtPercentile(99D), is(99L));
+        assertThat(latencyHistogram.getValueAtPercentile(100D), is(100L));
+    }
+    
+    @Test
+    public void assertRecordOutOfRangeValue() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        latencyHistogram.record(-1L);
+        latencyHistogram.record(Long.MAX_VALUE);
+        assertThat(latencyHistogram.getCount(), is(2L));
+        assertThat(latencyHistogram.getMax(), is(LatencyHistogram.MAX_TRACKABLE_VALUE));
+        assertThat(latencyHistogram.getValueAtPercentile(50D), is(0L));
+        assertThat(latencyHistogram.getValueAtPercentile(100D), is(LatencyHistogram.MAX_TRACKABLE_VALUE));
+    }
+    
+    @Test
+    public void assertRecordConcurrently() throws InterruptedException {
+        final LatencyHistogram latencyHistogram = new LatencyHistogram();
+        final CountDownLatch latch = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            new Thread() {
+                
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        latencyHistogram.record(j);
+                    }
+                    latch.countDown();
+                }
+            }.start();
+        }
+        latch.await();
+        assertThat(latencyHistogram.getCount(), is(4000L));
+        assertThat(latencyHistogram.getMax(), is(999L));
+    }
+}
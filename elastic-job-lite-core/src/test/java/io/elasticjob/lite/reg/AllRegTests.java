@@ -26,6 +26,7 @@ import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenterMiscellaneousTest
 import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenterModifyTest;
 import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenterQueryWithCacheTest;
 import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenterQueryWithoutCacheTest;
+import io.elasticjob.lite.reg.zookeeper.ZookeeperRegistryCenterWithSharedCacheTest;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.junit.runner.RunWith;
@@ -40,6 +41,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ZookeeperRegistryCenterQueryWithoutCacheTest.class, 
         ZookeeperRegistryCenterModifyTest.class, 
         ZookeeperRegistryCenterMiscellaneousTest.class,
+        ZookeeperRegistryCenterWithSharedCacheTest.class,
         ZookeeperElectionServiceTest.class,
         RegExceptionHandlerTest.class, 
         ZookeeperRegistryCenterInitFailureTest.class
@@ -85,6 +85,25 @@ public final class ZookeeperRegistryCenterModifyTest {
         zkRegCenter.init();
     }
     
+    @Test
+    public void assertPersistWhenExisted() {
+        zkRegCenter.persist("/persist_existed", "before_persist");
+        zkRegCenter.persist("/persist_existed", "after_persist");
+        assertThat(zkRegCenter.getDirectly("/persist_existed"), is("after_persist"));
+    }
+    
+    @Test
+    public void assertPersistEphemeralWhenExisted() throws Exception {
+        zkRegCenter.persist("/ephemeral_existed/child", "child_value");
+        zkRegCenter.persistEphemeral("/ephemeral_existed", "ephemeral_value");
+        CuratorFramework client = (CuratorFramework) zkRegCenter.getRawClient();
+        assertThat(zkRegCenter.getDirectly("/ephemeral_existed"), is("ephemeral_value"));
+        assertFalse(zkRegCenter.isExisted("/ephemeral_existed/child"));
+        assertThat(client.checkExists().forPath("/ephemeral_existed").getEphemeralOwner(), is(client.getZookeeperClient().getZooKeeper().getSessionId()));
+        zkRegCenter.persistEphemeral("/ephemeral_existed", "ephemeral_value_again");
+        assertThat(zkRegCenter.getDirectly("/ephemeral_existed"), is("ephemeral_value_again"));
+        zkRegCenter.remove("/ephemeral_existed");
+    }
     
     @Test
     public void assertPersistSequential() throws Exception {
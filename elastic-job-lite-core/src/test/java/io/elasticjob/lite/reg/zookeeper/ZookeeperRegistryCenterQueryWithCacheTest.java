@@ -19,13 +19,17 @@ package io.elasticjob.lite.reg.zookeeper;
 
 import io.elasticjob.lite.fixture.EmbedTestingServer;
 import io.elasticjob.lite.reg.zookeeper.util.ZookeeperRegistryCenterTestUtil;
+import org.apache.curator.framework.recipes.cache.TreeCacheListener;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public final class ZookeeperRegistryCenterQueryWithCacheTest {
     
@@ -59,4 +63,33 @@ public final class ZookeeperRegistryCenterQueryWithCacheTest {
         assertThat(zkRegCenter.get("/test"), is("test"));
         assertThat(zkRegCenter.get("/test/deep/nested"), is("deepNested"));
     }
+    
+    @Test
+    public void assertGetWithSamePrefixButNotCachedPath() {
+        zkRegCenter.persist("/testNotCached", "testNotCached");
+        assertThat(zkRegCenter.get("/testNotCached"), is("testNotCached"));
+        zkRegCenter.remove("/testNotCached");
+    }
+    
+    @Test
+    public void assertIsExistedInCache() {
+        assertTrue(zkRegCenter.isExistedInCache("/test"));
+        assertTrue(zkRegCenter.isExistedInCache("/test/deep/nested"));
+        assertFalse(zkRegCenter.isExistedInCache("/test/notExisted"));
+    }
+    
+    @Test
+    public void assertIsExistedInCacheWithoutCachedPath() {
+        assertFalse(zkRegCenter.isExistedInCache("/notCached"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertAddRawCacheListenerWithoutCachedPath() {
+        zkRegCenter.addRawCacheListener("/notCached", mock(TreeCacheListener.class));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertAddRawCacheListenerWithIllegalListener() {
+        zkRegCenter.addRawCacheListener("/test", new Object());
+    }
 }
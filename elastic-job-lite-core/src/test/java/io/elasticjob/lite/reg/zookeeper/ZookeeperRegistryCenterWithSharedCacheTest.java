@@ -0,0 +1,119 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.reg.zookeeper;
+
+import io.elasticjob.lite.fixture.EmbedTestingServer;
+import io.elasticjob.lite.reg.zookeeper.util.ZookeeperRegistryCenterTestUtil;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.apache.curator.framework.recipes.cache.TreeCacheListener;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ZookeeperRegistryCenterWithSharedCacheTest {
+    
+    private static final ZookeeperConfiguration ZOOKEEPER_CONFIGURATION = 
+            new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), ZookeeperRegistryCenterWithSharedCacheTest.class.getName());
+    
+    private static ZookeeperRegistryCenter zkRegCenter;
+    
+    @BeforeClass
+    public static void setUp() {
+        EmbedTestingServer.start();
+        ZOOKEEPER_CONFIGURATION.setConnectionTimeoutMilliseconds(30000);
+        ZOOKEEPER_CONFIGURATION.setSharedCacheEnabled(true);
+        zkRegCenter = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIGURATION);
+        zkRegCenter.init();
+        ZookeeperRegistryCenterTestUtil.persist(zkRegCenter);
+        zkRegCenter.persist("/other", "other");
+        zkRegCenter.addCacheData("/test");
+        zkRegCenter.addCacheData("/other");
+    }
+    
+    @AfterClass
+    public static void tearDown() {
+        zkRegCenter.close();
+    }
+    
+    @Test
+    public void assertGetRawCache() {
+        assertThat(zkRegCenter.getRawCache("/test"), instanceOf(TreeCache.class));
+        assertThat(zkRegCenter.getRawCache("/test"), sameInstance(zkRegCenter.getRawCache("/other")));
+    }
+    
+    @Test
+    public void assertGetFromCache() {
+        assertThat(zkRegCenter.get("/test/deep/nested"), is("deepNested"));
+    }
+    
+    @Test
+    public void assertAddRawCacheListener() throws InterruptedException {
+        RecordingTreeCacheListener testListener = new RecordingTreeCacheListener();
+        RecordingTreeCacheListener otherListener = new RecordingTreeCacheListener();
+        zkRegCenter.addRawCacheListener("/test", testListener);
+        zkRegCenter.addRawCacheListener("/other", otherListener);
+        zkRegCenter.persist("/other/listened", "");
+        zkRegCenter.persist("/test/listened", "");
+        assertThat(testListener.pollChangedPath(), is("/test/listened"));
+        assertThat(otherListener.pollChangedPath(), is("/other/listened"));
+        zkRegCenter.remove("/test/listened");
+        zkRegCenter.remove("/other/listened");
+    }
+    
+    @Test
+    public void assertEvictCacheData() throws InterruptedException {
+        zkRegCenter.persist("/evicted", "evicted");
+        zkRegCenter.addCacheData("/evicted");
+        RecordingTreeCacheListener listener = new RecordingTreeCacheListener();
+        zkRegCenter.addRawCacheListener("/evicted", listener);
+        zkRegCenter.evictCacheData("/evicted");
+        assertNull(zkRegCenter.getRawCache("/evicted"));
+        assertThat(zkRegCenter.getRawCache("/test"), instanceOf(TreeCache.class));
+        zkRegCenter.persist("/evicted/listened", "");
+        assertNull(listener.pollChangedPath());
+        zkRegCenter.remove("/evicted");
+    }
+    
+    private static final class RecordingTreeCacheListener implements TreeCacheListener {
+        
+        private final BlockingQueue<String> changedPaths = new LinkedBlockingQueue<>();
+        
+        @Override
+        public void childEvent(final CuratorFramework client, final TreeCacheEvent event) {
+            if (null != event.getData() && event.getData().getPath().endsWith("/listened")) {
+                changedPaths.add(event.getData().getPath());
+            }
+        }
+        
+        String pollChangedPath() throws InterruptedException {
+            return changedPaths.poll(1L, TimeUnit.SECONDS);
+        }
+    }
+}
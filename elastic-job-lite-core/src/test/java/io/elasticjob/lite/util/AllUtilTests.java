@@ -17,6 +17,7 @@
 
 package io.elasticjob.lite.util;
 
+import io.elasticjob.lite.util.concurrent.ChangeSignalTest;
 import io.elasticjob.lite.util.concurrent.ExecutorServiceObjectTest;
 import io.elasticjob.lite.util.config.ShardingItemParametersTest;
 import io.elasticjob.lite.util.config.ShardingItemsTest;
@@ -35,6 +36,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         ExecutorServiceObjectTest.class, 
+        ChangeSignalTest.class, 
         EncryptionTest.class, 
         TimeServiceTest.class, 
         IpUtilsTest.class, 
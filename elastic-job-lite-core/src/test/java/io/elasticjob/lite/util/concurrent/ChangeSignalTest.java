@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2015 dangdang.com.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.elasticjob.lite.util.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ChangeSignalTest {
+    
+    private final ChangeSignal changeSignal = new ChangeSignal();
+    
+    @Test
+    public void assertSignalAll() {
+        assertThat(changeSignal.getVersion(), is(0L));
+        changeSignal.signalAll();
+        assertThat(changeSignal.getVersion(), is(1L));
+    }
+    
+    @Test
+    public void assertAwaitChangeWhenVersionChangedBeforeWaiting() {
+        long version = changeSignal.getVersion();
+        changeSignal.signalAll();
+        long startTime = System.currentTimeMillis();
+        changeSignal.awaitChange(version, 10000L);
+        assertTrue(System.currentTimeMillis() - startTime < 10000L);
+    }
+    
+    @Test
+    public void assertAwaitChangeUntilTimeout() {
+        long startTime = System.currentTimeMillis();
+        changeSignal.awaitChange(changeSignal.getVersion(), 100L);
+        assertTrue(System.currentTimeMillis() - startTime >= 100L);
+    }
+    
+    @Test
+    public void assertAwaitChangeUntilSignaled() throws InterruptedException {
+        final long version = changeSignal.getVersion();
+        final CountDownLatch latch = new CountDownLatch(1);
+        Thread waitingThread = new Thread() {
+            
+            @Override
+            public void run() {
+                changeSignal.awaitChange(version, 10000L);
+                latch.countDown();
+            }
+        };
+        waitingThread.start();
+        changeSignal.signalAll();
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+    }
+}
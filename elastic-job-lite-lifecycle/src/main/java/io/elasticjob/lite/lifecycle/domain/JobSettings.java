@@ -54,6 +54,16 @@ public final class JobSettings implements Serializable {
     
     private boolean streamingProcess;
     
+    private int streamingPrefetchDepth;
+    
+    private int processConcurrency;
+    
+    private int batchSize;
+    
+    private int processTargetMilliseconds;
+    
+    private int maxRecordsPerSecond;
+    
     private int maxTimeDiffSeconds;
     
     private int monitorPort = -1;
@@ -62,6 +72,8 @@ public final class JobSettings implements Serializable {
     
     private boolean misfire;
     
+    private long shardingItemTimeoutMilliseconds;
+    
     private String jobShardingStrategyClass;
     
     private String description;
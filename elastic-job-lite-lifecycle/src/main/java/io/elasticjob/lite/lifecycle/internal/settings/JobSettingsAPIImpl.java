@@ -71,6 +71,7 @@ public final class JobSettingsAPIImpl implements JobSettingsAPI {
         result.setMonitorPort(liteJobConfig.getMonitorPort());
         result.setFailover(liteJobConfig.getTypeConfig().getCoreConfig().isFailover());
         result.setMisfire(liteJobConfig.getTypeConfig().getCoreConfig().isMisfire());
+        result.setShardingItemTimeoutMilliseconds(liteJobConfig.getTypeConfig().getCoreConfig().getShardingItemTimeoutMilliseconds());
         result.setJobShardingStrategyClass(liteJobConfig.getJobShardingStrategyClass());
         result.setDescription(liteJobConfig.getTypeConfig().getCoreConfig().getDescription());
         result.setReconcileIntervalMinutes(liteJobConfig.getReconcileIntervalMinutes());
@@ -82,6 +83,11 @@ public final class JobSettingsAPIImpl implements JobSettingsAPI {
     
     private void buildDataflowJobSettings(final JobSettings result, final DataflowJobConfiguration config) {
         result.setStreamingProcess(config.isStreamingProcess());
+        result.setStreamingPrefetchDepth(config.getStreamingPrefetchDepth());
+        result.setProcessConcurrency(config.getProcessConcurrency());
+        result.setBatchSize(config.getBatchSize());
+        result.setProcessTargetMilliseconds(config.getProcessTargetMilliseconds());
+        result.setMaxRecordsPerSecond(config.getMaxRecordsPerSecond());
     }
     
     private void buildScriptJobSettings(final JobSettings result, final ScriptJobConfiguration config) {
@@ -23,6 +23,7 @@ import io.elasticjob.lite.api.JobScheduler;
 import io.elasticjob.lite.api.listener.ElasticJobListener;
 import io.elasticjob.lite.config.LiteJobConfiguration;
 import io.elasticjob.lite.event.JobEventConfiguration;
+import io.elasticjob.lite.event.JobEventDispatchConfiguration;
 import io.elasticjob.lite.reg.base.CoordinatorRegistryCenter;
 import io.elasticjob.lite.spring.job.util.AopTargetUtils;
 
@@ -47,6 +48,12 @@ public final class SpringJobScheduler extends JobScheduler {
         this.elasticJob = elasticJob;
     }
     
+    public SpringJobScheduler(final ElasticJob elasticJob, final CoordinatorRegistryCenter regCenter, final LiteJobConfiguration jobConfig,
+                              final JobEventConfiguration jobEventConfig, final JobEventDispatchConfiguration jobEventDispatchConfig, final ElasticJobListener... elasticJobListeners) {
+        super(regCenter, jobConfig, jobEventConfig, jobEventDispatchConfig, getTargetElasticJobListeners(elasticJobListeners));
+        this.elasticJob = elasticJob;
+    }
+    
     private static ElasticJobListener[] getTargetElasticJobListeners(final ElasticJobListener[] elasticJobListeners) {
         final ElasticJobListener[] result = new ElasticJobListener[elasticJobListeners.length];
         for (int i = 0; i < elasticJobListeners.length; i++) {
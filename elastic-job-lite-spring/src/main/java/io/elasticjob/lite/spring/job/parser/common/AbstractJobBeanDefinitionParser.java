@@ -20,6 +20,7 @@ package io.elasticjob.lite.spring.job.parser.common;
 import com.google.common.base.Strings;
 import io.elasticjob.lite.config.JobCoreConfiguration;
 import io.elasticjob.lite.config.LiteJobConfiguration;
+import io.elasticjob.lite.event.JobEventDispatchConfiguration;
 import io.elasticjob.lite.event.rdb.JobEventRdbConfiguration;
 import io.elasticjob.lite.executor.handler.JobProperties;
 import io.elasticjob.lite.spring.api.SpringJobScheduler;
@@ -62,6 +63,7 @@ public abstract class AbstractJobBeanDefinitionParser extends AbstractBeanDefini
         BeanDefinition jobEventConfig = createJobEventConfig(element);
         if (null != jobEventConfig) {
             factory.addConstructorArgValue(jobEventConfig);
+            factory.addConstructorArgValue(createJobEventDispatchConfig(element));
         }
         factory.addConstructorArgValue(createJobListeners(element));
         return factory.getBeanDefinition();
@@ -97,6 +99,7 @@ public abstract class AbstractJobBeanDefinitionParser extends AbstractBeanDefini
         jobCoreBeanDefinitionBuilder.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.MISFIRE_ATTRIBUTE));
         jobCoreBeanDefinitionBuilder.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.DESCRIPTION_ATTRIBUTE));
         jobCoreBeanDefinitionBuilder.addConstructorArgValue(createJobPropertiesBeanDefinition(element));
+        jobCoreBeanDefinitionBuilder.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.SHARDING_ITEM_TIMEOUT_MILLISECONDS_ATTRIBUTE));
         return jobCoreBeanDefinitionBuilder.getBeanDefinition();
     }
     
@@ -116,6 +119,18 @@ public abstract class AbstractJobBeanDefinitionParser extends AbstractBeanDefini
         }
         BeanDefinitionBuilder factory = BeanDefinitionBuilder.rootBeanDefinition(JobEventRdbConfiguration.class);
         factory.addConstructorArgReference(eventTraceDataSourceName);
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_RDB_BATCH_SIZE_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_RDB_FLUSH_INTERVAL_MILLISECONDS_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_RDB_QUEUE_CAPACITY_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_RDB_OVERFLOW_POLICY_ATTRIBUTE));
+        return factory.getBeanDefinition();
+    }
+    
+    private BeanDefinition createJobEventDispatchConfig(final Element element) {
+        BeanDefinitionBuilder factory = BeanDefinitionBuilder.rootBeanDefinition(JobEventDispatchConfiguration.class);
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_DISPATCH_CAPACITY_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_DISPATCH_OVERFLOW_POLICY_ATTRIBUTE));
+        factory.addConstructorArgValue(element.getAttribute(BaseJobBeanDefinitionParserTag.EVENT_TRACE_DISPATCH_SAMPLE_RATE_ATTRIBUTE));
         return factory.getBeanDefinition();
     }
     
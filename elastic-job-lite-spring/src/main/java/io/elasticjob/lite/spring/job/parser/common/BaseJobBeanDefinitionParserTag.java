@@ -72,7 +72,23 @@ public final class BaseJobBeanDefinitionParserTag {
     
     public static final String JOB_EXCEPTION_HANDLER_ATTRIBUTE = "job-exception-handler";
     
+    public static final String SHARDING_ITEM_TIMEOUT_MILLISECONDS_ATTRIBUTE = "sharding-item-timeout-milliseconds";
+    
     public static final String EVENT_TRACE_RDB_DATA_SOURCE_ATTRIBUTE = "event-trace-rdb-data-source";
     
+    public static final String EVENT_TRACE_RDB_BATCH_SIZE_ATTRIBUTE = "event-trace-rdb-batch-size";
+    
+    public static final String EVENT_TRACE_RDB_FLUSH_INTERVAL_MILLISECONDS_ATTRIBUTE = "event-trace-rdb-flush-interval-milliseconds";
+    
+    public static final String EVENT_TRACE_RDB_QUEUE_CAPACITY_ATTRIBUTE = "event-trace-rdb-queue-capacity";
+    
+    public static final String EVENT_TRACE_RDB_OVERFLOW_POLICY_ATTRIBUTE = "event-trace-rdb-overflow-policy";
+    
+    public static final String EVENT_TRACE_DISPATCH_CAPACITY_ATTRIBUTE = "event-trace-dispatch-capacity";
+    
+    public static final String EVENT_TRACE_DISPATCH_OVERFLOW_POLICY_ATTRIBUTE = "event-trace-dispatch-overflow-policy";
+    
+    public static final String EVENT_TRACE_DISPATCH_SAMPLE_RATE_ATTRIBUTE = "event-trace-dispatch-sample-rate";
+    
     public static final String RECONCILE_INTERVAL_MINUTES = "reconcile-interval-minutes";
 }
@@ -45,6 +45,11 @@ public final class DataflowJobBeanDefinitionParser extends AbstractJobBeanDefini
             result.addConstructorArgValue(element.getAttribute(CLASS_ATTRIBUTE));
         }
         result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.STREAMING_PROCESS_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.STREAMING_PREFETCH_DEPTH_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.PROCESS_CONCURRENCY_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.BATCH_SIZE_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.PROCESS_TARGET_MILLISECONDS_ATTRIBUTE));
+        result.addConstructorArgValue(element.getAttribute(DataflowJobBeanDefinitionParserTag.MAX_RECORDS_PER_SECOND_ATTRIBUTE));
         return result.getBeanDefinition();
     }
 }
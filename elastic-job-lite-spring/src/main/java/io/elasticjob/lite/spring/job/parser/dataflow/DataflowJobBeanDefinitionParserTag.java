@@ -29,4 +29,14 @@ import lombok.NoArgsConstructor;
 public final class DataflowJobBeanDefinitionParserTag {
     
     public static final String STREAMING_PROCESS_ATTRIBUTE = "streaming-process";
+    
+    public static final String STREAMING_PREFETCH_DEPTH_ATTRIBUTE = "streaming-prefetch-depth";
+    
+    public static final String PROCESS_CONCURRENCY_ATTRIBUTE = "process-concurrency";
+    
+    public static final String BATCH_SIZE_ATTRIBUTE = "batch-size";
+    
+    public static final String PROCESS_TARGET_MILLISECONDS_ATTRIBUTE = "process-target-milliseconds";
+    
+    public static final String MAX_RECORDS_PER_SECOND_ATTRIBUTE = "max-records-per-second";
 }
@@ -51,6 +51,7 @@ public final class ZookeeperBeanDefinitionParser extends AbstractBeanDefinitionP
         addPropertyValueIfNotEmpty("session-timeout-milliseconds", "sessionTimeoutMilliseconds", element, configuration);
         addPropertyValueIfNotEmpty("connection-timeout-milliseconds", "connectionTimeoutMilliseconds", element, configuration);
         addPropertyValueIfNotEmpty("digest", "digest", element, configuration);
+        addPropertyValueIfNotEmpty("shared-cache-enabled", "sharedCacheEnabled", element, configuration);
         return configuration.getBeanDefinition();
     }
     